@@ -45,6 +45,8 @@ public class Configuration {
     private Credentials credentials;
     private Integer connectionLivenessCheckTimeout;
     private Boolean verifyConnection;
+    private Boolean httpRequestCompression;
+    private String httpLoadBalancing;
 
     /**
      * Protected constructor of the Configuration class.
@@ -59,6 +61,8 @@ public class Configuration {
         this.trustCertFile = builder.trustCertFile;
         this.connectionLivenessCheckTimeout = builder.connectionLivenessCheckTimeout;
         this.verifyConnection = builder.verifyConnection != null ? builder.verifyConnection : false;
+        this.httpRequestCompression = builder.httpRequestCompression != null ? builder.httpRequestCompression : false;
+        this.httpLoadBalancing = builder.httpLoadBalancing;
         this.autoIndex = builder.autoIndex != null ? AutoIndexMode.fromString(builder.autoIndex) : AutoIndexMode.NONE;
         this.generatedIndexesOutputDir =
             builder.generatedIndexesOutputDir != null ? builder.generatedIndexesOutputDir : ".";
@@ -144,6 +148,14 @@ public class Configuration {
         return verifyConnection;
     }
 
+    public Boolean getHttpRequestCompression() {
+        return httpRequestCompression;
+    }
+
+    public String getHttpLoadBalancing() {
+        return httpLoadBalancing;
+    }
+
     public String getNeo4jHaPropertiesFile() {
         return neo4jHaPropertiesFile;
     }
@@ -235,12 +247,15 @@ public class Configuration {
         public static Builder copy(Builder builder) {
             return new Builder()
                 .uri(builder.uri)
+                .uris(builder.uris)
                 .connectionPoolSize(builder.connectionPoolSize)
                 .encryptionLevel(builder.encryptionLevel)
                 .trustStrategy(builder.trustStrategy)
                 .trustCertFile(builder.trustCertFile)
                 .connectionLivenessCheckTimeout(builder.connectionLivenessCheckTimeout)
                 .verifyConnection(builder.verifyConnection)
+                .httpRequestCompression(builder.httpRequestCompression)
+                .httpLoadBalancing(builder.httpLoadBalancing)
                 .autoIndex(builder.autoIndex)
                 .generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
                 .generatedIndexesOutputFilename(builder.generatedIndexesOutputFilename)
@@ -258,6 +273,8 @@ public class Configuration {
         private static final String TRUST_CERT_FILE = "trust.certificate.file";
         private static final String CONNECTION_LIVENESS_CHECK_TIMEOUT = "connection.liveness.check.timeout";
         private static final String VERIFY_CONNECTION = "verify.connection";
+        private static final String HTTP_REQUEST_COMPRESSION = "http.request.compression";
+        private static final String HTTP_LOAD_BALANCING = "http.load.balancing";
         private static final String AUTO_INDEX = "indexes.auto";
         private static final String GENERATED_INDEXES_OUTPUT_DIR = "indexes.auto.dump.dir";
         private static final String GENERATED_INDEXES_OUTPUT_FILENAME = "indexes.auto.dump.filename";
@@ -271,6 +288,8 @@ public class Configuration {
         private String trustCertFile;
         private Integer connectionLivenessCheckTimeout;
         private Boolean verifyConnection;
+        private Boolean httpRequestCompression;
+        private String httpLoadBalancing;
         private String autoIndex;
         private String generatedIndexesOutputDir;
         private String generatedIndexesOutputFilename;
@@ -323,6 +342,12 @@ public class Configuration {
                     case VERIFY_CONNECTION:
                         this.verifyConnection = Boolean.valueOf((String) entry.getValue());
                         break;
+                    case HTTP_REQUEST_COMPRESSION:
+                        this.httpRequestCompression = Boolean.valueOf((String) entry.getValue());
+                        break;
+                    case HTTP_LOAD_BALANCING:
+                        this.httpLoadBalancing = (String) entry.getValue();
+                        break;
                     case AUTO_INDEX:
                         this.autoIndex = (String) entry.getValue();
                         break;
@@ -355,8 +380,9 @@ public class Configuration {
         }
 
         /**
-         * Set additional URIS to connect to causal cluster. All URIs must have bolt+routing scheme
-         * (including one specified in uri property)
+         * Set additional URIS to connect to causal cluster. With the bolt driver, all URIs must have bolt+routing
+         * scheme (including one specified in uri property). The http driver sends the writes to the uri property,
+         * the leader, and balances read only transactions and queries across these URIs, the followers.
          *
          * @param uris uris
          */
@@ -417,6 +443,29 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Whether the http driver should compress the statements it sends with gzip.
+         * The database, or a proxy in front of it, must accept gzip encoded request bodies. Responses are compressed
+         * whenever the server supports it, regardless of this setting.
+         *
+         * @param httpRequestCompression if request bodies should be compressed, default is false
+         */
+        public Builder httpRequestCompression(Boolean httpRequestCompression) {
+            this.httpRequestCompression = httpRequestCompression;
+            return this;
+        }
+
+        /**
+         * How the http driver balances read only transactions and queries across the followers set with
+         * {@link #uris(String[])}: "round-robin", the default, or "least-outstanding-requests".
+         *
+         * @param httpLoadBalancing name of the load balancing strategy
+         */
+        public Builder httpLoadBalancing(String httpLoadBalancing) {
+            this.httpLoadBalancing = httpLoadBalancing;
+            return this;
+        }
+
         /**
          * Auto index config, for possible values see {@link org.neo4j.ogm.config.AutoIndexMode}
          *
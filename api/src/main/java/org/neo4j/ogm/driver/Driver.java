@@ -13,8 +13,11 @@
 
 package org.neo4j.ogm.driver;
 
+import java.util.concurrent.CompletionStage;
+
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.transaction.AsyncTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.transaction.TransactionManager;
 
@@ -36,10 +39,37 @@ public interface Driver extends AutoCloseable {
      */
     Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks);
 
+    /**
+     * Begins new transaction whose requests do not block the calling thread. The transaction is independent of the
+     * transactions of the {@link TransactionManager}.
+     *
+     * @param type      type of the transaction, see {@link org.neo4j.ogm.transaction.Transaction.Type}
+     * @param bookmarks bookmarks to pass to the driver when transaction is started
+     * @return stage completed with the new transaction
+     * @throws UnsupportedOperationException if the driver does not support asynchronous requests
+     */
+    default CompletionStage<AsyncTransaction> beginAsyncTransaction(Transaction.Type type,
+        Iterable<String> bookmarks) {
+        throw new UnsupportedOperationException(
+            "Asynchronous transactions are not supported by " + getClass().getSimpleName());
+    }
+
     void close();
 
     Request request();
 
+    /**
+     * Returns the request handler of statements of the given type. Drivers that route read only statements to other
+     * servers than the writes use the type when no transaction is open; the statements of a transaction are always
+     * executed by the server of the transaction.
+     *
+     * @param type type of the statements, see {@link org.neo4j.ogm.transaction.Transaction.Type}
+     * @return the request handler
+     */
+    default Request request(Transaction.Type type) {
+        return request();
+    }
+
     void setTransactionManager(TransactionManager tx);
 
     Configuration getConfiguration();
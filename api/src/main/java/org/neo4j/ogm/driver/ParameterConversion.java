@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converts the parameters of statements into values the Bolt and embedded drivers accept, in a single pass over the
+ * parameters.
+ * <p>
+ * The converted values are the ones the drivers used to get by converting the parameters with Jackson: integral
+ * numbers become longs, floating point numbers doubles, arrays and collections lists, maps have string keys, enums
+ * are replaced by their names and dates by their timestamps. Byte arrays are passed as they are. Values of other
+ * types, such as beans, are still converted with Jackson.
+ * <p>
+ * Unlike Jackson, the conversion reuses the maps and lists whose content does not need to be converted, so
+ * parameters made of strings, longs, doubles and booleans, such as the rows of the UNWIND statements of saves, are
+ * passed to the driver without being copied.
+ */
+public final class ParameterConversion {
+
+    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+
+    private ParameterConversion() {
+    }
+
+    /**
+     * @param parameters parameters of a statement
+     * @return the converted parameters, which are the given map if none of its values needs to be converted
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> convertParameters(Map<String, ?> parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        Object converted = convertMap(parameters);
+        return converted == parameters ? (Map<String, Object>) parameters : (Map<String, Object>) converted;
+    }
+
+    /**
+     * @param value a parameter value
+     * @return the converted value, which is the given value if it does not need to be converted
+     */
+    public static Object convertValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Long || value instanceof Double
+            || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Map) {
+            return convertMap((Map<?, ?>) value);
+        }
+        if (value instanceof List) {
+            return convertList((List<?>) value);
+        }
+        if (value instanceof Collection) {
+            return convertIterator(((Collection<?>) value).iterator(), ((Collection<?>) value).size());
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float || value instanceof BigDecimal) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            return bigInteger.bitLength() < Long.SIZE ? (Object) bigInteger.longValue() : bigInteger;
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof Calendar) {
+            return ((Calendar) value).getTimeInMillis();
+        }
+        if (value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof char[]) {
+            return new String((char[]) value);
+        }
+        if (value.getClass().isArray()) {
+            return convertArray(value);
+        }
+        return mapper.convertValue(value, Object.class);
+    }
+
+    private static Object convertMap(Map<?, ?> map) {
+        Map<String, Object> converted = null;
+        int index = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            Object convertedValue = convertValue(value);
+            if (converted == null && (convertedValue != value || !(key instanceof String))) {
+                // copy the entries seen so far, which did not need to be converted
+                converted = map instanceof HashMap && !(map instanceof LinkedHashMap)
+                    ? new HashMap<>(capacity(map.size())) : new LinkedHashMap<>(capacity(map.size()));
+                Iterator<? extends Map.Entry<?, ?>> previous = map.entrySet().iterator();
+                for (int i = 0; i < index; i++) {
+                    Map.Entry<?, ?> previousEntry = previous.next();
+                    converted.put((String) previousEntry.getKey(), previousEntry.getValue());
+                }
+            }
+            if (converted != null) {
+                converted.put(convertKey(key), convertedValue);
+            }
+            index++;
+        }
+        return converted == null ? map : converted;
+    }
+
+    private static Object convertList(List<?> list) {
+        List<Object> converted = null;
+        int index = 0;
+        for (Object element : list) {
+            Object convertedElement = convertValue(element);
+            if (converted == null && convertedElement != element) {
+                converted = new ArrayList<>(list.size());
+                converted.addAll(list.subList(0, index));
+            }
+            if (converted != null) {
+                converted.add(convertedElement);
+            }
+            index++;
+        }
+        return converted == null ? list : converted;
+    }
+
+    private static List<Object> convertIterator(Iterator<?> iterator, int size) {
+        List<Object> converted = new ArrayList<>(size);
+        while (iterator.hasNext()) {
+            converted.add(convertValue(iterator.next()));
+        }
+        return converted;
+    }
+
+    private static List<Object> convertArray(Object array) {
+        int length = Array.getLength(array);
+        List<Object> converted = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            converted.add(convertValue(Array.get(array, i)));
+        }
+        return converted;
+    }
+
+    private static String convertKey(Object key) {
+        if (key instanceof String) {
+            return (String) key;
+        }
+        if (key instanceof Enum) {
+            return ((Enum<?>) key).name();
+        }
+        return String.valueOf(key);
+    }
+
+    private static int capacity(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+}
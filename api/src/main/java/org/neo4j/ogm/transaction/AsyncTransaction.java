@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.transaction;
+
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Transaction whose requests are executed without blocking the calling thread, as returned by
+ * {@link org.neo4j.ogm.driver.Driver#beginAsyncTransaction(Transaction.Type, Iterable)}.
+ * <p>
+ * The returned stages complete once the whole result of a request has been received, the responses are buffered
+ * and may be read from any thread. Requests of a transaction must be executed one after the other: a request may
+ * only be executed once the stage of the previous one has completed.
+ */
+public interface AsyncTransaction {
+
+    CompletionStage<Response<GraphModel>> execute(GraphModelRequest request);
+
+    CompletionStage<Response<RowModel>> execute(RowModelRequest request);
+
+    CompletionStage<Response<RowModel>> execute(DefaultRequest request);
+
+    CompletionStage<Response<GraphRowListModel>> execute(GraphRowListModelRequest request);
+
+    CompletionStage<Response<RestModel>> execute(RestModelRequest request);
+
+    /**
+     * Commits the transaction and releases its resources.
+     *
+     * @return stage completed once the transaction is committed
+     */
+    CompletionStage<Void> commit();
+
+    /**
+     * Rolls back the transaction and releases its resources.
+     *
+     * @return stage completed once the transaction is rolled back
+     */
+    CompletionStage<Void> rollback();
+
+    /**
+     * @return type of the transaction - READ_ONLY / READ_WRITE
+     */
+    Transaction.Type type();
+
+    /**
+     * @return bookmark of the last committed transaction, null if there is none
+     */
+    String lastBookmark();
+}
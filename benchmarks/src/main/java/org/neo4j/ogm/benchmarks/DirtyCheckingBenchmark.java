@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.utils.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dirty checking of the entities registered in a mapping context, as done for every save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DirtyCheckingBenchmark {
+
+    @Param({ "100", "10000" })
+    private int persons;
+
+    private MappingContext mappingContext;
+    private List<Person> entities;
+
+    @Setup
+    public void setUp() {
+        MetaData metaData = new MetaData(Graphs.DOMAIN);
+        mappingContext = new MappingContext(metaData);
+        entities = Graphs.persons(persons);
+        long id = 0;
+        for (Person person : entities) {
+            EntityUtils.setIdentity(person, id++, metaData);
+            mappingContext.addNodeEntity(person);
+        }
+        // every other entity is dirty
+        for (int i = 0; i < entities.size(); i += 2) {
+            entities.get(i).setAge(-1);
+        }
+    }
+
+    @Benchmark
+    public int isDirty() {
+        int dirty = 0;
+        for (Person person : entities) {
+            if (mappingContext.isDirty(person)) {
+                dirty++;
+            }
+        }
+        return dirty;
+    }
+}
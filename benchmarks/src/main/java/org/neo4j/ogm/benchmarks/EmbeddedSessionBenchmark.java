@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loads and saves through a session, against an embedded database stored in a temporary directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EmbeddedSessionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({ "1000" })
+        int persons;
+
+        SessionFactory sessionFactory;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            EmbeddedDriver driver = new EmbeddedDriver();
+            driver.configure(new Configuration.Builder().build());
+            sessionFactory = new SessionFactory(driver, Graphs.DOMAIN);
+            populate();
+        }
+
+        void populate() {
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            sessionFactory.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LoadedDatabase extends Database {
+
+        @Override
+        void populate() {
+            sessionFactory.openSession().save(Graphs.persons(persons));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmptyDatabase extends Database {
+
+        // saving takes milliseconds, so purging after each invocation does not skew the measurement
+        @TearDown(Level.Invocation)
+        public void purge() {
+            sessionFactory.openSession().purgeDatabase();
+        }
+    }
+
+    @Benchmark
+    public Collection<Person> loadAll(LoadedDatabase database) {
+        Session session = database.sessionFactory.openSession();
+        return session.loadAll(Person.class, 1);
+    }
+
+    @Benchmark
+    public Session saveAll(EmptyDatabase database) {
+        List<Person> entities = Graphs.persons(database.persons);
+        Session session = database.sessionFactory.openSession();
+        session.save(entities);
+        return session;
+    }
+}
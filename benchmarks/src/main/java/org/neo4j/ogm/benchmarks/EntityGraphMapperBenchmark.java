@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping of new entities to a compile context and generation of the Cypher statements saving them, as done for every
+ * save, without executing the statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EntityGraphMapperBenchmark {
+
+    @Param({ "100", "10000" })
+    private int persons;
+
+    private MetaData metaData;
+    private List<Person> entities;
+
+    @Setup
+    public void setUp() {
+        metaData = new MetaData(Graphs.DOMAIN);
+        entities = Graphs.persons(persons);
+    }
+
+    @Benchmark
+    public CompileContext map() {
+        EntityGraphMapper mapper = new EntityGraphMapper(metaData, new MappingContext(metaData));
+        for (Person person : entities) {
+            mapper.map(person, 1);
+        }
+        return mapper.compileContext();
+    }
+
+    @Benchmark
+    public List<Statement> mapAndCompile() {
+        Compiler compiler = map().getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        return compiler.getAllStatements();
+    }
+}
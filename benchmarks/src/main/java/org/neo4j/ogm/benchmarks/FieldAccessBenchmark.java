@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads and writes of entity fields through {@link FieldInfo}, compared to plain reflection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FieldAccessBenchmark {
+
+    private FieldInfo name;
+    private Field nameField;
+    private Person person;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        MetaData metaData = new MetaData(Graphs.DOMAIN);
+        name = metaData.classInfo(Person.class.getName()).getFieldInfo("name");
+        nameField = Person.class.getDeclaredField("name");
+        nameField.setAccessible(true);
+        person = new Person("Person", "person@example.com", 42);
+    }
+
+    @Benchmark
+    public Object readFieldInfo() {
+        return name.read(person);
+    }
+
+    @Benchmark
+    public Object readReflection() throws IllegalAccessException {
+        return nameField.get(person);
+    }
+
+    @Benchmark
+    public Person writeFieldInfo() {
+        name.write(person, "Person");
+        return person;
+    }
+
+    @Benchmark
+    public Person writeReflection() throws IllegalAccessException {
+        nameField.set(person, "Person");
+        return person;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.benchmarks.domain.Company;
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * Builds the graphs and object graphs used by the benchmarks: persons working at one of a few companies, each knowing
+ * the next person.
+ */
+final class Graphs {
+
+    static final String DOMAIN = "org.neo4j.ogm.benchmarks.domain";
+
+    static final int COMPANIES = 10;
+
+    private Graphs() {
+    }
+
+    /**
+     * @param persons number of persons
+     * @return graph model as returned by a driver, persons have ids 0 to persons - 1, companies the following ids
+     */
+    static DefaultGraphModel graphModel(int persons) {
+        NodeModel[] nodes = new NodeModel[persons + COMPANIES];
+        List<RelationshipModel> relationships = new ArrayList<>();
+
+        for (int i = 0; i < COMPANIES; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("name", "Company " + i);
+            nodes[persons + i] = node((long) persons + i, "Company", properties);
+        }
+        for (int i = 0; i < persons; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("name", "Person " + i);
+            properties.put("email", "person" + i + "@example.com");
+            properties.put("age", 20 + i % 50);
+            nodes[i] = node((long) i, "Person", properties);
+
+            relationships.add(relationship(relationships.size(), "WORKS_AT", i, persons + i % COMPANIES));
+            if (i + 1 < persons) {
+                relationships.add(relationship(relationships.size(), "KNOWS", i, i + 1));
+            }
+        }
+
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        graphModel.setNodes(nodes);
+        graphModel.setRelationships(relationships.toArray(new RelationshipModel[0]));
+        return graphModel;
+    }
+
+    /**
+     * @param persons number of persons
+     * @return new persons, without ids
+     */
+    static List<Person> persons(int persons) {
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < COMPANIES; i++) {
+            companies.add(new Company("Company " + i));
+        }
+
+        List<Person> result = new ArrayList<>(persons);
+        for (int i = 0; i < persons; i++) {
+            Person person = new Person("Person " + i, "person" + i + "@example.com", 20 + i % 50);
+            person.setEmployer(companies.get(i % COMPANIES));
+            if (i > 0) {
+                result.get(i - 1).getFriends().add(person);
+            }
+            result.add(person);
+        }
+        return result;
+    }
+
+    private static NodeModel node(long id, String label, Map<String, Object> properties) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[] { label });
+        node.setProperties(properties);
+        return node;
+    }
+
+    private static RelationshipModel relationship(long id, String type, long start, long end) {
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(id);
+        relationship.setType(type);
+        relationship.setStartNode(start);
+        relationship.setEndNode(end);
+        return relationship;
+    }
+}
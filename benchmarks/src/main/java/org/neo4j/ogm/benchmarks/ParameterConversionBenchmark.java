@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Conversion of the parameters of an UNWIND statement creating nodes, as built for a save, into driver values:
+ * {@link ParameterConversion} compared to the Jackson round-trip the drivers used to do.
+ * <p>
+ * Rows either hold only values the drivers accept as they are, or also an int property, which must be converted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParameterConversionBenchmark {
+
+    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+    private static final TypeReference<HashMap<String, Object>> MAP_TYPE_REF =
+        new TypeReference<HashMap<String, Object>>() {
+        };
+
+    @Param({ "10", "1000" })
+    private int rows;
+
+    @Param({ "true", "false" })
+    private boolean intProperties;
+
+    private Map<String, Object> parameters;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> rowList = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> props = new HashMap<>();
+            props.put("name", "Person " + i);
+            props.put("email", "person" + i + "@example.com");
+            props.put("age", intProperties ? (Object) (20 + i % 50) : (Object) (long) (20 + i % 50));
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", (long) -i);
+            row.put("type", "node");
+            row.put("props", props);
+            rowList.add(row);
+        }
+        parameters = new HashMap<>();
+        parameters.put("rows", rowList);
+    }
+
+    @Benchmark
+    public Map<String, Object> jackson() {
+        return mapper.convertValue(parameters, MAP_TYPE_REF);
+    }
+
+    @Benchmark
+    public Map<String, Object> parameterConversion() {
+        return ParameterConversion.convertParameters(parameters);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Product;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.utils.ClassUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes of the properties of a node, as read from a driver, to an entity: {@link FieldInfo#writeProperty} compared
+ * to looking up the element type, merging collections and coercing values for each property.
+ * <p>
+ * Nodes either hold only scalar properties, numbers needing a coercion to the field type, or also collections of
+ * strings and numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertyWriteBenchmark {
+
+    @Param({ "scalars", "collections" })
+    private String shape;
+
+    private FieldInfo[] fields;
+    private Object[] values;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("name", "Product");
+        properties.put("stock", 42L);
+        properties.put("price", 9.99d);
+        if (shape.equals("collections")) {
+            properties.put("tags", Arrays.asList("new", "sale", "outdoor"));
+            properties.put("sizes", Arrays.asList(38L, 40L, 42L, 44L));
+            properties.put("codes", new String[] { "A-1", "B-2" });
+        }
+
+        ClassInfo classInfo = new MetaData(Graphs.DOMAIN).classInfo(Product.class.getName());
+        fields = new FieldInfo[properties.size()];
+        values = new Object[properties.size()];
+        int i = 0;
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            fields[i] = classInfo.getFieldInfo(property.getKey());
+            values[i++] = property.getValue();
+        }
+        product = new Product();
+    }
+
+    @Benchmark
+    public Product writeProperty() {
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].writeProperty(product, values[i]);
+        }
+        return product;
+    }
+
+    @Benchmark
+    public Product mergeAndCoerce() {
+        for (int i = 0; i < fields.length; i++) {
+            FieldInfo field = fields[i];
+            Class<?> type = field.type();
+            Class<?> elementType = ClassUtils.getType(field.getTypeDescriptor());
+            Object value = values[i];
+            if (type.isArray() || Iterable.class.isAssignableFrom(type)) {
+                value = EntityAccessManager.merge(type, value, Collections.emptyList(), elementType);
+            } else {
+                value = Utils.coerceTypes(elementType, value);
+            }
+            field.writeDirect(product, value);
+        }
+        return product;
+    }
+}
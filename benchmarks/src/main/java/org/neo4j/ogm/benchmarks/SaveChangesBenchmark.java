@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.domain.Person;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping of a single changed property of a loaded object graph, found by checking the entities of the mapping
+ * context as done by {@code Session.saveChanges()}, or by walking the object graph from its root as done by
+ * {@code Session.save(root)}, without executing the statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+// saving from the root recurses along the chain of persons
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class SaveChangesBenchmark {
+
+    @Param({ "100", "10000" })
+    private int persons;
+
+    private MetaData metaData;
+    private MappingContext mappingContext;
+    private Person root;
+
+    @Setup
+    public void setUp() {
+        metaData = new MetaData(Graphs.DOMAIN);
+        mappingContext = new MappingContext(metaData);
+        List<Person> loaded = new GraphEntityMapper(metaData, mappingContext)
+            .map(Person.class, Graphs.graphModel(persons), new HashSet<>(), new HashSet<>());
+        for (Person person : loaded) {
+            if (person.getId() == 0L) {
+                root = person;
+            } else if (person.getId() == persons - 1) {
+                person.setAge(-1);
+            }
+        }
+    }
+
+    @Benchmark
+    public CompileContext saveChanges() {
+        EntityGraphMapper mapper = new EntityGraphMapper(metaData, mappingContext);
+        return mapper.mapChanges(mapper.changedEntities());
+    }
+
+    @Benchmark
+    public CompileContext saveFromRoot() {
+        return new EntityGraphMapper(metaData, mappingContext).map(root, -1);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks.domain;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.Relationship;
+
+@NodeEntity
+public class Person {
+
+    private Long id;
+    private String name;
+    private String email;
+    private int age;
+
+    @Relationship(type = "WORKS_AT")
+    private Company employer;
+
+    @Relationship(type = "KNOWS")
+    private Set<Person> friends = new HashSet<>();
+
+    public Person() {
+    }
+
+    public Person(String name, String email, int age) {
+        this.name = name;
+        this.email = email;
+        this.age = age;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public Company getEmployer() {
+        return employer;
+    }
+
+    public void setEmployer(Company employer) {
+        this.employer = employer;
+    }
+
+    public Set<Person> getFriends() {
+        return friends;
+    }
+}
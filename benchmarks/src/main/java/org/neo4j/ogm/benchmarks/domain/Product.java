@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmarks.domain;
+
+import java.util.List;
+import java.util.Set;
+
+import org.neo4j.ogm.annotation.NodeEntity;
+
+@NodeEntity
+public class Product {
+
+    private Long id;
+    private String name;
+    private int stock;
+    private float price;
+    private List<String> tags;
+    private Set<Integer> sizes;
+    private String[] codes;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStock() {
+        return stock;
+    }
+
+    public float getPrice() {
+        return price;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public Set<Integer> getSizes() {
+        return sizes;
+    }
+
+    public String[] getCodes() {
+        return codes;
+    }
+}
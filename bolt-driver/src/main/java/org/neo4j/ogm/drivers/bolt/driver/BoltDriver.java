@@ -19,6 +19,8 @@ import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.neo4j.driver.v1.AccessMode;
@@ -35,9 +37,11 @@ import org.neo4j.ogm.config.Credentials;
 import org.neo4j.ogm.config.UsernamePasswordCredentials;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
 import org.neo4j.ogm.drivers.bolt.request.BoltRequest;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltAsyncTransaction;
 import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.transaction.AsyncTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,6 +98,20 @@ public class BoltDriver extends AbstractConfigurableDriver {
         return new BoltTransaction(transactionManager, nativeTransaction(session), session, type);
     }
 
+    @Override
+    public CompletionStage<AsyncTransaction> beginAsyncTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+        checkDriverInitialized();
+        Session session = newSession(type, bookmarks);
+        return session.beginTransactionAsync()
+            .<AsyncTransaction>thenApply(nativeTransaction -> new BoltAsyncTransaction(session, nativeTransaction, type))
+            .exceptionally(error -> {
+                session.closeAsync();
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                throw new CompletionException(
+                    new ConnectionException("Error connecting to graph database using Bolt", cause));
+            });
+    }
+
     private void checkDriverInitialized() {
         Driver driver = boltDriver;
         if (driver == null) {
@@ -14,13 +14,12 @@
 package org.neo4j.ogm.drivers.bolt.request;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.exceptions.ClientException;
-import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.ParameterConversion;
 import org.neo4j.ogm.drivers.bolt.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.GraphRowModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RestModelResponse;
@@ -45,9 +44,6 @@ import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 /**
  * @author vince
  * @author Luanne Misquitta
@@ -56,13 +52,8 @@ public class BoltRequest implements Request {
 
     private final TransactionManager transactionManager;
 
-    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-
     private final Logger LOGGER = LoggerFactory.getLogger(BoltRequest.class);
 
-    private TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
-    };
-
     public BoltRequest(TransactionManager transactionManager) {
         this.transactionManager = transactionManager;
     }
@@ -145,7 +136,7 @@ public class BoltRequest implements Request {
         BoltTransaction tx;
         try {
 
-            Map<String, Object> parameterMap = mapper.convertValue(request.getParameters(), MAP_TYPE_REF);
+            Map<String, Object> parameterMap = ParameterConversion.convertParameters(request.getParameters());
             LOGGER.info("Request: {} with params {}", request.getStatement(), parameterMap);
 
             if (transactionManager.getCurrentTransaction() == null) {
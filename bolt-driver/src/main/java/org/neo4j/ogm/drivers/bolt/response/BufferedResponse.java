@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultRestModel;
+import org.neo4j.ogm.response.model.QueryStatisticsModel;
+
+/**
+ * Response over models adapted from the records of a result that has been received completely, as returned by
+ * asynchronous requests. Unlike {@link BoltResponse}, it holds no driver resources and may be read from any thread.
+ */
+public class BufferedResponse<T> implements Response<T> {
+
+    private final Iterator<T> models;
+    private final String[] columns;
+
+    public BufferedResponse(List<T> models, String[] columns) {
+        this.models = models.iterator();
+        this.columns = columns;
+    }
+
+    public static Response<GraphModel> graphModel(List<String> keys, List<Record> records) {
+        BoltGraphModelAdapter adapter = new BoltGraphModelAdapter();
+        List<GraphModel> models = new ArrayList<>(records.size());
+        for (Record record : records) {
+            models.add(adapter.adapt(record.asMap()));
+        }
+        return new BufferedResponse<>(models, columns(keys));
+    }
+
+    public static Response<RowModel> rowModel(List<String> keys, List<Record> records) {
+        BoltRowModelAdapter adapter = new BoltRowModelAdapter();
+        adapter.setColumns(keys);
+        List<RowModel> models = new ArrayList<>(records.size());
+        for (Record record : records) {
+            models.add(adapter.adapt(record.asMap()));
+        }
+        return new BufferedResponse<>(models, columns(keys));
+    }
+
+    public static Response<GraphRowListModel> graphRowModel(List<String> keys, List<Record> records) {
+        BoltGraphRowModelAdapter adapter = new BoltGraphRowModelAdapter(new BoltGraphModelAdapter());
+        adapter.setColumns(keys);
+        List<GraphRowListModel> models = new ArrayList<>(records.size());
+        for (Record record : records) {
+            // one record per model, as GraphRowModelResponse does
+            DefaultGraphRowListModel model = new DefaultGraphRowListModel();
+            model.add(adapter.adapt(record.asMap()));
+            models.add(model);
+        }
+        return new BufferedResponse<>(models, columns(keys));
+    }
+
+    public static Response<RestModel> restModel(List<String> keys, List<Record> records, ResultSummary summary) {
+        BoltRestModelAdapter adapter = new BoltRestModelAdapter();
+        QueryStatisticsModel statisticsModel = new StatisticsModelAdapter().adapt(summary.counters());
+        List<RestModel> models = new ArrayList<>(records.size() + 1);
+        for (Record record : records) {
+            DefaultRestModel model = new DefaultRestModel(adapter.adapt(record.asMap()));
+            model.setStats(statisticsModel);
+            models.add(model);
+        }
+        // the rest model mapper reads rows until it gets an empty one, like RestModelResponse returns at the end
+        DefaultRestModel end = new DefaultRestModel(Collections.emptyMap());
+        end.setStats(statisticsModel);
+        models.add(end);
+        return new BufferedResponse<>(models, columns(keys));
+    }
+
+    @Override
+    public T next() {
+        return models.hasNext() ? models.next() : null;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String[] columns() {
+        return columns;
+    }
+
+    private static String[] columns(List<String> keys) {
+        return keys.toArray(new String[keys.size()]);
+    }
+}
@@ -34,13 +34,10 @@ public class GraphRowModelResponse extends BoltResponse<GraphRowListModel> {
 
     @Override
     public GraphRowListModel fetchNext() {
+        // one record at a time, so that the response can be consumed lazily
         if (result.hasNext()) {
             DefaultGraphRowListModel model = new DefaultGraphRowListModel();
             model.add(adapter.adapt(result.next().asMap()));
-
-            while (result.hasNext()) {
-                model.add(adapter.adapt(result.next().asMap()));
-            }
             return model;
         }
         return null;
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.transaction;
+
+import static java.util.concurrent.CompletableFuture.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.StatementResultCursor;
+import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.drivers.bolt.response.BufferedResponse;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.exception.TransactionException;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.EmptyResponse;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.AsyncTransaction;
+import org.neo4j.ogm.transaction.Transaction.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous transaction backed by the async API of the Bolt driver. The records of each request are received by
+ * the driver's event loop and buffered, so that no thread waits for the database.
+ */
+public class BoltAsyncTransaction implements AsyncTransaction {
+
+    private static final String NEO_CLIENT_ERROR_SECURITY = "Neo.ClientError.Security";
+
+    private final Logger LOGGER = LoggerFactory.getLogger(BoltAsyncTransaction.class);
+
+    private final Session nativeSession;
+    private final Transaction nativeTransaction;
+    private final Type type;
+
+    public BoltAsyncTransaction(Session session, Transaction transaction, Type type) {
+        this.nativeSession = session;
+        this.nativeTransaction = transaction;
+        this.type = type;
+    }
+
+    @Override
+    public CompletionStage<Response<GraphModel>> execute(GraphModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return emptyResponse();
+        }
+        return run(request).thenApply(result -> BufferedResponse.graphModel(result.keys, result.records));
+    }
+
+    @Override
+    public CompletionStage<Response<RowModel>> execute(RowModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return emptyResponse();
+        }
+        return run(request).thenApply(result -> BufferedResponse.rowModel(result.keys, result.records));
+    }
+
+    @Override
+    public CompletionStage<Response<RowModel>> execute(DefaultRequest request) {
+        // the statements are run one after the other, their rows are returned in a single response
+        List<RowModel> rowModels = new ArrayList<>();
+        CompletionStage<String[]> columns = completedFuture(null);
+        for (Statement statement : request.getStatements()) {
+            columns = columns.thenCompose(previous -> run(statement).thenApply(result -> {
+                Response<RowModel> response = BufferedResponse.rowModel(result.keys, result.records);
+                RowModel model;
+                while ((model = response.next()) != null) {
+                    rowModels.add(model);
+                }
+                return previous == null ? response.columns() : previous;
+            }));
+        }
+        return columns.thenApply(finalColumns -> new BufferedResponse<>(rowModels, finalColumns));
+    }
+
+    @Override
+    public CompletionStage<Response<GraphRowListModel>> execute(GraphRowListModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return emptyResponse();
+        }
+        return run(request).thenApply(result -> BufferedResponse.graphRowModel(result.keys, result.records));
+    }
+
+    @Override
+    public CompletionStage<Response<RestModel>> execute(RestModelRequest request) {
+        if (request.getStatement().length() == 0) {
+            return emptyResponse();
+        }
+        return run(request)
+            .thenApply(result -> BufferedResponse.restModel(result.keys, result.records, result.summary));
+    }
+
+    @Override
+    public CompletionStage<Void> commit() {
+        LOGGER.debug("Committing native transaction: {}", nativeTransaction);
+        return closeSession(nativeTransaction.commitAsync());
+    }
+
+    @Override
+    public CompletionStage<Void> rollback() {
+        LOGGER.debug("Rolling back native transaction: {}", nativeTransaction);
+        return closeSession(nativeTransaction.rollbackAsync());
+    }
+
+    @Override
+    public Type type() {
+        return type;
+    }
+
+    @Override
+    public String lastBookmark() {
+        return nativeSession.lastBookmark();
+    }
+
+    private CompletionStage<Result> run(Statement request) {
+        Map<String, Object> parameterMap = ParameterConversion.convertParameters(request.getParameters());
+        LOGGER.info("Request: {} with params {}", request.getStatement(), parameterMap);
+
+        return nativeTransaction.runAsync(request.getStatement(), parameterMap)
+            .thenCompose(this::receive)
+            .exceptionally(error -> {
+                throw translate(error);
+            });
+    }
+
+    private CompletionStage<Result> receive(StatementResultCursor cursor) {
+        List<Record> records = new ArrayList<>();
+        return cursor.forEachAsync(records::add)
+            .thenApply(summary -> new Result(cursor.keys(), records, summary));
+    }
+
+    private CompletionStage<Void> closeSession(CompletionStage<Void> completion) {
+        // the session is closed whether the transaction could be completed or not
+        return completion
+            .handle((ignored, error) -> error)
+            .thenCompose(error -> nativeSession.closeAsync().thenApply(ignored -> {
+                if (error != null) {
+                    throw translate(error);
+                }
+                return null;
+            }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletionStage<Response<T>> emptyResponse() {
+        return completedFuture((Response<T>) new EmptyResponse());
+    }
+
+    private static CompletionException translate(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        RuntimeException translated;
+        if (cause instanceof CypherException || cause instanceof ConnectionException
+            || cause instanceof TransactionException) {
+            translated = (RuntimeException) cause;
+        } else if (cause instanceof ClientException) {
+            ClientException ce = (ClientException) cause;
+            if (ce.code().startsWith(NEO_CLIENT_ERROR_SECURITY)) {
+                translated = new ConnectionException("Security Error: " + ce.code() + ", " + ce.getMessage(), ce);
+            } else {
+                translated = new CypherException("Error executing Cypher", ce, ce.code(), ce.getMessage());
+            }
+        } else if (cause instanceof ServiceUnavailableException) {
+            translated = new ConnectionException("Error connecting to graph database using Bolt", cause);
+        } else {
+            translated = new TransactionException(cause.getLocalizedMessage(), cause);
+        }
+        return new CompletionException(translated);
+    }
+
+    private static class Result {
+
+        private final List<String> keys;
+        private final List<Record> records;
+        private final ResultSummary summary;
+
+        Result(List<String> keys, List<Record> records, ResultSummary summary) {
+            this.keys = keys;
+            this.records = records;
+            this.summary = summary;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a node or relationship entity class whose instances, loaded by id, may be kept in the entity cache shared by
+ * the sessions of a {@link org.neo4j.ogm.session.SessionFactory}. Meant for reference data read far more often than
+ * it is written, such as countries or categories.
+ * <p>
+ * A load is cached only when all the entities it returns are of cacheable classes, so that saving or deleting any of
+ * them through a session evicts it. Changes made by cypher queries or by other applications are not seen until the
+ * cached loads expire.
+ *
+ * @see org.neo4j.ogm.cache.EntityCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface Cacheable {
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.neo4j.ogm.model.GraphModel;
+
+/**
+ * Cache of the graphs returned by loads by id of {@link org.neo4j.ogm.annotation.Cacheable} entities, shared by the
+ * sessions of a session factory.
+ * <p>
+ * The cache holds the graphs received from the database, not entities: each session maps them into its own mapping
+ * context, so that sessions never share entity instances. Loads are keyed by class, id (the primary id when the class
+ * has one, the native id otherwise) and depth. The least recently used loads are evicted beyond {@code maxSize}
+ * loads, and loads expire {@code timeToLive} after they have been cached.
+ * <p>
+ * Sessions evict the loads containing the nodes and relationship entities they save or delete, both when the
+ * changes are sent and when their transaction completes. A load that was running while loads were evicted is not
+ * cached, since it may have read the state before the change.
+ * <p>
+ * The cache is thread safe.
+ */
+public class EntityCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    public static final long DEFAULT_TIME_TO_LIVE_MINUTES = 10;
+
+    private final int maxSize;
+    private final long timeToLiveNanos;
+
+    // guarded by this
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<Key>> keysByNode = new HashMap<>();
+    private final Map<Long, Set<Key>> keysByRelationshipEntity = new HashMap<>();
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public EntityCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * @param maxSize    maximum number of cached loads
+     * @param timeToLive time after which a cached load expires
+     * @param unit       unit of the time to live
+     */
+    public EntityCache(int maxSize, long timeToLive, TimeUnit unit) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maxSize);
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("Time to live must be positive: " + timeToLive);
+        }
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+    }
+
+    /**
+     * @param className name of the class of the loaded entity
+     * @param id        id of the loaded entity
+     * @param depth     depth of the load
+     * @return graphs of the load, or null if the load is not cached or has expired
+     */
+    public synchronized List<GraphModel> get(String className, Object id, int depth) {
+        Key key = new Key(className, id, depth);
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.cachedAt > timeToLiveNanos) {
+            remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.graphs;
+    }
+
+    /**
+     * @return the number of evictions so far, to be passed to {@link #put} by loads reading from the database
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches a load, unless loads have been evicted since it started.
+     *
+     * @param className             name of the class of the loaded entity
+     * @param id                    id of the loaded entity
+     * @param depth                 depth of the load
+     * @param graphs                graphs returned by the load
+     * @param nodeIds               ids of the nodes of the graphs
+     * @param relationshipEntityIds ids of the relationship entities of the graphs
+     * @param generation            {@link #generation()} before the load was sent to the database
+     */
+    public synchronized void put(String className, Object id, int depth, List<GraphModel> graphs,
+        Collection<Long> nodeIds, Collection<Long> relationshipEntityIds, long generation) {
+        if (generation != this.generation) {
+            return;
+        }
+        Key key = new Key(className, id, depth);
+        remove(key);
+        entries.put(key, new Entry(graphs, nodeIds, relationshipEntityIds, System.nanoTime()));
+        index(keysByNode, nodeIds, key);
+        index(keysByRelationshipEntity, relationshipEntityIds, key);
+
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize) {
+            Map.Entry<Key, Entry> evicted = eldest.next();
+            eldest.remove();
+            unindex(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    /**
+     * Evicts the loads containing any of the given nodes or relationship entities.
+     *
+     * @param nodeIds               native ids of nodes
+     * @param relationshipEntityIds native ids of relationship entities
+     */
+    public synchronized void evict(Collection<Long> nodeIds, Collection<Long> relationshipEntityIds) {
+        generation++;
+        evict(keysByNode, nodeIds);
+        evict(keysByRelationshipEntity, relationshipEntityIds);
+    }
+
+    /**
+     * Evicts all the loads.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        keysByNode.clear();
+        keysByRelationshipEntity.clear();
+    }
+
+    /**
+     * @return number of cached loads, including expired ones not evicted yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of loads answered from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of loads of cacheable entities that had to be sent to the database
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void evict(Map<Long, Set<Key>> index, Collection<Long> ids) {
+        for (Long id : ids) {
+            Set<Key> keys = index.get(id);
+            if (keys != null) {
+                for (Key key : keys.toArray(new Key[0])) {
+                    remove(key);
+                }
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            unindex(key, entry);
+        }
+    }
+
+    private void unindex(Key key, Entry entry) {
+        unindex(keysByNode, entry.nodeIds, key);
+        unindex(keysByRelationshipEntity, entry.relationshipEntityIds, key);
+    }
+
+    private static void index(Map<Long, Set<Key>> index, Collection<Long> ids, Key key) {
+        for (Long id : ids) {
+            index.computeIfAbsent(id, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    private static void unindex(Map<Long, Set<Key>> index, Collection<Long> ids, Key key) {
+        for (Long id : ids) {
+            Set<Key> keys = index.get(id);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                index.remove(id);
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final List<GraphModel> graphs;
+        private final Collection<Long> nodeIds;
+        private final Collection<Long> relationshipEntityIds;
+        private final long cachedAt;
+
+        Entry(List<GraphModel> graphs, Collection<Long> nodeIds, Collection<Long> relationshipEntityIds,
+            long cachedAt) {
+            this.graphs = graphs;
+            this.nodeIds = nodeIds;
+            this.relationshipEntityIds = relationshipEntityIds;
+            this.cachedAt = cachedAt;
+        }
+    }
+
+    private static final class Key {
+
+        private final String className;
+        private final Object id;
+        private final int depth;
+
+        Key(String className, Object id, int depth) {
+            this.className = className;
+            this.id = id;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return depth == key.depth
+                && className.equals(key.className)
+                && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = className.hashCode();
+            result = 31 * result + id.hashCode();
+            result = 31 * result + depth;
+            return result;
+        }
+    }
+}
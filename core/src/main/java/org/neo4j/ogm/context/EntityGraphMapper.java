@@ -13,8 +13,20 @@
 
 package org.neo4j.ogm.context;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.RelationshipEntity;
@@ -49,6 +61,19 @@ public class EntityGraphMapper implements EntityMapper {
     private final MappingContext mappingContext;
     private final Compiler compiler = new MultiStatementCypherCompiler();
 
+    private long dirtyCheckNanos;
+    private int dirtyChecks;
+
+    // when mapping changes, the changed entities, the entities whose references are mapped and the entities whose
+    // references remain to be mapped. Null when mapping entities, whose references are mapped recursively.
+    private Set<Object> changedEntities;
+    private Set<Object> expandedEntities;
+    private Deque<PendingEntity> pendingEntities;
+
+    // used by changedEntities() for each entity checked
+    private final RegisteredRelationships registeredRelationships = new RegisteredRelationships();
+    private final Map<ClassInfo, RelationshipFields> relationshipFields = new HashMap<>();
+
     /**
      * Constructs a new {@link EntityGraphMapper} that uses the given {@link MetaData}.
      *
@@ -72,8 +97,125 @@ public class EntityGraphMapper implements EntityMapper {
             throw new NullPointerException("Cannot map null object");
         }
 
-        // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
+        registerKnownRelationships();
+
+        // if the object is a RelationshipEntity, persist it by persisting both the start node and the end node
+        // and then ensure the relationship between the two is created or updated as necessary
+        if (isRelationshipEntity(entity)) {
+            mapStandaloneRelationshipEntity(entity, horizon);
+        } else { // not an RE, simply map the entity
+            mapEntity(entity, horizon, compiler);
+        }
+
+        deleteObsoleteRelationships(compiler);
+
+        return compiler.context();
+    }
+
+    /**
+     * Finds the entities of the mapping context that changed since they were loaded or saved, by checking each of them
+     * rather than walking the object graph:
+     * <ul>
+     * <li>node and relationship entities whose properties or labels changed</li>
+     * <li>node entities whose relationship fields no longer match the relationships registered in the mapping
+     * context, followed by the entities at the other end of the added and removed relationships</li>
+     * <li>relationship entities whose start or end node changed, followed by their previous and current start and
+     * end nodes</li>
+     * </ul>
+     * The entities at the other end of changed relationships are included because saving the whole object graph
+     * would map their references as well, which may keep a relationship removed from one side only.
+     *
+     * @return the changed entities, in no particular order, to pass to {@link #mapChanges(Collection)}
+     */
+    public List<Object> changedEntities() {
+
+        Set<Object> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> result = new ArrayList<>();
+        List<Object> neighbours = new ArrayList<>();
+
+        for (Object entity : mappingContext.getNodeEntities()) {
+            boolean dirty = isDirty(entity);
+            neighbours.clear();
+            if (relationshipsChanged(entity, neighbours) || dirty) {
+                addChanged(entity, changed, result);
+                for (Object neighbour : neighbours) {
+                    addChanged(neighbour, changed, result);
+                }
+            }
+        }
+
+        for (Object entity : mappingContext.getRelationshipEntities()) {
+            boolean dirty = isDirty(entity);
+            neighbours.clear();
+            if (relationshipEntityEndsChanged(entity, neighbours) || dirty) {
+                addChanged(entity, changed, result);
+                for (Object neighbour : neighbours) {
+                    addChanged(neighbour, changed, result);
+                }
+            }
+        }
+
+        LOGGER.debug("{} changed entities", result.size());
+        return result;
+    }
+
+    /**
+     * Maps the given changed entities, as found by {@link #changedEntities()}, and the new entities they reference.
+     * The references of the other entities are not mapped, so their relationships are left as registered in the
+     * mapping context. The entities are mapped from a work queue instead of recursively, so that the depth of the
+     * object graph does not matter.
+     *
+     * @param changed the changed entities
+     * @return the compile context holding the statements saving the changes
+     */
+    public CompileContext mapChanges(Collection<Object> changed) {
+
+        // only the changed entities are expanded, so only their relationships can be found obsolete
+        List<MappedRelationship> candidates = registerRelationshipsOf(changed);
+
+        changedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedEntities.addAll(changed);
+        expandedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        pendingEntities = new ArrayDeque<>();
+
+        try {
+            for (Object entity : changed) {
+                if (isRelationshipEntity(entity)) {
+                    mapStandaloneRelationshipEntity(entity, -1);
+                } else {
+                    mapEntity(entity, -1, compiler);
+                }
+            }
+            PendingEntity pending;
+            while ((pending = pendingEntities.poll()) != null) {
+                mapEntityReferences(pending.entity, pending.nodeBuilder, pending.horizon, compiler);
+            }
+        } finally {
+            changedEntities = null;
+            expandedEntities = null;
+            pendingEntities = null;
+        }
+
+        for (MappedRelationship candidate : candidates) {
+            if (deleteIfObsolete(candidate, compiler)) {
+                mappingContext.removeRelationship(candidate);
+            }
+        }
+
+        return compiler.context();
+    }
+
+    private static void addChanged(Object entity, Set<Object> changed, List<Object> result) {
+        if (changed.add(entity)) {
+            result.add(entity);
+        }
+    }
+
+    /**
+     * Add all the relationships we know about to the compile context. This includes the relationships that
+     * won't be modified by the mapping request.
+     */
+    private void registerKnownRelationships() {
         for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
             LOGGER.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
                 mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
@@ -81,57 +223,261 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         LOGGER.debug("context initialised with {} relationships", mappingContext.getRelationships().size());
+    }
 
-        // if the object is a RelationshipEntity, persist it by persisting both the start node and the end node
-        // and then ensure the relationship between the two is created or updated as necessary
-        if (isRelationshipEntity(entity)) {
+    /**
+     * Adds the relationships of the given entities to the compile context, as {@link #registerKnownRelationships()}
+     * does for all the relationships of the mapping context.
+     *
+     * @return the registered relationships
+     */
+    private List<MappedRelationship> registerRelationshipsOf(Collection<Object> entities) {
+        Set<MappedRelationship> relationships = new LinkedHashSet<>();
+        for (Object entity : entities) {
+            Long identity = mappingContext.nativeId(entity);
+            if (identity < 0) {
+                continue;
+            }
+            if (isRelationshipEntity(entity)) {
+                relationships.addAll(mappingContext.getRelationshipsOfRelationshipEntity(identity));
+            } else {
+                relationships.addAll(mappingContext.getRelationships(identity));
+            }
+        }
+        for (MappedRelationship relationship : relationships) {
+            compiler.context().registerRelationship(relationship);
+        }
+        LOGGER.debug("context initialised with {} relationships of changed entities", relationships.size());
+        return new ArrayList<>(relationships);
+    }
 
-            ClassInfo reInfo = metaData.classInfo(entity);
+    /**
+     * Persists a relationship entity by persisting both its start node and end node, then creating or updating the
+     * relationship between the two as necessary.
+     */
+    private void mapStandaloneRelationshipEntity(Object entity, int horizon) {
 
-            Object startNode = reInfo.getStartNodeReader().read(entity);
-            if (startNode == null) {
-                throw new RuntimeException("@StartNode of relationship entity may not be null");
-            }
+        ClassInfo reInfo = metaData.classInfo(entity);
 
-            Object endNode = reInfo.getEndNodeReader().read(entity);
-            if (endNode == null) {
-                throw new RuntimeException("@EndNode of relationship entity may not be null");
-            }
+        Object startNode = reInfo.getStartNodeReader().read(entity);
+        if (startNode == null) {
+            throw new RuntimeException("@StartNode of relationship entity may not be null");
+        }
+
+        Object endNode = reInfo.getEndNodeReader().read(entity);
+        if (endNode == null) {
+            throw new RuntimeException("@EndNode of relationship entity may not be null");
+        }
+
+        // map both sides as far as the specified horizon
+        NodeBuilder startNodeBuilder = mapEntity(startNode, horizon, compiler);
+        NodeBuilder endNodeBuilder = mapEntity(endNode, horizon, compiler);
+
+        // create or update the relationship if its not already been visited in the current compile context
+        if (!compiler.context().visitedRelationshipEntity(mappingContext.nativeId(entity))) {
+
+            AnnotationInfo annotationInfo = reInfo.annotationsInfo().get(RelationshipEntity.class);
+            String relationshipType = annotationInfo.get(RelationshipEntity.TYPE, null);
+            DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType,
+                Relationship.OUTGOING);
+
+            RelationshipBuilder relationshipBuilder = getRelationshipBuilder(compiler, entity, directedRelationship,
+                false);
+
+            // 2. create or update the actual relationship (edge) in the graph
+            updateRelationshipEntity(compiler.context(), entity, relationshipBuilder, reInfo);
 
-            // map both sides as far as the specified horizon
-            NodeBuilder startNodeBuilder = mapEntity(startNode, horizon, compiler);
-            NodeBuilder endNodeBuilder = mapEntity(endNode, horizon, compiler);
+            Long srcIdentity = mappingContext.nativeId(startNode);
+            Long tgtIdentity = mappingContext.nativeId(endNode);
 
-            // create or update the relationship if its not already been visited in the current compile context
-            if (!compiler.context().visitedRelationshipEntity(mappingContext.nativeId(entity))) {
+            RelationshipNodes relNodes = new RelationshipNodes(srcIdentity, tgtIdentity, startNode.getClass(),
+                endNode.getClass());
 
-                AnnotationInfo annotationInfo = reInfo.annotationsInfo().get(RelationshipEntity.class);
-                String relationshipType = annotationInfo.get(RelationshipEntity.TYPE, null);
-                DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType,
-                    Relationship.OUTGOING);
+            // 2. update the fact of the relationship in the compile context
+            updateRelationship(compiler.context(), startNodeBuilder, endNodeBuilder, relationshipBuilder, relNodes);
+        }
+    }
 
-                RelationshipBuilder relationshipBuilder = getRelationshipBuilder(compiler, entity, directedRelationship,
-                    false);
+    /**
+     * Compares the relationship fields of a node entity with the relationships registered for it in the mapping
+     * context. Registered relationships are only compared when the entity declares a relationship field of their
+     * type and direction, as the other ones are mapped from the other end only.
+     *
+     * @param entity     the node entity
+     * @param neighbours collects the registered entities at the other end of added or removed relationships
+     * @return true if a relationship was added or removed
+     */
+    private boolean relationshipsChanged(Object entity, List<Object> neighbours) {
 
-                // 2. create or update the actual relationship (edge) in the graph
-                updateRelationshipEntity(compiler.context(), entity, relationshipBuilder, reInfo);
+        RelationshipFields fields = relationshipFields.computeIfAbsent(metaData.classInfo(entity),
+            RelationshipFields::new);
+        if (fields.readers.length == 0) {
+            return false;
+        }
 
-                Long srcIdentity = mappingContext.nativeId(startNode);
-                Long tgtIdentity = mappingContext.nativeId(endNode);
+        long identity = mappingContext.nativeId(entity);
+        List<MappedRelationship> registered = mappingContext.getRelationships(identity);
+        RegisteredRelationships lookup = registered.isEmpty() ? null : registeredRelationships.reset(registered);
+        boolean[] matched = new boolean[registered.size()];
+        boolean changed = false;
 
-                RelationshipNodes relNodes = new RelationshipNodes(srcIdentity, tgtIdentity, startNode.getClass(),
-                    endNode.getClass());
+        for (int field = 0; field < fields.readers.length; field++) {
+            FieldInfo reader = fields.readers[field];
+            String relationshipType = fields.types[field];
+            boolean outgoing = fields.outgoing[field];
+            boolean incoming = fields.incoming[field];
 
-                // 2. update the fact of the relationship in the compile context
-                updateRelationship(compiler.context(), startNodeBuilder, endNodeBuilder, relationshipBuilder, relNodes);
+            Object relatedObject = reader.read(entity);
+            if (relatedObject == null) {
+                continue;
+            }
+            Iterable<?> targets;
+            if (relatedObject instanceof Iterable) {
+                targets = (Iterable<?>) relatedObject;
+            } else if (relatedObject.getClass().isArray()) {
+                targets = Arrays.asList((Object[]) relatedObject);
+            } else {
+                targets = Collections.singletonList(relatedObject);
+            }
+
+            for (Object target : targets) {
+                if (target == null || metaData.classInfo(target) == null) {
+                    continue;
+                }
+                int index;
+                if (lookup == null) {
+                    index = -1;
+                } else if (isRelationshipEntity(target)) {
+                    index = indexOfRelationshipEntity(identity, target, outgoing, incoming, lookup);
+                } else {
+                    index = indexOfRelationship(identity, target, relationshipType, outgoing, incoming, lookup);
+                }
+                if (index >= 0) {
+                    matched[index] = true;
+                } else {
+                    LOGGER.debug("added relationship: {}-[:{}]-{}", entity, relationshipType, target);
+                    changed = true;
+                    addNeighbours(entity, target, neighbours);
+                }
             }
-        } else { // not an RE, simply map the entity
-            mapEntity(entity, horizon, compiler);
         }
 
-        deleteObsoleteRelationships(compiler);
+        for (int i = 0; i < matched.length; i++) {
+            MappedRelationship relationship = registered.get(i);
+            String type = relationship.getRelationshipType();
+            if (!matched[i] && (relationship.getStartNodeId() == identity && fields.outgoingTypes.contains(type)
+                || relationship.getEndNodeId() == identity && fields.incomingTypes.contains(type))) {
+                LOGGER.debug("removed relationship: {}", relationship);
+                changed = true;
+                long otherEnd = relationship.getStartNodeId() == identity
+                    ? relationship.getEndNodeId()
+                    : relationship.getStartNodeId();
+                Object neighbour = mappingContext.getNodeEntity(otherEnd);
+                if (neighbour != null && neighbour != entity) {
+                    neighbours.add(neighbour);
+                }
+            }
+        }
+        return changed;
+    }
 
-        return compiler.context();
+    /**
+     * @return the index of the registered relationship, other than a relationship entity, between the entity and the
+     * target, -1 if there is none
+     */
+    private int indexOfRelationship(long identity, Object target, String relationshipType, boolean outgoing,
+        boolean incoming, RegisteredRelationships registered) {
+
+        long targetIdentity = mappingContext.nativeId(target);
+        if (targetIdentity < 0) {
+            return -1;
+        }
+        int outgoingIndex = outgoing ? registered.indexOf(identity, relationshipType, targetIdentity) : -1;
+        int incomingIndex = incoming ? registered.indexOf(targetIdentity, relationshipType, identity) : -1;
+        if (outgoingIndex < 0 || incomingIndex < 0) {
+            return Math.max(outgoingIndex, incomingIndex);
+        }
+        return Math.min(outgoingIndex, incomingIndex);
+    }
+
+    /**
+     * @return the index of the registered relationship of the relationship entity, if it still starts and ends at the
+     * same nodes and the entity is at the expected end, -1 otherwise
+     */
+    private int indexOfRelationshipEntity(long identity, Object relationshipEntity, boolean outgoing, boolean incoming,
+        RegisteredRelationships registered) {
+
+        Long reIdentity = mappingContext.nativeId(relationshipEntity);
+        ClassInfo reInfo = metaData.classInfo(relationshipEntity);
+        Object startNode = reInfo.getStartNodeReader().read(relationshipEntity);
+        Object endNode = reInfo.getEndNodeReader().read(relationshipEntity);
+        if (reIdentity < 0 || startNode == null || endNode == null) {
+            return -1;
+        }
+        long startIdentity = mappingContext.nativeId(startNode);
+        long endIdentity = mappingContext.nativeId(endNode);
+        if (!(outgoing && startIdentity == identity || incoming && endIdentity == identity)) {
+            return -1;
+        }
+        return registered.indexOfRelationshipEntity(reIdentity, startIdentity, endIdentity);
+    }
+
+    /**
+     * Collects the registered node entities at the other end of a relationship added to an entity.
+     */
+    private void addNeighbours(Object entity, Object target, List<Object> neighbours) {
+        if (isRelationshipEntity(target)) {
+            ClassInfo reInfo = metaData.classInfo(target);
+            addNeighbour(entity, reInfo.getStartNodeReader().read(target), neighbours);
+            addNeighbour(entity, reInfo.getEndNodeReader().read(target), neighbours);
+        } else {
+            addNeighbour(entity, target, neighbours);
+        }
+    }
+
+    private void addNeighbour(Object entity, Object neighbour, List<Object> neighbours) {
+        if (neighbour != null && neighbour != entity && metaData.classInfo(neighbour) != null
+            && mappingContext.nativeId(neighbour) >= 0) {
+            neighbours.add(neighbour);
+        }
+    }
+
+    /**
+     * Compares the start and end nodes of a relationship entity with its registered relationship, as
+     * {@link #haveRelationEndsChanged(Object, Long)} does.
+     *
+     * @param relationshipEntity the relationship entity
+     * @param neighbours         collects the registered previous and current start and end nodes, if they changed
+     * @return true if the start or end node changed
+     */
+    private boolean relationshipEntityEndsChanged(Object relationshipEntity, List<Object> neighbours) {
+
+        ClassInfo reInfo = metaData.classInfo(relationshipEntity);
+        Object startNode = reInfo.getStartNodeReader().read(relationshipEntity);
+        Object endNode = reInfo.getEndNodeReader().read(relationshipEntity);
+        if (startNode == null || endNode == null) {
+            // mapping the relationship entity reports the missing node
+            return true;
+        }
+        long startIdentity = mappingContext.nativeId(startNode);
+        long endIdentity = mappingContext.nativeId(endNode);
+
+        boolean changed = false;
+        long reIdentity = mappingContext.nativeId(relationshipEntity);
+        for (MappedRelationship relationship : mappingContext.getRelationshipsOfRelationshipEntity(reIdentity)) {
+            if (relationship.getStartNodeId() != startIdentity || relationship.getEndNodeId() != endIdentity) {
+                changed = true;
+                addNeighbour(relationshipEntity, mappingContext.getNodeEntity(relationship.getStartNodeId()),
+                    neighbours);
+                addNeighbour(relationshipEntity, mappingContext.getNodeEntity(relationship.getEndNodeId()),
+                    neighbours);
+            }
+        }
+        if (changed) {
+            addNeighbour(relationshipEntity, startNode, neighbours);
+            addNeighbour(relationshipEntity, endNode, neighbours);
+        }
+        return changed;
     }
 
     @Override
@@ -139,6 +485,20 @@ public class EntityGraphMapper implements EntityMapper {
         return compiler.context();
     }
 
+    /**
+     * @return time spent checking the mapped entities for changes, in nanoseconds
+     */
+    public long dirtyCheckNanos() {
+        return dirtyCheckNanos;
+    }
+
+    /**
+     * @return number of mapped entities checked for changes
+     */
+    public int dirtyChecks() {
+        return dirtyChecks;
+    }
+
     /**
      * Detects object references (including from lists) that have been deleted in the domain.
      * These must be persisted as explicit requests to delete the corresponding relationship in the graph
@@ -146,52 +506,59 @@ public class EntityGraphMapper implements EntityMapper {
      * @param compiler the {@link org.neo4j.ogm.cypher.compiler.Compiler} instance.
      */
     private void deleteObsoleteRelationships(Compiler compiler) {
-        CompileContext context = compiler.context();
-
         Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.getRelationships().iterator();
         while (mappedRelationshipIterator.hasNext()) {
             MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
+            if (deleteIfObsolete(mappedRelationship, compiler)) {
+                // finally remove the relationship from the mapping context
+                mappedRelationshipIterator.remove();
+            }
+        }
+    }
 
-            // if we cannot remove this relationship from the compile context, it
-            // means the user has deleted the relationship
-            if (!context.removeRegisteredRelationship(mappedRelationship)) {
+    /**
+     * Prepares the deletion of a relationship of the mapping context that is no longer registered in the compile
+     * context, and clears the entities at its ends from the mapping context.
+     *
+     * @return true if the relationship is obsolete, and must be removed from the mapping context
+     */
+    private boolean deleteIfObsolete(MappedRelationship mappedRelationship, Compiler compiler) {
 
-                LOGGER.debug("context-del: {}", mappedRelationship);
+        // if we cannot remove this relationship from the compile context, it
+        // means the user has deleted the relationship
+        if (compiler.context().removeRegisteredRelationship(mappedRelationship)) {
+            return false;
+        }
 
-                // tell the compiler to prepare a statement that will delete the relationship from the graph
-                compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(),
-                    mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
+        LOGGER.debug("context-del: {}", mappedRelationship);
 
-                // remove all nodes that are referenced by this relationship in the mapping context
-                // this will ensure that stale versions of these objects don't exist
-                clearRelatedObjects(mappedRelationship.getStartNodeId());
-                clearRelatedObjects(mappedRelationship.getEndNodeId());
+        // tell the compiler to prepare a statement that will delete the relationship from the graph
+        compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(),
+            mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
 
-                // finally remove the relationship from the mapping context
-                //mappingContext.removeRelationship(mappedRelationship);
-                mappedRelationshipIterator.remove();
-            }
-        }
+        // remove all nodes that are referenced by this relationship in the mapping context
+        // this will ensure that stale versions of these objects don't exist
+        clearRelatedObjects(mappedRelationship.getStartNodeId());
+        clearRelatedObjects(mappedRelationship.getEndNodeId());
+        return true;
     }
 
     private void clearRelatedObjects(Long node) {
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationships(node)) {
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
+            }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
             }
         }
     }
@@ -220,7 +587,13 @@ public class EntityGraphMapper implements EntityMapper {
         NodeBuilder nodeBuilder = getNodeBuilder(compiler, entity, horizon);
         if (nodeBuilder != null) {
             if (horizon != 0) {
-                mapEntityReferences(entity, nodeBuilder, horizon - 1, compiler);
+                if (pendingEntities == null) {
+                    mapEntityReferences(entity, nodeBuilder, horizon - 1, compiler);
+                } else if ((changedEntities.contains(entity) || mappingContext.nativeId(entity) < 0)
+                    && expandedEntities.add(entity)) {
+                    // mapping changes: only the references of changed and new entities are mapped, from the queue
+                    pendingEntities.add(new PendingEntity(entity, nodeBuilder, horizon - 1));
+                }
             } else {
                 LOGGER.debug("at horizon: {} ", entity);
             }
@@ -237,7 +610,7 @@ public class EntityGraphMapper implements EntityMapper {
      */
     private void updateNode(Object entity, CompileContext context, NodeBuilder nodeBuilder) {
         // fire pre-save event here
-        if (mappingContext.isDirty(entity)) {
+        if (isDirty(entity)) {
             LOGGER.debug("{} has changed", entity);
             context.register(entity);
             ClassInfo classInfo = metaData.classInfo(entity);
@@ -541,19 +914,17 @@ public class EntityGraphMapper implements EntityMapper {
         Long tgtIdentity = mappingContext.nativeId(targetEntity);
         Long srcIdentity = mappingContext.nativeId(startEntity);
 
-        boolean relationshipEndsChanged = false;
+        if (relId == null) {
+            return false;
+        }
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getRelationshipId() != null && relId != null && mappedRelationship
-                .getRelationshipId().equals(relId)) {
-                if (srcIdentity == null || tgtIdentity == null || mappedRelationship.getStartNodeId() != srcIdentity
-                    || mappedRelationship.getEndNodeId() != tgtIdentity) {
-                    relationshipEndsChanged = true;
-                    break;
-                }
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOfRelationshipEntity(relId)) {
+            if (srcIdentity == null || tgtIdentity == null || mappedRelationship.getStartNodeId() != srcIdentity
+                || mappedRelationship.getEndNodeId() != tgtIdentity) {
+                return true;
             }
         }
-        return relationshipEndsChanged;
+        return false;
     }
 
     /**
@@ -594,7 +965,7 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         // TODO : move this to a common function
-        if (mappingContext.isDirty(relationshipEntity)) {
+        if (isDirty(relationshipEntity)) {
             context.register(relationshipEntity);
             if (tgtIdentity >= 0 && srcIdentity >= 0) {
                 MappedRelationship mappedRelationship = createMappedRelationship(relationshipBuilder, relNodes);
@@ -893,6 +1264,21 @@ public class EntityGraphMapper implements EntityMapper {
         return classInfo != null && null != classInfo.annotationsInfo().get(RelationshipEntity.class);
     }
 
+    /**
+     * Checks whether an entity changed since it was loaded or saved, accounting the time spent in
+     * {@link #dirtyCheckNanos()}.
+     *
+     * @param entity the domain object to check
+     * @return true if the domain object changed or is new, false otherwise
+     */
+    private boolean isDirty(Object entity) {
+        long start = System.nanoTime();
+        boolean dirty = mappingContext.isDirty(entity);
+        dirtyCheckNanos += System.nanoTime() - start;
+        dirtyChecks++;
+        return dirty;
+    }
+
     /**
      * Determines whether or not a two way mapping is required for the relationship.
      * Relationships annotated with either {@link Relationship} direction INCOMING or OUTGOING and defined between two entities of the same type
@@ -951,6 +1337,19 @@ public class EntityGraphMapper implements EntityMapper {
         return mapBothWays;
     }
 
+    private static final class PendingEntity {
+
+        final Object entity;
+        final NodeBuilder nodeBuilder;
+        final int horizon;
+
+        PendingEntity(Object entity, NodeBuilder nodeBuilder, int horizon) {
+            this.entity = entity;
+            this.nodeBuilder = nodeBuilder;
+            this.horizon = horizon;
+        }
+    }
+
     class RelationshipNodes {
 
         Long sourceId;
@@ -986,4 +1385,113 @@ public class EntityGraphMapper implements EntityMapper {
                 '}';
         }
     }
+
+    /**
+     * The relationship fields of a class, with their relationship types and directions, resolved once per class.
+     */
+    private static final class RelationshipFields {
+
+        private final FieldInfo[] readers;
+        private final String[] types;
+        private final boolean[] outgoing;
+        private final boolean[] incoming;
+        private final Set<String> outgoingTypes = new HashSet<>();
+        private final Set<String> incomingTypes = new HashSet<>();
+
+        RelationshipFields(ClassInfo classInfo) {
+            readers = classInfo.relationshipFields().toArray(new FieldInfo[0]);
+            types = new String[readers.length];
+            outgoing = new boolean[readers.length];
+            incoming = new boolean[readers.length];
+            for (int i = 0; i < readers.length; i++) {
+                String direction = readers[i].relationshipDirection();
+                types[i] = readers[i].relationshipType();
+                outgoing[i] = !direction.equals(Relationship.INCOMING);
+                incoming[i] = !direction.equals(Relationship.OUTGOING);
+                if (outgoing[i]) {
+                    outgoingTypes.add(types[i]);
+                }
+                if (incoming[i]) {
+                    incomingTypes.add(types[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * The relationships registered for an entity, indexed once so that each target of its relationship fields is
+     * looked up in constant time rather than by scanning all of them. The few relationships of most entities are
+     * scanned instead, which is cheaper than indexing them.
+     */
+    private static final class RegisteredRelationships {
+
+        private static final int SCAN_LIMIT = 8;
+
+        private List<MappedRelationship> registered;
+        // index of the first registered relationship, other than a relationship entity, equal to the key; null when
+        // the relationships are scanned
+        private Map<MappedRelationship, Integer> relationships;
+        // index of the first registered relationship of each relationship entity id; null when the relationships are
+        // scanned
+        private Map<Long, Integer> relationshipEntities;
+
+        /**
+         * Replaces the relationships looked up by this instance.
+         */
+        RegisteredRelationships reset(List<MappedRelationship> registered) {
+            this.registered = registered;
+            if (registered.size() <= SCAN_LIMIT) {
+                relationships = null;
+                relationshipEntities = null;
+                return this;
+            }
+            relationships = new HashMap<>();
+            relationshipEntities = new HashMap<>();
+            for (int i = 0; i < registered.size(); i++) {
+                MappedRelationship relationship = registered.get(i);
+                if (relationship.getRelationshipId() == null) {
+                    relationships.putIfAbsent(relationship, i);
+                } else {
+                    relationshipEntities.putIfAbsent(relationship.getRelationshipId(), i);
+                }
+            }
+            return this;
+        }
+
+        int indexOf(long startNodeId, String relationshipType, long endNodeId) {
+            if (relationships == null) {
+                for (int i = 0; i < registered.size(); i++) {
+                    MappedRelationship relationship = registered.get(i);
+                    if (relationship.getRelationshipId() == null && relationship.getStartNodeId() == startNodeId
+                        && relationship.getEndNodeId() == endNodeId
+                        && relationship.getRelationshipType().equals(relationshipType)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            Integer index = relationships.get(
+                new MappedRelationship(startNodeId, relationshipType, endNodeId, null, null));
+            return index == null ? -1 : index;
+        }
+
+        int indexOfRelationshipEntity(Long relationshipId, long startNodeId, long endNodeId) {
+            int index = -1;
+            if (relationshipEntities == null) {
+                for (int i = 0; i < registered.size() && index < 0; i++) {
+                    if (relationshipId.equals(registered.get(i).getRelationshipId())) {
+                        index = i;
+                    }
+                }
+            } else {
+                index = relationshipEntities.getOrDefault(relationshipId, -1);
+            }
+            if (index < 0) {
+                return -1;
+            }
+            MappedRelationship relationship = registered.get(index);
+            return relationship.getStartNodeId() == startNodeId && relationship.getEndNodeId() == endNodeId
+                ? index : -1;
+        }
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Utils;
+
+/**
+ * Maps a {@link Response} onto a lazily evaluated {@link Stream}, pulling one record at a time from the response
+ * as the stream is consumed.
+ * When entities are not registered, every record is mapped into its own throwaway {@link MappingContext}, so
+ * the heap used by the stream is bounded by the size of a single record rather than by the size of the result.
+ * The price is that entities are detached: the same node returned in two records yields two distinct instances,
+ * and the session is unable to tell whether they are dirty when they are saved.
+ * The stream must be closed once it is no longer needed. It is closed automatically when it is fully consumed.
+ */
+public class EntityStreamMapper {
+
+    private final MetaData metaData;
+    private final MappingContext mappingContext;
+    private final boolean registerEntities;
+
+    /**
+     * @param metaData         the metadata
+     * @param mappingContext   the mapping context of the session
+     * @param registerEntities true if the mapped entities should be registered in the mapping context of the session
+     */
+    public EntityStreamMapper(MetaData metaData, MappingContext mappingContext, boolean registerEntities) {
+        this.metaData = metaData;
+        this.mappingContext = mappingContext;
+        this.registerEntities = registerEntities;
+    }
+
+    /**
+     * Maps a response whose rows carry the id of the matched (root) entity next to its graph, yielding
+     * each root entity once its row has been mapped.
+     *
+     * @param type     the type of the root entities
+     * @param response the response
+     * @param release  callback releasing the resources held by the stream, invoked at most once
+     * @param <T>      the type of the root entities
+     * @return stream of entities
+     */
+    public <T> Stream<T> mapRows(Class<T> type, Response<GraphRowListModel> response, Runnable release) {
+        boolean relationshipEntity = metaData.isRelationshipEntity(type.getName());
+
+        return stream(new ResponseSpliterator<GraphRowListModel, T>(response, release) {
+            @Override
+            void map(GraphRowListModel record, Deque<T> buffer) {
+                for (GraphRowModel graphRowModel : record.model()) {
+                    MappingContext context = context();
+                    GraphEntityMapper mapper = new GraphEntityMapper(metaData, context);
+                    Set<Long> nodeIds = new LinkedHashSet<>();
+                    Set<Long> edgeIds = new LinkedHashSet<>();
+                    mapper.map(type, graphRowModel.getGraph(), nodeIds, edgeIds);
+                    mapper.executePostLoad(nodeIds, edgeIds);
+
+                    for (Object data : graphRowModel.getRow()) {
+                        if (data instanceof Number) {
+                            long id = ((Number) data).longValue();
+                            Object entity = relationshipEntity ? context.getRelationshipEntity(id)
+                                : context.getNodeEntity(id);
+                            if (entity != null) {
+                                buffer.add(type.cast(entity));
+                            }
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Maps a response of graph records, yielding all entities of the given type found in each record.
+     * When entities are registered in the mapping context, each entity is returned only once.
+     *
+     * @param type     the type of the entities
+     * @param response the response
+     * @param release  callback releasing the resources held by the stream, invoked at most once
+     * @param <T>      the type of the entities
+     * @return stream of entities
+     */
+    public <T> Stream<T> mapGraphs(Class<T> type, Response<GraphModel> response, Runnable release) {
+        Set<Long> returnedIds = new HashSet<>();
+
+        return stream(new ResponseSpliterator<GraphModel, T>(response, release) {
+            @Override
+            void map(GraphModel record, Deque<T> buffer) {
+                MappingContext context = context();
+                GraphEntityMapper mapper = new GraphEntityMapper(metaData, context);
+                Set<Long> nodeIds = new LinkedHashSet<>();
+                Set<Long> edgeIds = new LinkedHashSet<>();
+                for (T entity : mapper.map(type, record, nodeIds, edgeIds)) {
+                    if (!registerEntities || returnedIds.add(context.nativeId(entity))) {
+                        buffer.add(entity);
+                    }
+                }
+                mapper.executePostLoad(nodeIds, edgeIds);
+            }
+        });
+    }
+
+    /**
+     * Maps a response of single column rows onto scalar values.
+     *
+     * @param type     the type of the values
+     * @param response the response
+     * @param release  callback releasing the resources held by the stream, invoked at most once
+     * @param <T>      the type of the values
+     * @return stream of values
+     */
+    public <T> Stream<T> mapScalars(Class<T> type, Response<RowModel> response, Runnable release) {
+        return stream(new ResponseSpliterator<RowModel, T>(response, release) {
+            @Override
+            void map(RowModel record, Deque<T> buffer) {
+                if (record.variables().length > 1) {
+                    throw new RuntimeException(
+                        "Scalar response queries must only return one column. Make sure your cypher query only returns one item.");
+                }
+                buffer.add((T) Utils.coerceTypes(type, record.getValues()[0]));
+            }
+        });
+    }
+
+    private MappingContext context() {
+        return registerEntities ? mappingContext : new MappingContext(metaData);
+    }
+
+    private static <T> Stream<T> stream(ResponseSpliterator<?, T> spliterator) {
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private abstract static class ResponseSpliterator<M, T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Response<M> response;
+        private final Runnable release;
+        private final Deque<T> buffer = new ArrayDeque<>();
+        private boolean closed;
+
+        ResponseSpliterator(Response<M> response, Runnable release) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.response = response;
+            this.release = release;
+        }
+
+        abstract void map(M record, Deque<T> buffer);
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (buffer.isEmpty()) {
+                M record = closed ? null : response.next();
+                if (record == null) {
+                    close();
+                    return false;
+                }
+                map(record, buffer);
+            }
+            action.accept(buffer.poll());
+            return true;
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                try {
+                    response.close();
+                } finally {
+                    release.run();
+                }
+            }
+        }
+    }
+}
@@ -20,7 +20,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -274,21 +273,8 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         if (writer == null) {
             logger.debug("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
         } else {
-            Object value = property.getValue();
-            // merge iterable / arrays and co-erce to the correct attribute type
-            if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                FieldInfo reader = classInfo.getFieldInfo(property.getKey().toString());
-                if (reader != null) {
-                    Class<?> paramType = writer.type();
-                    Class elementType = underlyingElementType(classInfo, property.getKey().toString());
-                    if (paramType.isArray()) {
-                        value = EntityAccessManager.merge(paramType, value, new Object[] {}, elementType);
-                    } else {
-                        value = EntityAccessManager.merge(paramType, value, Collections.emptyList(), elementType);
-                    }
-                }
-            }
-            writer.write(instance, value);
+            // merges iterable / arrays and co-erces to the correct attribute type
+            writer.writeProperty(instance, property.getValue());
         }
     }
 
@@ -635,21 +621,4 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
         return false;
     }
-
-    private Class underlyingElementType(ClassInfo classInfo, String propertyName) {
-        FieldInfo fieldInfo = fieldInfoForPropertyName(propertyName, classInfo);
-        Class clazz = null;
-        if (fieldInfo != null) {
-            clazz = ClassUtils.getType(fieldInfo.getTypeDescriptor());
-        }
-        return clazz;
-    }
-
-    private FieldInfo fieldInfoForPropertyName(String propertyName, ClassInfo classInfo) {
-        FieldInfo labelField = classInfo.labelFieldOrNull();
-        if (labelField != null && labelField.getName().toLowerCase().equals(propertyName.toLowerCase())) {
-            return labelField;
-        }
-        return classInfo.propertyField(propertyName);
-    }
 }
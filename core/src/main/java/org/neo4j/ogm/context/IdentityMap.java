@@ -13,11 +13,8 @@
 
 package org.neo4j.ogm.context;
 
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,17 +34,17 @@ class IdentityMap {
     // objects with no properties will always hash to this value.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHash;
+    private final LongLongHashMap nodeHash;
 
-    private final Map<Long, Long> relEntityHash;
+    private final LongLongHashMap relEntityHash;
 
     private final Map<Long, LabelHistory> labelHistoryRegister;
 
     private final MetaData metaData;
 
     IdentityMap(MetaData metaData) {
-        this.nodeHash = new HashMap<>();
-        this.relEntityHash = new HashMap<>();
+        this.nodeHash = new LongLongHashMap();
+        this.relEntityHash = new LongLongHashMap();
         labelHistoryRegister = new HashMap<>();
         this.metaData = metaData;
     }
@@ -88,13 +85,13 @@ class IdentityMap {
                 isRelEntity = true;
             }
 
-            if ((!isRelEntity && !nodeHash.containsKey(entityId)) ||
-                (isRelEntity && !relEntityHash.containsKey(entityId))) {
+            LongLongHashMap hashes = isRelEntity ? relEntityHash : nodeHash;
+            if (!hashes.containsKey(entityId)) {
                 return false;
             }
 
             long actual = hash(object, classInfo);
-            long expected = isRelEntity ? relEntityHash.get(entityId) : nodeHash.get(entityId);
+            long expected = hashes.get(entityId, SEED);
 
             return (actual == expected);
         }
@@ -118,32 +115,108 @@ class IdentityMap {
         relEntityHash.clear();
     }
 
+    /**
+     * @return estimated number of bytes retained by the remembered hashes, excluding the label history
+     */
+    long estimatedBytes() {
+        return MemoryFootprint.longLongMapBytes(nodeHash.capacity())
+            + MemoryFootprint.longLongMapBytes(relEntityHash.capacity());
+    }
+
     private long hash(Object object, ClassInfo classInfo) {
         long hash = SEED;
 
-        List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
-        if (classInfo.labelFieldOrNull() != null) {
-            hashFields.add(classInfo.labelFieldOrNull());
+        List<FieldInfo> stateFields = classInfo.stateFields();
+        for (int i = 0; i < stateFields.size(); i++) {
+            Object value = stateFields.get(i).read(object);
+            if (value != null) {
+                hash = hash * 31L + hashValue(value);
+            }
         }
+        return hash;
+    }
 
-        for (FieldInfo fieldInfo : hashFields) {
-            Field field = classInfo.getField(fieldInfo);
-            Object value = FieldInfo.read(field, object);
-            if (value != null) {
+    /**
+     * Hashes a field value without converting it to a String or boxing its elements. Only values of other types
+     * than the ones natively supported by the graph fall back to hashing their String representation.
+     */
+    private static long hashValue(Object value) {
+        if (value instanceof String) {
+            return hash((String) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double) {
+            return Double.doubleToLongBits((Double) value);
+        }
+        if (value instanceof Float) {
+            return Float.floatToIntBits((Float) value);
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1231 : 1237;
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        if (value instanceof Enum) {
+            return hash(((Enum<?>) value).name());
+        }
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof Iterable || value instanceof Map) {
+            return value.hashCode();
+        }
+        if (value.getClass().isArray()) {
+            return hashArray(value);
+        }
+        return hash(value.toString());
+    }
 
-                if (value.getClass().isArray()) {
-                    hash = hash * 31L + Arrays.hashCode(convertToObjectArray(value));
-                } else if (value instanceof Iterable) {
-                    hash = hash * 31L + value.hashCode();
-                } else {
-                    hash = hash * 31L + hash(value.toString());
-                }
+    private static long hashArray(Object array) {
+        long hash = 1;
+        if (array instanceof Object[]) {
+            for (Object element : (Object[]) array) {
+                hash = hash * 31L + (element == null ? 0 : hashValue(element));
+            }
+        } else if (array instanceof long[]) {
+            for (long element : (long[]) array) {
+                hash = hash * 31L + element;
+            }
+        } else if (array instanceof int[]) {
+            for (int element : (int[]) array) {
+                hash = hash * 31L + element;
+            }
+        } else if (array instanceof double[]) {
+            for (double element : (double[]) array) {
+                hash = hash * 31L + Double.doubleToLongBits(element);
+            }
+        } else if (array instanceof float[]) {
+            for (float element : (float[]) array) {
+                hash = hash * 31L + Float.floatToIntBits(element);
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean element : (boolean[]) array) {
+                hash = hash * 31L + (element ? 1231 : 1237);
+            }
+        } else if (array instanceof char[]) {
+            for (char element : (char[]) array) {
+                hash = hash * 31L + element;
+            }
+        } else if (array instanceof short[]) {
+            for (short element : (short[]) array) {
+                hash = hash * 31L + element;
+            }
+        } else if (array instanceof byte[]) {
+            for (byte element : (byte[]) array) {
+                hash = hash * 31L + element;
             }
         }
         return hash;
     }
 
-    private long hash(String string) {
+    private static long hash(String string) {
         long h = 1125899906842597L; // prime
         int len = string.length();
 
@@ -152,19 +225,4 @@ class IdentityMap {
         }
         return h;
     }
-
-    /**
-     * Convert an array or objects or primitives to an array of objects
-     *
-     * @param array array of unknown type
-     * @return array of objects
-     */
-    private Object[] convertToObjectArray(Object array) {
-        int len = Array.getLength(array);
-        Object[] out = new Object[len];
-        for (int i = 0; i < len; i++) {
-            out[i] = Array.get(array, i);
-        }
-        return Arrays.asList(out).toArray();
-    }
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Open addressing hash map with primitive long keys, using linear probing. Keys are neither boxed nor wrapped in map
+ * entries, so a mapping costs a long and a reference, about a third of a {@link java.util.HashMap} mapping.
+ * Removal shifts the following entries back instead of leaving tombstones. Null values are not supported.
+ * Not thread safe.
+ *
+ * @param <V> type of the values
+ */
+final class LongObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    LongObjectHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of slots, used to estimate the memory footprint of the map
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    boolean containsKey(long key) {
+        return slot(key) >= 0;
+    }
+
+    /**
+     * @param key the key
+     * @return the value mapped to the key, or null
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int slot = slot(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * @param key   the key
+     * @param value the value, not null
+     * @return the value previously mapped to the key, or null
+     */
+    V put(long key, V value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * @param key   the key
+     * @param value the value, not null
+     * @return the value already mapped to the key, or null if the value was added
+     */
+    V putIfAbsent(long key, V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * @param key the key
+     * @return the value that was mapped to the key, or null
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int slot = slot(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+
+        // move back the entries following the removed one, unless they would end up before their home slot
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = index(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+        values[gap] = null;
+        size--;
+        return previous;
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(used, false);
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * @return copy of the keys, in no particular order. The map may be modified while iterating the copy.
+     */
+    long[] keys() {
+        long[] result = new long[size];
+        int i = 0;
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) {
+                result[i++] = keys[slot];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return read only view of the values, in no particular order. The map must not be modified while iterating
+     * the view.
+     */
+    Collection<V> values() {
+        return new AbstractCollection<V>() {
+
+            @Override
+            public Iterator<V> iterator() {
+                return new ValueIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private V put(long key, V value, boolean replace) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+        int slot = index(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                if (replace) {
+                    values[slot] = value;
+                }
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        // keep the load factor at or below 1/2, so that probe sequences stay short
+        if (++size > (mask + 1) >> 1) {
+            resize((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    private int slot(long key) {
+        int slot = index(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int slot = index(oldKeys[i]);
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private class ValueIterator implements Iterator<V> {
+
+        private int slot = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return slot < used.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            V value = (V) values[slot];
+            slot = advance(slot + 1);
+            return value;
+        }
+
+        private int advance(int from) {
+            int next = from;
+            while (next < used.length && !used[next]) {
+                next++;
+            }
+            return next;
+        }
+    }
+}
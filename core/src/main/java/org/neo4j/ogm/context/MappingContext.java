@@ -16,7 +16,6 @@ package org.neo4j.ogm.context;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,7 +42,7 @@ import org.neo4j.ogm.utils.EntityUtils;
 public class MappingContext {
 
     // map Neo4j id -> entity
-    private final Map<Long, Object> nodeEntityRegister;
+    private final LongObjectHashMap<Object> nodeEntityRegister;
 
     // map primary index value -> entity
     private final Map<LabelPrimaryId, Object> primaryIndexNodeRegister;
@@ -51,25 +50,27 @@ public class MappingContext {
     // LabelPrimaryId - > native id (contains both nodes and relationship entities)
     private final Map<LabelPrimaryId, Long> primaryIdToNativeId;
 
-    private final Map<Long, Object> relationshipEntityRegister;
+    private final LongObjectHashMap<Object> relationshipEntityRegister;
 
     private final Map<LabelPrimaryId, Object> primaryIdToRelationship;
 
-    private final Set<MappedRelationship> relationshipRegister;
+    private final RelationshipRegister relationshipRegister;
 
     private final IdentityMap identityMap;
 
     private final MetaData metaData;
 
+    private long registeredEntities;
+
     public MappingContext(MetaData metaData) {
         this.metaData = metaData;
         this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new HashMap<>();
+        this.nodeEntityRegister = new LongObjectHashMap<>();
         this.primaryIndexNodeRegister = new HashMap<>();
         this.primaryIdToNativeId = new HashMap<>();
-        this.relationshipEntityRegister = new HashMap<>();
+        this.relationshipEntityRegister = new LongObjectHashMap<>();
         this.primaryIdToRelationship = new HashMap<>();
-        this.relationshipRegister = new HashSet<>();
+        this.relationshipRegister = new RelationshipRegister();
     }
 
     /**
@@ -81,7 +82,7 @@ public class MappingContext {
      * @return The entity or null if not found.
      */
     public Object getNodeEntity(Long graphId) {
-        return nodeEntityRegister.get(graphId);
+        return graphId == null ? null : nodeEntityRegister.get(graphId);
     }
 
     /**
@@ -117,6 +118,7 @@ public class MappingContext {
         ClassInfo classInfo = metaData.classInfo(entity);
 
         if (nodeEntityRegister.putIfAbsent(id, entity) == null) {
+            registeredEntities++;
             remember(entity);
             final FieldInfo primaryIndexField = classInfo
                 .primaryIndexField(); // also need to add the class to key to prevent collisions.
@@ -212,6 +214,21 @@ public class MappingContext {
         return result;
     }
 
+    /**
+     * @return read only view of the registered node entities. The context must not be modified while iterating it.
+     */
+    Collection<Object> getNodeEntities() {
+        return nodeEntityRegister.values();
+    }
+
+    /**
+     * @return read only view of the registered relationship entities. The context must not be modified while
+     * iterating it.
+     */
+    Collection<Object> getRelationshipEntities() {
+        return relationshipEntityRegister.values();
+    }
+
     /**
      * Return dynamic label information about the entity (@Labels). History contains a snapshot of labels the entity had
      * when registered in the context, and the current labels.
@@ -243,6 +260,23 @@ public class MappingContext {
         return relationshipRegister;
     }
 
+    /**
+     * @param nodeId native id of a node
+     * @return the registered relationships starting or ending at the node, as a copy that can be iterated while
+     * the context is modified
+     */
+    public List<MappedRelationship> getRelationships(long nodeId) {
+        return relationshipRegister.relationshipsOf(nodeId);
+    }
+
+    /**
+     * @param relationshipEntityId native id of a relationship entity
+     * @return the registered relationships mapped to the relationship entity
+     */
+    List<MappedRelationship> getRelationshipsOfRelationshipEntity(long relationshipEntityId) {
+        return relationshipRegister.relationshipsOfRelationshipEntity(relationshipEntityId);
+    }
+
     public void addRelationship(MappedRelationship relationship) {
         if (relationship.getRelationshipId() != null
             && relationshipEntityRegister.get(relationship.getRelationshipId()) == null) {
@@ -261,7 +295,7 @@ public class MappingContext {
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
-        return relationshipEntityRegister.get(relationshipId);
+        return relationshipId == null ? null : relationshipEntityRegister.get(relationshipId);
     }
 
     /**
@@ -279,7 +313,7 @@ public class MappingContext {
     public Object addRelationshipEntity(Object relationshipEntity, Long id) {
 
         if (relationshipEntityRegister.putIfAbsent(id, relationshipEntity) == null) {
-            relationshipEntity = relationshipEntityRegister.get(id);
+            registeredEntities++;
             remember(relationshipEntity);
 
             ClassInfo classInfo = metaData.classInfo(relationshipEntity);
@@ -383,16 +417,12 @@ public class MappingContext {
         if (id >= 0) {
             if (!metaData.isRelationshipEntity(type.getName())) {
                 if (getNodeEntity(id) != null) {
-                    // todo: this will be very slow for many objects
-                    // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                    for (MappedRelationship mappedRelationship : relationshipRegister) {
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                            Object affectedObject = mappedRelationship.getEndNodeId() == id ?
-                                getNodeEntity(mappedRelationship.getStartNodeId()) :
-                                getNodeEntity(mappedRelationship.getEndNodeId());
-                            if (affectedObject != null) {
-                                neighbours.add(affectedObject);
-                            }
+                    for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+                        Object affectedObject = mappedRelationship.getEndNodeId() == id ?
+                            getNodeEntity(mappedRelationship.getStartNodeId()) :
+                            getNodeEntity(mappedRelationship.getEndNodeId());
+                        if (affectedObject != null) {
+                            neighbours.add(affectedObject);
                         }
                     }
                 }
@@ -409,21 +439,27 @@ public class MappingContext {
     }
 
     /**
-     * Deregister a relationship entity if it has either start or end node equal to the supplied startOrEndEntity
+     * Deregister a relationship entity if it has either start or end node equal to the supplied startOrEndEntity.
+     * Only the relationship entities of the relationships registered for the entity are considered.
      *
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.keySet().iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
+        for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(nativeId(startOrEndEntity))) {
+            Long relationshipEntityId = mappedRelationship.getRelationshipId();
+            if (relationshipEntityId == null) {
+                continue;
+            }
             Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
+            if (relationshipEntity == null) {
+                continue;
+            }
             final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
             FieldInfo startNodeReader = classInfo.getStartNodeReader();
             FieldInfo endNodeReader = classInfo.getEndNodeReader();
             if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader
                 .read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
+                relationshipEntityRegister.remove(relationshipEntityId);
             }
         }
     }
@@ -438,24 +474,20 @@ public class MappingContext {
                     // remove the object from the node register
                     removeNodeEntity(entity, false);
                     // remove all relationship mappings to/from this object
-                    Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-                    while (mappedRelationshipIterator.hasNext()) {
-                        MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                            // first purge any RE mappings (if its a RE)
-                            if (mappedRelationship.getRelationshipId() != null) {
-                                Object relEntity = relationshipEntityRegister
-                                    .get(mappedRelationship.getRelationshipId());
-                                if (relEntity != null) {
-                                    // TODO : extract the "remove a RelationshipEntity" block below in a method
-                                    // and call it here instead of going recursive ?
-                                    relEntitiesToPurge.add(relEntity);
-                                }
+                    for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+
+                        // first purge any RE mappings (if its a RE)
+                        if (mappedRelationship.getRelationshipId() != null) {
+                            Object relEntity = relationshipEntityRegister
+                                .get(mappedRelationship.getRelationshipId());
+                            if (relEntity != null) {
+                                // TODO : extract the "remove a RelationshipEntity" block below in a method
+                                // and call it here instead of going recursive ?
+                                relEntitiesToPurge.add(relEntity);
                             }
-                            // finally remove the mapped relationship
-                            mappedRelationshipIterator.remove();
                         }
+                        // finally remove the mapped relationship
+                        relationshipRegister.remove(mappedRelationship);
                     }
                 }
             } else {
@@ -478,6 +510,32 @@ public class MappingContext {
         }
     }
 
+    /**
+     * @return number of node and relationship entities registered since this context was created, including the
+     * ones since removed or cleared. The difference between two calls is the number of entities registered in between.
+     */
+    public long registeredEntities() {
+        return registeredEntities;
+    }
+
+    /**
+     * Reports the number of registered entities and relationships, and estimates the memory retained by the registers
+     * of this context. The report is computed on demand, so it should not be requested in tight loops.
+     *
+     * @return the memory footprint report
+     */
+    public MemoryFootprint memoryFootprint() {
+        int primaryIds = primaryIndexNodeRegister.size() + primaryIdToNativeId.size() + primaryIdToRelationship.size();
+        long registerBytes = MemoryFootprint.longKeyedMapBytes(nodeEntityRegister.capacity())
+            + MemoryFootprint.longKeyedMapBytes(relationshipEntityRegister.capacity());
+        long primaryIdBytes = MemoryFootprint.hashMapBytes(primaryIds)
+            + (long) primaryIds * MemoryFootprint.LABEL_PRIMARY_ID_BYTES
+            + (long) primaryIdToNativeId.size() * MemoryFootprint.BOXED_LONG_BYTES;
+        return new MemoryFootprint(nodeEntityRegister.size(), relationshipEntityRegister.size(),
+            relationshipRegister.size(), primaryIds, registerBytes, relationshipRegister.estimatedBytes(),
+            primaryIdBytes, identityMap.estimatedBytes());
+    }
+
     private void remember(Object entity) {
         identityMap.remember(entity, nativeId(entity));
     }
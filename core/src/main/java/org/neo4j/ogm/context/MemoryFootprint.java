@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+/**
+ * Report of the number of entries registered in a {@link MappingContext} and of the memory retained by its registers,
+ * as returned by {@link MappingContext#memoryFootprint()}.
+ * <p>
+ * Sizes are estimated for a 64-bit JVM with compressed references, and do not include the entities themselves.
+ */
+public final class MemoryFootprint {
+
+    static final int REFERENCE_BYTES = 4;
+    static final int OBJECT_HEADER_BYTES = 12;
+    static final int ARRAY_HEADER_BYTES = 16;
+
+    // header, 2 longs and 4 references
+    static final int MAPPED_RELATIONSHIP_BYTES = 48;
+    // HashMap.Node, key and value references are counted separately
+    static final int HASH_MAP_ENTRY_BYTES = 32;
+    // header and 2 references
+    static final int LABEL_PRIMARY_ID_BYTES = 24;
+    static final int BOXED_LONG_BYTES = 16;
+
+    private final int nodeEntities;
+    private final int relationshipEntities;
+    private final int relationships;
+    private final int primaryIds;
+    private final long registerBytes;
+    private final long relationshipBytes;
+    private final long primaryIdBytes;
+    private final long identityMapBytes;
+
+    MemoryFootprint(int nodeEntities, int relationshipEntities, int relationships, int primaryIds,
+        long registerBytes, long relationshipBytes, long primaryIdBytes, long identityMapBytes) {
+        this.nodeEntities = nodeEntities;
+        this.relationshipEntities = relationshipEntities;
+        this.relationships = relationships;
+        this.primaryIds = primaryIds;
+        this.registerBytes = registerBytes;
+        this.relationshipBytes = relationshipBytes;
+        this.primaryIdBytes = primaryIdBytes;
+        this.identityMapBytes = identityMapBytes;
+    }
+
+    public int getNodeEntities() {
+        return nodeEntities;
+    }
+
+    public int getRelationshipEntities() {
+        return relationshipEntities;
+    }
+
+    public int getRelationships() {
+        return relationships;
+    }
+
+    public int getPrimaryIds() {
+        return primaryIds;
+    }
+
+    /**
+     * @return estimated bytes of the registers of node and relationship entities by native id
+     */
+    public long getRegisterBytes() {
+        return registerBytes;
+    }
+
+    /**
+     * @return estimated bytes of the registered relationships
+     */
+    public long getRelationshipBytes() {
+        return relationshipBytes;
+    }
+
+    /**
+     * @return estimated bytes of the registers by primary id
+     */
+    public long getPrimaryIdBytes() {
+        return primaryIdBytes;
+    }
+
+    /**
+     * @return estimated bytes of the hashes used for dirty checking
+     */
+    public long getIdentityMapBytes() {
+        return identityMapBytes;
+    }
+
+    public long getTotalBytes() {
+        return registerBytes + relationshipBytes + primaryIdBytes + identityMapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryFootprint{" +
+            "nodeEntities=" + nodeEntities +
+            ", relationshipEntities=" + relationshipEntities +
+            ", relationships=" + relationships +
+            ", primaryIds=" + primaryIds +
+            ", registerBytes=" + registerBytes +
+            ", relationshipBytes=" + relationshipBytes +
+            ", primaryIdBytes=" + primaryIdBytes +
+            ", identityMapBytes=" + identityMapBytes +
+            ", totalBytes=" + getTotalBytes() +
+            '}';
+    }
+
+    /**
+     * @param capacity number of slots of a {@link LongObjectHashMap}
+     * @return estimated bytes of the map, excluding its values
+     */
+    static long longKeyedMapBytes(int capacity) {
+        return OBJECT_HEADER_BYTES + 3 * ARRAY_HEADER_BYTES + (long) capacity * (8 + REFERENCE_BYTES + 1);
+    }
+
+    /**
+     * @param capacity number of slots of a {@link LongLongHashMap}
+     * @return estimated bytes of the map
+     */
+    static long longLongMapBytes(int capacity) {
+        return OBJECT_HEADER_BYTES + 3 * ARRAY_HEADER_BYTES + (long) capacity * (8 + 8 + 1);
+    }
+
+    /**
+     * @param size number of mappings of a {@link java.util.HashMap}
+     * @return estimated bytes of the map, excluding its keys and values
+     */
+    static long hashMapBytes(int size) {
+        // the table is kept at most 3/4 full, which 2 references per mapping approximate
+        return OBJECT_HEADER_BYTES + ARRAY_HEADER_BYTES + (long) size * (HASH_MAP_ENTRY_BYTES + 2 * REFERENCE_BYTES);
+    }
+
+    /**
+     * @param size number of elements of a {@link java.util.HashSet}
+     * @return estimated bytes of the set, excluding its elements
+     */
+    static long hashSetBytes(int size) {
+        // a HashSet wraps a HashMap
+        return OBJECT_HEADER_BYTES + REFERENCE_BYTES + hashMapBytes(size);
+    }
+
+    /**
+     * @param size number of elements of a {@link java.util.LinkedHashSet}
+     * @return estimated bytes of the set, excluding its elements
+     */
+    static long linkedHashSetBytes(int size) {
+        // the map and each of its entries also link to the previous and next entries
+        return hashSetBytes(size) + 2 * REFERENCE_BYTES + (long) size * 2 * REFERENCE_BYTES;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set of the {@link MappedRelationship}s known to a {@link MappingContext}, indexed by start node id, end node id and
+ * relationship entity id, so that the relationships of a node or of a relationship entity are found without scanning
+ * the whole set.
+ * Membership is checked by hash, so that adding or removing a relationship does not depend on the degree of its
+ * nodes; the indexes only serve lookups by node or relationship entity.
+ * An index key with a single relationship, the most common case, stores it directly; keys with more relationships
+ * store them in a set.
+ * <p>
+ * Iterators support removal. Other modifications of the set while iterating are not detected.
+ *
+ * @see MemoryFootprint
+ */
+final class RelationshipRegister extends AbstractSet<MappedRelationship> {
+
+    private final Set<MappedRelationship> relationships = new HashSet<>();
+
+    // start node id -> MappedRelationship or Set<MappedRelationship>
+    private final LongObjectHashMap<Object> byStartNode = new LongObjectHashMap<>();
+
+    // end node id -> MappedRelationship or Set<MappedRelationship>
+    private final LongObjectHashMap<Object> byEndNode = new LongObjectHashMap<>();
+
+    // relationship entity id -> MappedRelationship or Set<MappedRelationship>
+    private final LongObjectHashMap<Object> byRelationshipEntity = new LongObjectHashMap<>();
+
+    @Override
+    public int size() {
+        return relationships.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return relationships.contains(o);
+    }
+
+    @Override
+    public boolean add(MappedRelationship relationship) {
+        if (!relationships.add(relationship)) {
+            return false;
+        }
+        add(byStartNode, relationship.getStartNodeId(), relationship);
+        add(byEndNode, relationship.getEndNodeId(), relationship);
+        if (relationship.getRelationshipId() != null) {
+            add(byRelationshipEntity, relationship.getRelationshipId(), relationship);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!relationships.remove(o)) {
+            return false;
+        }
+        unindex((MappedRelationship) o);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        relationships.clear();
+        byStartNode.clear();
+        byEndNode.clear();
+        byRelationshipEntity.clear();
+    }
+
+    @Override
+    public Iterator<MappedRelationship> iterator() {
+        return new RelationshipIterator();
+    }
+
+    /**
+     * @param nodeId native id of a node
+     * @return copy of the relationships starting or ending at the node, which may be modified while iterating it
+     */
+    List<MappedRelationship> relationshipsOf(long nodeId) {
+        Object outgoing = byStartNode.get(nodeId);
+        Object incoming = byEndNode.get(nodeId);
+        List<MappedRelationship> relationships = new ArrayList<>(count(outgoing) + count(incoming));
+        addTo(relationships, outgoing);
+        int outgoingCount = relationships.size();
+        addTo(relationships, incoming);
+        // loops are already listed as outgoing relationships
+        relationships.subList(outgoingCount, relationships.size())
+            .removeIf(relationship -> relationship.getStartNodeId() == nodeId);
+        return relationships;
+    }
+
+    /**
+     * @param relationshipEntityId native id of a relationship entity
+     * @return copy of the relationships mapped to the relationship entity
+     */
+    List<MappedRelationship> relationshipsOfRelationshipEntity(long relationshipEntityId) {
+        Object bucket = byRelationshipEntity.get(relationshipEntityId);
+        List<MappedRelationship> relationships = new ArrayList<>(count(bucket));
+        addTo(relationships, bucket);
+        return relationships;
+    }
+
+    /**
+     * @return estimated number of bytes retained by the register, excluding the relationship types and classes
+     */
+    long estimatedBytes() {
+        return (long) relationships.size() * MemoryFootprint.MAPPED_RELATIONSHIP_BYTES
+            + MemoryFootprint.hashSetBytes(relationships.size())
+            + estimatedBytes(byStartNode) + estimatedBytes(byEndNode) + estimatedBytes(byRelationshipEntity);
+    }
+
+    private static long estimatedBytes(LongObjectHashMap<Object> index) {
+        long bytes = MemoryFootprint.longKeyedMapBytes(index.capacity());
+        for (Object bucket : index.values()) {
+            if (bucket instanceof Set) {
+                bytes += MemoryFootprint.linkedHashSetBytes(((Set<?>) bucket).size());
+            }
+        }
+        return bytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(LongObjectHashMap<Object> index, long key, MappedRelationship relationship) {
+        Object bucket = index.get(key);
+        if (bucket == null) {
+            index.put(key, relationship);
+        } else if (bucket instanceof MappedRelationship) {
+            // keeps the relationships of a key in registration order
+            Set<MappedRelationship> relationships = new LinkedHashSet<>(4);
+            relationships.add((MappedRelationship) bucket);
+            relationships.add(relationship);
+            index.put(key, relationships);
+        } else {
+            ((Set<MappedRelationship>) bucket).add(relationship);
+        }
+    }
+
+    private void unindex(MappedRelationship relationship) {
+        remove(byStartNode, relationship.getStartNodeId(), relationship);
+        remove(byEndNode, relationship.getEndNodeId(), relationship);
+        if (relationship.getRelationshipId() != null) {
+            remove(byRelationshipEntity, relationship.getRelationshipId(), relationship);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void remove(LongObjectHashMap<Object> index, long key, MappedRelationship relationship) {
+        Object bucket = index.get(key);
+        if (bucket instanceof MappedRelationship) {
+            if (bucket.equals(relationship)) {
+                index.remove(key);
+            }
+        } else if (bucket != null) {
+            Set<MappedRelationship> relationships = (Set<MappedRelationship>) bucket;
+            if (relationships.remove(relationship) && relationships.size() == 1) {
+                index.put(key, relationships.iterator().next());
+            }
+        }
+    }
+
+    private static int count(Object bucket) {
+        if (bucket == null) {
+            return 0;
+        }
+        return bucket instanceof MappedRelationship ? 1 : ((Set<?>) bucket).size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addTo(List<MappedRelationship> relationships, Object bucket) {
+        if (bucket instanceof MappedRelationship) {
+            relationships.add((MappedRelationship) bucket);
+        } else if (bucket != null) {
+            relationships.addAll((Set<MappedRelationship>) bucket);
+        }
+    }
+
+    private class RelationshipIterator implements Iterator<MappedRelationship> {
+
+        private final Iterator<MappedRelationship> iterator = relationships.iterator();
+        private MappedRelationship last;
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public MappedRelationship next() {
+            last = iterator.next();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            iterator.remove();
+            unindex(last);
+            last = null;
+        }
+    }
+}
@@ -14,7 +14,6 @@
 package org.neo4j.ogm.context;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -23,10 +22,8 @@ import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
-import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
 import org.neo4j.ogm.metadata.reflect.EntityFactory;
 import org.neo4j.ogm.model.RowModel;
-import org.neo4j.ogm.utils.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -122,23 +119,9 @@ public class SingleUseEntityMapper {
             if (value != null && value.getClass().isArray()) {
                 value = Arrays.asList((Object[]) value);
             }
-            if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                Class elementType = underlyingElementType(classInfo, property.getKey());
-                value = writer.type().isArray()
-                    ? EntityAccessManager.merge(writer.type(), value, new Object[] {}, elementType)
-                    : EntityAccessManager.merge(writer.type(), value, Collections.EMPTY_LIST, elementType);
-            }
-            writer.write(instance, value);
+            writer.writeProperty(instance, value);
         } else {
             logger.warn("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
         }
     }
-
-    private Class underlyingElementType(ClassInfo classInfo, String propertyName) {
-        FieldInfo fieldInfo = classInfo.propertyField(propertyName);
-        if (fieldInfo != null) {
-            return ClassUtils.getType(fieldInfo.getTypeDescriptor());
-        }
-        return classInfo.getUnderlyingClass();
-    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+/**
+ * Keyset (seek) pagination. Instead of skipping the entities of the previous pages, which costs time proportional
+ * to the offset, each page continues after the last entity seen, identified by its sort keys and native id:
+ * <pre>
+ * MATCH (n:`Label`) WITH n WHERE n.`key` &gt;= { `keyset_0` } AND (n.`key` &gt; { `keyset_0` } OR ID(n) &gt; { `keyset_1` })
+ * WITH n ORDER BY n.`key`,ID(n) LIMIT 50
+ * </pre>
+ * The native id is always appended to the sort order so that the order is total, even when sort keys are not
+ * unique. The leading sort key is compared with a range on its own, so that an index on it can be used. Entities
+ * whose sort keys are null are never returned, as null does not compare to anything.
+ * <p>
+ * The first page is requested with {@link #KeysetPagination(int)}. Once a page has been loaded,
+ * {@link #getContinuationToken()} returns an opaque token identifying the position after the last entity of the page,
+ * which can be passed to {@link #KeysetPagination(int, String)} (or used through {@link #next()}) to load the next
+ * page. The token is only valid with the same sort order. The position of a page being given by its continuation
+ * token, an offset set with {@link #setOffset(Integer)} is ignored.
+ * <p>
+ * Only supported when loading node entities.
+ */
+public class KeysetPagination extends Pagination {
+
+    private static final String PARAMETER_PREFIX = "keyset_";
+
+    private final int pageSize;
+    private final List<Object> sortKeys;
+    private final Long nativeId;
+
+    private String continuationToken;
+
+    /**
+     * Requests the first page.
+     *
+     * @param pageSize the page size
+     */
+    public KeysetPagination(int pageSize) {
+        super(0, pageSize);
+        this.pageSize = pageSize;
+        this.sortKeys = null;
+        this.nativeId = null;
+    }
+
+    /**
+     * Requests the page following the entity identified by the continuation token.
+     *
+     * @param pageSize          the page size
+     * @param continuationToken token obtained from {@link #getContinuationToken()} after loading the previous page
+     */
+    public KeysetPagination(int pageSize, String continuationToken) {
+        super(0, pageSize);
+        this.pageSize = pageSize;
+
+        List<Object> position = decode(continuationToken);
+        this.sortKeys = position.subList(0, position.size() - 1);
+        this.nativeId = ((Number) position.get(position.size() - 1)).longValue();
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return token identifying the position after the last entity of the loaded page, null if the page has not been
+     * loaded yet or if there are no more entities to load
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * @return true if the loaded page was full, so a following page might exist
+     */
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+
+    /**
+     * @return pagination requesting the page following the loaded page
+     */
+    public KeysetPagination next() {
+        if (continuationToken == null) {
+            throw new IllegalStateException("There is no page after the current page");
+        }
+        return new KeysetPagination(pageSize, continuationToken);
+    }
+
+    /**
+     * Records the position of the last entity of the loaded page. Invoked by the session after loading the page.
+     *
+     * @param sortKeys values of the sort properties of the last entity, as stored in the graph, in sort order
+     * @param nativeId native id of the last entity, null if the page was not full
+     */
+    public void setLastSeen(List<Object> sortKeys, Long nativeId) {
+        if (nativeId == null) {
+            this.continuationToken = null;
+        } else {
+            List<Object> position = new ArrayList<>(sortKeys);
+            position.add(nativeId);
+            this.continuationToken = encode(position);
+        }
+    }
+
+    /**
+     * Builds the predicate selecting entities positioned after the last seen entity, i.e. the lexicographic
+     * comparison of the sort keys followed by the native id, with $ standing for the query variable. Each key is
+     * compared as <code>key &gt;= k AND (key &gt; k OR ...)</code> rather than <code>key &gt; k OR (key = k AND ...)</code>,
+     * so that the predicate starts with a range on the leading key.
+     *
+     * @param sortOrder the sort order
+     * @return the predicate, empty when the first page is requested
+     */
+    String predicate(SortOrder sortOrder) {
+        if (nativeId == null) {
+            return "";
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<Boolean> descending = new ArrayList<>();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                keys.add("$." + property);
+                descending.add(sortClause.getDirection() == SortOrder.Direction.DESC);
+            }
+        }
+        if (keys.size() != sortKeys.size()) {
+            throw new IllegalArgumentException("Continuation token does not match the sort order " + sortOrder);
+        }
+
+        // built from the native id outwards, each key guarding the comparison of the following ones
+        String predicate = "ID($) > " + parameter(keys.size());
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            String key = keys.get(i);
+            String parameter = parameter(i);
+            predicate = key + (descending.get(i) ? " <= " : " >= ") + parameter
+                + " AND (" + key + (descending.get(i) ? " < " : " > ") + parameter + " OR " + predicate + ")";
+        }
+        return predicate;
+    }
+
+    /**
+     * @param sortOrder the sort order
+     * @return the order by clause, with the native id as the last sort key
+     */
+    String orderBy(SortOrder sortOrder) {
+        String sorting = sortOrder.toString();
+        return sorting.isEmpty() ? " ORDER BY ID($)" : sorting + ",ID($)";
+    }
+
+    Map<String, Object> parameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        if (nativeId != null) {
+            for (int i = 0; i < sortKeys.size(); i++) {
+                parameters.put(PARAMETER_PREFIX + i, sortKeys.get(i));
+            }
+            parameters.put(PARAMETER_PREFIX + sortKeys.size(), nativeId);
+        }
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return " LIMIT " + pageSize;
+    }
+
+    private static String parameter(int index) {
+        return "{ `" + PARAMETER_PREFIX + index + "` }";
+    }
+
+    private static String encode(List<Object> position) {
+        try {
+            byte[] json = ObjectMapperFactory.objectMapper().writeValueAsBytes(position);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Sort keys can't be stored in a continuation token: " + position, e);
+        }
+    }
+
+    private static List<Object> decode(String continuationToken) {
+        List<Object> position;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(continuationToken);
+            position = ObjectMapperFactory.objectMapper().readValue(json, List.class);
+        } catch (IOException | IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid continuation token " + continuationToken, e);
+        }
+        if (position == null || position.isEmpty() || !(position.get(position.size() - 1) instanceof Number)) {
+            throw new IllegalArgumentException("Invalid continuation token " + continuationToken);
+        }
+        return position;
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -35,6 +36,7 @@ public class PagingAndSortingQuery implements PagingAndSorting {
 
     private boolean returnsPath = false;
     private boolean hasPredicate;
+    private boolean rowResult = false;
 
     public PagingAndSortingQuery(String statement, Map<String, Object> parameters) {
         this.statement = statement;
@@ -70,6 +72,14 @@ public class PagingAndSortingQuery implements PagingAndSorting {
             String returnClause = this.returnClause;
 
             sb.append(matchClause);
+            if (paging instanceof KeysetPagination) {
+                KeysetPagination keyset = (KeysetPagination) paging;
+                String predicate = keyset.predicate(sortOrder);
+                if (!predicate.isEmpty()) {
+                    sb.append(" WHERE ").append(predicate.replace("$", "n")).append(" WITH n");
+                }
+                sorting = keyset.orderBy(sortOrder);
+            }
             if (!sorting.isEmpty()) {
                 sb.append(sorting.replace("$", "n"));
             }
@@ -85,6 +95,9 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         }
 
         // only used for relationship entity queries now, remove when relationship entity queries moved to new query building
+        if (paging instanceof KeysetPagination) {
+            throw new UnsupportedOperationException("Keyset pagination is only supported for node entities");
+        }
 
         String stmt = statement.trim();
         String pagination = paging == null ? "" : page().toString();
@@ -136,7 +149,19 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public boolean needsRowResult() {
-        return ((sortOrder.toString().length() > 0) || (paging != null) || hasPredicate) && returnsPath;
+        return rowResult || ((sortOrder.toString().length() > 0) || (paging != null) || hasPredicate) && returnsPath;
+    }
+
+    /**
+     * Forces the query to return the ids of the matched entities alongside the graph, regardless of whether
+     * paging, sorting or filtering is applied. Used when each result row must be attributable to its root entity.
+     *
+     * @param rowResult true if the ids of the matched entities must always be returned
+     * @return this query
+     */
+    public PagingAndSortingQuery setRowResult(boolean rowResult) {
+        this.rowResult = rowResult;
+        return this;
     }
 
     @Override
@@ -164,6 +189,11 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public Map<String, Object> getParameters() {
+        if (paging instanceof KeysetPagination) {
+            Map<String, Object> keysetParameters = new HashMap<>(parameters);
+            keysetParameters.putAll(((KeysetPagination) paging).parameters());
+            return keysetParameters;
+        }
         return parameters;
     }
 }
@@ -30,6 +30,10 @@ public class SortClause {
         return properties;
     }
 
+    public SortOrder.Direction getDirection() {
+        return direction;
+    }
+
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
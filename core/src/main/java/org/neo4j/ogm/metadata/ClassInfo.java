@@ -18,6 +18,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -79,6 +80,7 @@ public class ClassInfo {
     private Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
     private volatile Set<FieldInfo> fieldInfos;
     private volatile Map<String, FieldInfo> propertyFields;
+    private volatile List<FieldInfo> stateFields;
     private volatile Map<String, FieldInfo> indexFields;
     private volatile Collection<FieldInfo> requiredFields;
     private volatile Collection<CompositeIndex> compositeIndexes;
@@ -454,6 +456,24 @@ public class ClassInfo {
         }
     }
 
+    /**
+     * The fields making up the persistent state of an entity, which are compared to determine whether the entity
+     * has been modified: the property fields and the labels field, if any.
+     *
+     * @return an unmodifiable List of FieldInfo objects, always in the same order
+     */
+    public List<FieldInfo> stateFields() {
+        List<FieldInfo> fields = stateFields;
+        if (fields == null) {
+            fields = new ArrayList<>(propertyFields());
+            if (labelFieldOrNull() != null) {
+                fields.add(labelFieldOrNull());
+            }
+            stateFields = fields = Collections.unmodifiableList(fields);
+        }
+        return fields;
+    }
+
     /**
      * Finds the property field with a specific field name from the ClassInfo's property fields
      *
@@ -722,6 +742,18 @@ public class ClassInfo {
         return annotationsInfo.get(Transient.class) != null;
     }
 
+    /**
+     * @return true if this class or one of its superclasses is annotated with {@link Cacheable}
+     */
+    public boolean isCacheable() {
+        for (ClassInfo classInfo = this; classInfo != null; classInfo = classInfo.directSuperclass()) {
+            if (classInfo.annotationsInfo.get(Cacheable.class) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean isAbstract() {
         return isAbstract;
     }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reader of the domain indexes written by the {@link DomainIndexProcessor} at build time, which list the classes
+ * compiled into each jar or classes directory. Finding the domain classes in the indexes avoids scanning the
+ * classpath when the {@link DomainInfo} is created.
+ * <p>
+ * The indexes are only used when every jar or classes directory holding a domain package has an index. A package
+ * also found in a jar compiled without the processor is scanned, so that its classes are not left out. Jars without
+ * directory entries cannot be told apart, the classes they hold in indexed packages are only found by a scan.
+ */
+final class DomainIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainIndex.class);
+
+    static final String RESOURCE = "META-INF/neo4j-ogm/domain-index";
+
+    private DomainIndex() {
+    }
+
+    /**
+     * @param classLoader class loader of the indexes and the domain classes
+     * @param packages    packages of the domain classes, including their sub packages
+     * @return the indexed classes of the packages, or null if some package has no indexed class or is also found
+     * in a jar or classes directory without index, in which case the classpath must be scanned
+     */
+    static Set<Class<?>> classes(ClassLoader classLoader, String... packages) {
+        if (packages.length == 0) {
+            return null;
+        }
+        Set<String> indexedRoots = new HashSet<>();
+        List<String> classNames = indexedClassNames(classLoader, indexedRoots);
+        if (classNames.isEmpty()) {
+            return null;
+        }
+
+        Set<Class<?>> classes = new HashSet<>();
+        for (String domainPackage : packages) {
+            boolean indexed = false;
+            for (String className : classNames) {
+                if (className.equals(domainPackage) || className.startsWith(domainPackage + ".")) {
+                    indexed = true;
+                    try {
+                        classes.add(Class.forName(className, false, classLoader));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        // the class was deleted since the index was written by an incremental build
+                        LOGGER.debug("Skipping indexed class {}: {}", className, e.toString());
+                    }
+                }
+            }
+            if (!indexed) {
+                LOGGER.debug("Package {} is not indexed, scanning the classpath", domainPackage);
+                return null;
+            }
+            if (!coveredByIndexes(classLoader, domainPackage, indexedRoots)) {
+                return null;
+            }
+        }
+        LOGGER.info("Found {} domain classes in the domain indexes", classes.size());
+        return classes;
+    }
+
+    /**
+     * @return true if all the jars and classes directories holding the package have an index
+     */
+    private static boolean coveredByIndexes(ClassLoader classLoader, String domainPackage, Set<String> indexedRoots) {
+        String path = domainPackage.replace('.', '/');
+        try {
+            Enumeration<URL> directories = classLoader.getResources(path);
+            while (directories.hasMoreElements()) {
+                String directory = directories.nextElement().toString();
+                if (directory.endsWith("/")) {
+                    directory = directory.substring(0, directory.length() - 1);
+                }
+                if (directory.endsWith(path)) {
+                    String root = directory.substring(0, directory.length() - path.length());
+                    if (!indexedRoots.contains(root)) {
+                        LOGGER.warn("Package {} is also found in {}, which has no domain index, scanning the classpath",
+                            domainPackage, root);
+                        return false;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not find the locations of package " + domainPackage + ", scanning the classpath", e);
+            return false;
+        }
+        return true;
+    }
+
+    private static List<String> indexedClassNames(ClassLoader classLoader, Set<String> indexedRoots) {
+        List<String> classNames = new ArrayList<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(RESOURCE);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                LOGGER.debug("Reading domain index {}", index);
+                String location = index.toString();
+                indexedRoots.add(location.substring(0, location.length() - RESOURCE.length()));
+                try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            classNames.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the domain indexes, scanning the classpath", e);
+            classNames.clear();
+        }
+        return classNames;
+    }
+}
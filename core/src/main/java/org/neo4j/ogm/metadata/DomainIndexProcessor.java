@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing the domain index of the compiled classes, so that creating the {@link MetaData} of
+ * their packages does not scan the classpath. The processor is not registered as a service, and must be enabled
+ * explicitly, for instance with Maven:
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;artifactId&gt;maven-compiler-plugin&lt;/artifactId&gt;
+ *     &lt;configuration&gt;
+ *         &lt;annotationProcessors&gt;
+ *             &lt;annotationProcessor&gt;org.neo4j.ogm.metadata.DomainIndexProcessor&lt;/annotationProcessor&gt;
+ *         &lt;/annotationProcessors&gt;
+ *     &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ * The index lists the binary names of all the classes compiled, whether annotated or not, since the metadata also
+ * covers plain classes and the classes they extend. A package whose classes are all compiled without the processor
+ * is still scanned; classes compiled without the processor into a package that also has indexed classes are not
+ * found.
+ * <p>
+ * With incremental compilation, the classes already listed by the index are kept, and classes deleted since are
+ * skipped when the index is read.
+ */
+@SupportedAnnotationTypes("*")
+public class DomainIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                add(type);
+            }
+        }
+        return false;
+    }
+
+    private void add(TypeElement type) {
+        classNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof TypeElement) {
+                add((TypeElement) member);
+            }
+        }
+    }
+
+    private void write() {
+        if (classNames.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        readExisting(filer);
+        try {
+            FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", DomainIndex.RESOURCE);
+            try (Writer writer = index.openWriter()) {
+                writer.write("# classes indexed for org.neo4j.ogm.metadata.DomainInfo\n");
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not write " + DomainIndex.RESOURCE + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private void readExisting(Filer filer) {
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", DomainIndex.RESOURCE);
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        classNames.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no index yet
+        }
+    }
+}
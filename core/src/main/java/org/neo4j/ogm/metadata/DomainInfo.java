@@ -61,8 +61,11 @@ public class DomainInfo {
 
     public static DomainInfo create(String... packages) {
 
-        final Set<Class<?>> allClasses = new HashSet<>();
-        new FastClasspathScanner(packages).matchAllClasses(allClasses::add).strictWhitelist().scan();
+        Set<Class<?>> allClasses = DomainIndex.classes(classLoader(), packages);
+        if (allClasses == null) {
+            allClasses = new HashSet<>();
+            new FastClasspathScanner(packages).matchAllClasses(allClasses::add).strictWhitelist().scan();
+        }
         DomainInfo domainInfo = new DomainInfo();
 
         for (Class<?> cls : allClasses) {
@@ -109,6 +112,11 @@ public class DomainInfo {
         return domainInfo;
     }
 
+    private static ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : DomainInfo.class.getClassLoader();
+    }
+
     private void buildAnnotationNameToClassInfoMap() {
 
         LOGGER.info("Building annotation class map");
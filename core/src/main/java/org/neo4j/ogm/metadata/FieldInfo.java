@@ -13,11 +13,16 @@
 
 package org.neo4j.ogm.metadata;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.neo4j.ogm.annotation.Id;
 import org.neo4j.ogm.annotation.Index;
@@ -26,6 +31,7 @@ import org.neo4j.ogm.annotation.Properties;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
@@ -71,6 +77,11 @@ public class FieldInfo {
     private final ClassInfo containingClassInfo;
     private final Field field;
     private final Class<?> fieldType;
+    /**
+     * Accessors bound to the field when the metadata is built, null if the field can only be accessed reflectively.
+     */
+    private final MethodHandle getter;
+    private final MethodHandle setter;
     /**
      * The associated attribute converter for this field, if applicable, otherwise null.
      */
@@ -81,6 +92,11 @@ public class FieldInfo {
      */
     private CompositeAttributeConverter<?> compositeConverter;
 
+    /**
+     * The conversions of the values written to this field, resolved on first use and reset when a converter is set.
+     */
+    private volatile Conversions conversions;
+
     /**
      * Constructs a new {@link FieldInfo} based on the given arguments.
      *
@@ -92,7 +108,8 @@ public class FieldInfo {
         this.containingClassInfo = classInfo;
         this.field = field;
         this.fieldType = field.getType();
-        field.getModifiers();
+        this.getter = getterFor(field);
+        this.setter = setterFor(field);
         this.isArray = field.getType().isArray();
         this.name = field.getName();
         this.descriptor = field.getType().getTypeName();
@@ -194,6 +211,7 @@ public class FieldInfo {
     void setPropertyConverter(AttributeConverter<?, ?> propertyConverter) {
         if (this.propertyConverter == null && this.compositeConverter == null && propertyConverter != null) {
             this.propertyConverter = propertyConverter;
+            this.conversions = null;
         } // we maybe set an annotated converter when object was constructed, so don't override with a default one
     }
 
@@ -208,6 +226,7 @@ public class FieldInfo {
     public void setCompositeConverter(CompositeAttributeConverter<?> converter) {
         if (this.propertyConverter == null && this.compositeConverter == null && converter != null) {
             this.compositeConverter = converter;
+            this.conversions = null;
         }
     }
 
@@ -328,6 +347,10 @@ public class FieldInfo {
     }
 
     public Class<?> convertedType() {
+        return conversions().convertedType;
+    }
+
+    private Class<?> resolveConvertedType() {
         if (hasPropertyConverter() || hasCompositeConverter()) {
             Class converterClass = hasPropertyConverter() ?
                 getPropertyConverter().getClass() : getCompositeConverter().getClass();
@@ -382,17 +405,23 @@ public class FieldInfo {
     }
 
     public void write(Object instance, Object value) {
+        writeField(instance, conversions().toEntityAttribute.apply(value));
+    }
 
-        if (hasPropertyConverter()) {
-            value = getPropertyConverter().toEntityAttribute(value);
-            write(field, instance, value);
-        } else {
-            if (isScalar()) {
-                String descriptor = getTypeDescriptor();
-                value = Utils.coerceTypes(ClassUtils.getType(descriptor), value);
-            }
-            write(field, instance, value);
+    /**
+     * Write a property value read from the graph. Arrays and collections are merged into a new instance of the type
+     * of the field, or of the type converted by its converter, before the value is written as by
+     * {@link #write(Object, Object)}.
+     *
+     * @param instance class instance
+     * @param value    property value
+     */
+    public void writeProperty(Object instance, Object value) {
+        Conversions conversions = conversions();
+        if (conversions.toCollection != null) {
+            value = conversions.toCollection.apply(value);
         }
+        writeField(instance, conversions.toEntityAttribute.apply(value));
     }
 
     /**
@@ -402,15 +431,79 @@ public class FieldInfo {
      * @param value    field value to be written
      */
     public void writeDirect(Object instance, Object value) {
-        write(field, instance, value);
+        writeField(instance, value);
     }
 
-    public Class<?> type() {
-        Class convertedType = convertedType();
-        if (convertedType != null) {
-            return convertedType;
+    private Object readField(Object instance) {
+        if (getter == null) {
+            return read(field, instance);
+        }
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
         }
-        return fieldType;
+    }
+
+    private void writeField(Object instance, Object value) {
+        if (setter == null) {
+            write(field, instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException | NullPointerException e) {
+            // same failure as reflective access when the value does not fit the field
+            throw new RuntimeException(new IllegalArgumentException(
+                "Can not set " + field.getType().getName() + " field " + containingClassInfo.name() + "." + name
+                    + " to " + (value == null ? "null value" : value.getClass().getName()), e));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    private Conversions conversions() {
+        Conversions resolved = conversions;
+        if (resolved == null) {
+            resolved = new Conversions(this);
+            conversions = resolved;
+        }
+        return resolved;
+    }
+
+    private static MethodHandle getterFor(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (RuntimeException | IllegalAccessException e) {
+            // e.g. denied by a security manager, fall back to reflection
+            return null;
+        }
+    }
+
+    private static MethodHandle setterFor(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    public Class<?> type() {
+        return conversions().type;
     }
 
     public String relationshipName() {
@@ -426,7 +519,7 @@ public class FieldInfo {
     }
 
     public Object read(Object instance) {
-        return read(containingClassInfo.getField(this), instance);
+        return readField(instance);
     }
 
     public Object readProperty(Object instance) {
@@ -434,7 +527,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = readField(instance);
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toGraphProperty(value);
         }
@@ -446,7 +539,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = readField(instance);
         return getCompositeConverter().toGraphProperties(value);
     }
 
@@ -489,4 +582,42 @@ public class FieldInfo {
     public ClassInfo containingClassInfo() {
         return containingClassInfo;
     }
+
+    /**
+     * Conversions of a field, chosen once from its type and converters instead of on each written value.
+     */
+    private static final class Conversions {
+
+        private final Class<?> convertedType;
+        private final Class<?> type;
+        // null when property values are written as they are converted
+        private final Function<Object, Object> toCollection;
+        private final Function<Object, Object> toEntityAttribute;
+
+        @SuppressWarnings("unchecked")
+        Conversions(FieldInfo fieldInfo) {
+            this.convertedType = fieldInfo.resolveConvertedType();
+            this.type = convertedType != null ? convertedType : fieldInfo.fieldType;
+
+            Class<?> elementType = ClassUtils.getType(fieldInfo.getTypeDescriptor());
+            if (type.isArray() || Iterable.class.isAssignableFrom(type)) {
+                this.toCollection = EntityAccessManager.merger(type, elementType);
+            } else {
+                this.toCollection = null;
+            }
+
+            if (fieldInfo.hasPropertyConverter()) {
+                AttributeConverter<Object, Object> converter = fieldInfo.getPropertyConverter();
+                this.toEntityAttribute = converter::toEntityAttribute;
+            } else if (!fieldInfo.isScalar()) {
+                this.toEntityAttribute = Function.identity();
+            } else if (elementType != null) {
+                this.toEntityAttribute = Utils.coercion(elementType);
+            } else {
+                // the type is not known yet, look it up for each value
+                this.toEntityAttribute = value -> Utils
+                    .coerceTypes(ClassUtils.getType(fieldInfo.getTypeDescriptor()), value);
+            }
+        }
+    }
 }
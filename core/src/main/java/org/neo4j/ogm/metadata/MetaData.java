@@ -13,17 +13,23 @@
 
 package org.neo4j.ogm.metadata;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.exception.core.AmbiguousBaseClassException;
+import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
 import org.neo4j.ogm.metadata.schema.Schema;
 import org.neo4j.ogm.typeconversion.ConversionCallback;
@@ -37,14 +43,53 @@ import org.slf4j.LoggerFactory;
 public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
+    private static final Object UNRESOLVED = new Object();
+    private static final int MAX_RESOLVED_TAXA = 10_000;
 
     private final DomainInfo domainInfo;
     private final Schema schema;
-    private Map<String, ClassInfo> classInfos = new HashMap<>();
+
+    // lookups are precomputed when the metadata is created and never modified afterwards, so they can be read
+    // concurrently by all sessions of a session factory without locking
+    private final Map<String, ClassInfo> classInfos;
+    private final Map<String, ClassInfo> classInfosByLabel;
+    private final Map<String, List<ClassInfo>> classInfosByType;
+    private final Map<String, ClassInfo> classInfosByName;
+    private final Set<String> ambiguousNames;
+
+    // classes resolved from taxa, looked up one taxon per level of the tree so that a hit does not allocate.
+    // Only taxa known to the domain are part of a path, and the tree stops growing at MAX_RESOLVED_TAXA nodes
+    private final TaxaNode resolvedTaxa = new TaxaNode();
+    private final AtomicInteger resolvedTaxaCount = new AtomicInteger();
+
+    private final ClassValue<ClassInfo> classInfosByClass = new ClassValue<ClassInfo>() {
+        @Override
+        protected ClassInfo computeValue(Class<?> type) {
+            return classInfo(type.getName());
+        }
+    };
 
     public MetaData(String... packages) {
         domainInfo = DomainInfo.create(packages);
         schema = new DomainInfoSchemaBuilder(domainInfo).build();
+
+        classInfosByLabel = Collections.unmodifiableMap(indexByLabel());
+        classInfosByType = Collections.unmodifiableMap(indexByType());
+
+        Map<String, ClassInfo> byName = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        indexByName(byName, ambiguous);
+        classInfosByName = Collections.unmodifiableMap(byName);
+
+        // labels take precedence over relationship types, which take precedence over class names
+        Map<String, ClassInfo> all = new HashMap<>(byName);
+        for (Map.Entry<String, List<ClassInfo>> entry : classInfosByType.entrySet()) {
+            all.put(entry.getKey(), entry.getValue().get(0));
+        }
+        all.putAll(classInfosByLabel);
+
+        classInfos = Collections.unmodifiableMap(all);
+        ambiguousNames = Collections.unmodifiableSet(ambiguous);
     }
 
     public Schema getSchema() {
@@ -59,31 +104,11 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        if (classInfos.containsKey(name)) {
-            return classInfos.get(name);
-        }
-
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
+        ClassInfo classInfo = classInfos.get(name);
+        if (classInfo == null && ambiguousNames.contains(name)) {
+            throw new MappingException("More than one class has simple name: " + name);
         }
-
-        classInfo = _classInfo(name, RelationshipEntity.class.getName(), "type");
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        classInfo = domainInfo.getClassSimpleName(name);
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        // not found
-        classInfos.put(name, null);
-        return null;
+        return classInfo;
     }
 
     /**
@@ -93,36 +118,54 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Object object) {
-        return classInfo(object.getClass().getName());
+        return classInfosByClass.get(object.getClass());
     }
 
-    private ClassInfo _classInfo(String name, String nodeEntityAnnotation, String annotationPropertyName) {
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get(annotationPropertyName, labelledClass.neo4jName());
-                if (value.equals(name)) {
-                    return labelledClass;
-                }
-            }
+    private Map<String, ClassInfo> indexByLabel() {
+        Map<String, ClassInfo> index = new HashMap<>();
+        for (ClassInfo labelledClass : classInfosWithAnnotation(NodeEntity.class.getName())) {
+            AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(NodeEntity.class.getName());
+            index.putIfAbsent(annotationInfo.get("label", labelledClass.neo4jName()), labelledClass);
         }
-        return null;
+        return index;
     }
 
-    private Set<ClassInfo> _classInfos(String name, String nodeEntityAnnotation) {
-        Set<ClassInfo> classInfos = new HashSet<>();
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get("type", labelledClass.neo4jName());
-                if (value.equals(name)) {
-                    classInfos.add(labelledClass);
+    private Map<String, List<ClassInfo>> indexByType() {
+        Map<String, List<ClassInfo>> index = new HashMap<>();
+        for (ClassInfo typedClass : classInfosWithAnnotation(RelationshipEntity.class.getName())) {
+            AnnotationInfo annotationInfo = typedClass.annotationsInfo().get(RelationshipEntity.class.getName());
+            index.computeIfAbsent(annotationInfo.get("type", typedClass.neo4jName()), k -> new ArrayList<>())
+                .add(typedClass);
+        }
+        for (Map.Entry<String, List<ClassInfo>> entry : index.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return index;
+    }
+
+    /**
+     * Indexes every class by its fully qualified name and by each of its partially qualified names
+     * (e.g. a.b.C, b.C and C), registering the names shared by several classes as ambiguous.
+     */
+    private void indexByName(Map<String, ClassInfo> index, Set<String> ambiguous) {
+        for (Map.Entry<String, ClassInfo> entry : domainInfo.getClassInfoMap().entrySet()) {
+            String fqn = entry.getKey();
+            int from = 0;
+            while (from >= 0) {
+                String name = from == 0 ? fqn : fqn.substring(from);
+                if (index.putIfAbsent(name, entry.getValue()) != null) {
+                    ambiguous.add(name);
                 }
+                int next = fqn.indexOf('.', from);
+                from = next < 0 ? -1 : next + 1;
             }
         }
-        return classInfos;
+        index.keySet().removeAll(ambiguous);
+    }
+
+    private List<ClassInfo> classInfosWithAnnotation(String annotation) {
+        List<ClassInfo> classInfos = domainInfo.getClassInfosWithAnnotation(annotation);
+        return classInfos == null ? Collections.emptyList() : classInfos;
     }
 
     /**
@@ -133,6 +176,37 @@ public class MetaData {
      * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
      */
     public ClassInfo resolve(String... taxa) {
+        TaxaNode node = resolvedTaxa;
+        for (String taxon : taxa) {
+            if (taxon == null) {
+                return doResolve(taxa);
+            }
+            // foreign labels never take part in the resolution, so they don't need a node of their own
+            if (classInfo(taxon) == null) {
+                continue;
+            }
+            TaxaNode child = node.children.get(taxon);
+            if (child == null) {
+                if (resolvedTaxaCount.get() >= MAX_RESOLVED_TAXA) {
+                    return doResolve(taxa);
+                }
+                child = node.children.computeIfAbsent(taxon, k -> {
+                    resolvedTaxaCount.incrementAndGet();
+                    return new TaxaNode();
+                });
+            }
+            node = child;
+        }
+
+        Object resolved = node.resolved;
+        if (resolved == null) {
+            ClassInfo classInfo = doResolve(taxa);
+            node.resolved = resolved = (classInfo == null ? UNRESOLVED : classInfo);
+        }
+        return resolved == UNRESOLVED ? null : (ClassInfo) resolved;
+    }
+
+    private ClassInfo doResolve(String... taxa) {
 
         if (taxa.length > 0) {
 
@@ -210,19 +284,19 @@ public class MetaData {
 
         Set<ClassInfo> classInfos = new HashSet<>();
 
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
+        ClassInfo classInfo = classInfosByLabel.get(name);
         if (classInfo != null) {
             classInfos.add(classInfo);
         }
 
         //Potentially many relationship entities annotated with the same type
-        for (ClassInfo info : _classInfos(name, RelationshipEntity.class.getName())) {
-            classInfos.add(info);
-        }
+        classInfos.addAll(classInfosByType.getOrDefault(name, Collections.emptyList()));
 
-        classInfo = domainInfo.getClassSimpleName(name);
+        classInfo = classInfosByName.get(name);
         if (classInfo != null) {
             classInfos.add(classInfo);
+        } else if (ambiguousNames.contains(name)) {
+            throw new MappingException("More than one class has simple name: " + name);
         }
 
         // not found
@@ -292,4 +366,10 @@ public class MetaData {
     public void registerConversionCallback(ConversionCallback conversionCallback) {
         this.domainInfo.registerConversionCallback(conversionCallback);
     }
+
+    private static class TaxaNode {
+
+        private final ConcurrentMap<String, TaxaNode> children = new ConcurrentHashMap<>(4);
+        private volatile Object resolved;
+    }
 }
@@ -15,6 +15,7 @@ package org.neo4j.ogm.metadata.reflect;
 
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.function.Function;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.context.DirectedRelationship;
@@ -104,6 +105,71 @@ public class EntityAccessManager {
         throw new RuntimeException("Unsupported: " + parameterType.getName());
     }
 
+    /**
+     * Resolves how new values are merged into an empty instance of the given parameter type, as
+     * {@link #merge(Class, Object, Collection, Class)} does with no current values. Lists, sets and arrays of objects
+     * are built directly from collections and arrays of objects, coercing each element once. Other types and values
+     * are merged as usual.
+     *
+     * @param parameterType The type of Iterable or array to return
+     * @param elementType   The type of the element in the array or collection
+     * @return function returning the new values as an instance of the parameter type
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static Function<Object, Object> merger(Class<?> parameterType, Class elementType) {
+        Function<Object, Object> merge = newValues -> merge(parameterType, newValues, Collections.emptyList(),
+            elementType);
+        if (elementType == null || elementType == Character.class || elementType == char.class) {
+            return merge;
+        }
+        Function<Object, Object> coercion = Utils.coercion(elementType);
+
+        if (parameterType.isArray()) {
+            Class<?> componentType = parameterType.getComponentType();
+            if (componentType.isPrimitive() || componentType == Character.class) {
+                return merge;
+            }
+            return newValues -> {
+                if (!(newValues instanceof Collection || newValues instanceof Object[])) {
+                    return merge.apply(newValues);
+                }
+                Collection<?> elements = elements(newValues);
+                Object[] array = (Object[]) Array.newInstance(componentType, elements.size());
+                int i = 0;
+                for (Object element : elements) {
+                    array[i++] = coercion.apply(element);
+                }
+                return array;
+            };
+        }
+
+        Function<Integer, Collection<Object>> collectionFactory;
+        if (Vector.class.isAssignableFrom(parameterType) || SortedSet.class.isAssignableFrom(parameterType)) {
+            return merge;
+        } else if (List.class.isAssignableFrom(parameterType)) {
+            collectionFactory = ArrayList::new;
+        } else if (Set.class.isAssignableFrom(parameterType)) {
+            collectionFactory = size -> new HashSet<>(Math.max((int) (size / .75f) + 1, 16));
+        } else {
+            return merge;
+        }
+        return newValues -> {
+            if (!(newValues instanceof Collection || newValues instanceof Object[])) {
+                return merge.apply(newValues);
+            }
+            Collection<?> elements = elements(newValues);
+            Collection<Object> collection = collectionFactory.apply(elements.size());
+            for (Object element : elements) {
+                collection.add(coercion.apply(element));
+            }
+            return collection;
+        };
+    }
+
+    private static Collection<?> elements(Object values) {
+        return values instanceof Collection ? (Collection<?>) values : Arrays.asList((Object[]) values);
+    }
+
     private static Collection<?> createCollection(Class<?> parameterType, Collection collection, Collection hydrated,
         Class elementType) {
         if (Vector.class.isAssignableFrom(parameterType)) {
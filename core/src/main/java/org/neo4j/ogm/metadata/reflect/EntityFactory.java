@@ -11,10 +11,12 @@
 
 package org.neo4j.ogm.metadata.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.neo4j.ogm.exception.core.BaseClassNotFoundException;
 import org.neo4j.ogm.exception.core.MappingException;
@@ -30,7 +32,23 @@ import org.neo4j.ogm.model.Node;
  */
 public class EntityFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
+    /**
+     * Default constructors, shared by all factories. Resolving and unlocking a constructor is done once per class,
+     * instantiating an entity afterwards only invokes the handle.
+     */
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Constructor<?> defaultConstructor = type.getDeclaredConstructor();
+                defaultConstructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(defaultConstructor)
+                    .asType(MethodType.methodType(Object.class));
+            } catch (RuntimeException | ReflectiveOperationException e) {
+                throw new MappingException("Unable to instantiate " + type, e);
+            }
+        }
+    };
 
     private final MetaData metadata;
 
@@ -98,35 +116,25 @@ public class EntityFactory {
             throw new BaseClassNotFoundException("<null>");
         }
 
-        String fqn = resolve(taxa);
+        ClassInfo classInfo = metadata.resolve(taxa);
+        if (classInfo == null) {
+            throw new BaseClassNotFoundException(Arrays.toString(taxa));
+        }
 
         @SuppressWarnings("unchecked")
-        Class<T> loadedClass = (Class<T>) metadata.classInfo(fqn).getUnderlyingClass();
+        Class<T> loadedClass = (Class<T>) classInfo.getUnderlyingClass();
         return instantiate(loadedClass);
     }
 
-    private String resolve(String... taxa) {
-
-        String fqn = taxaLeafClass.get(Arrays.toString(taxa));
-
-        if (fqn == null) {
-            ClassInfo classInfo = metadata.resolve(taxa);
-            if (classInfo != null) {
-                taxaLeafClass.put(Arrays.toString(taxa), fqn = classInfo.name());
-            } else {
-                throw new BaseClassNotFoundException(Arrays.toString(taxa));
-            }
-        }
-        return fqn;
-    }
-
     private static <T> T instantiate(Class<T> loadedClass) {
+        MethodHandle constructor = CONSTRUCTORS.get(loadedClass);
         try {
-            Constructor<T> defaultConstructor = loadedClass.getDeclaredConstructor();
-            defaultConstructor.setAccessible(true);
-            return defaultConstructor.newInstance();
-        } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
-            throw new MappingException("Unable to instantiate " + loadedClass, e);
+            return loadedClass.cast((Object) constructor.invokeExact());
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // whatever else the handle throws comes from the constructor itself, reported like Constructor#newInstance does
+            throw new MappingException("Unable to instantiate " + loadedClass, new InvocationTargetException(e));
         }
     }
 }
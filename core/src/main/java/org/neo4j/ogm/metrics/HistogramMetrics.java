@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * {@link Metrics} keeping the measurements in memory, in a {@link Histogram} per measurement and per operation, to be
+ * read by the application or exported to a monitoring system.
+ */
+public class HistogramMetrics implements Metrics {
+
+    private final Map<Operation, OperationMetrics> operations = new EnumMap<>(Operation.class);
+    private final Map<Transaction.Type, Histogram> committedTransactions = new EnumMap<>(Transaction.Type.class);
+    private final Map<Transaction.Type, Histogram> rolledBackTransactions = new EnumMap<>(Transaction.Type.class);
+
+    public HistogramMetrics() {
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new OperationMetrics());
+        }
+        for (Transaction.Type type : Transaction.Type.values()) {
+            committedTransactions.put(type, new Histogram());
+            rolledBackTransactions.put(type, new Histogram());
+        }
+    }
+
+    @Override
+    public void compiled(Operation operation, long nanos) {
+        operations.get(operation).compilation.record(nanos);
+    }
+
+    @Override
+    public void requestCompleted(Operation operation, long nanos, long records) {
+        OperationMetrics metrics = operations.get(operation);
+        metrics.requests.record(nanos);
+        metrics.records.add(records);
+    }
+
+    @Override
+    public void mapped(Operation operation, long nanos, long entities) {
+        OperationMetrics metrics = operations.get(operation);
+        metrics.mapping.record(nanos);
+        metrics.entities.add(entities);
+    }
+
+    @Override
+    public void dirtyChecked(Operation operation, long nanos, int entities) {
+        operations.get(operation).dirtyChecks.record(nanos);
+    }
+
+    @Override
+    public void transactionCompleted(Transaction.Type type, long nanos, boolean committed) {
+        (committed ? committedTransactions : rolledBackTransactions).get(type).record(nanos);
+    }
+
+    /**
+     * @param operation the operation
+     * @return times spent building the cypher statements of the operation
+     */
+    public Histogram getCompilationTimes(Operation operation) {
+        return operations.get(operation).compilation;
+    }
+
+    /**
+     * @param operation the operation
+     * @return times spent in the driver by the requests of the operation
+     */
+    public Histogram getRequestTimes(Operation operation) {
+        return operations.get(operation).requests;
+    }
+
+    /**
+     * @param operation the operation
+     * @return times spent mapping the responses of the operation
+     */
+    public Histogram getMappingTimes(Operation operation) {
+        return operations.get(operation).mapping;
+    }
+
+    /**
+     * @param operation the operation
+     * @return times spent checking the entities to save for changes
+     */
+    public Histogram getDirtyCheckTimes(Operation operation) {
+        return operations.get(operation).dirtyChecks;
+    }
+
+    /**
+     * @param operation the operation
+     * @return number of records received by the requests of the operation
+     */
+    public long getRecords(Operation operation) {
+        return operations.get(operation).records.sum();
+    }
+
+    /**
+     * @param operation the operation
+     * @return number of entities registered in the mapping context by the operation
+     */
+    public long getEntities(Operation operation) {
+        return operations.get(operation).entities.sum();
+    }
+
+    /**
+     * @param type      the type of the transactions
+     * @param committed true for the committed transactions, false for the rolled back ones
+     * @return durations of the transactions
+     */
+    public Histogram getTransactionTimes(Transaction.Type type, boolean committed) {
+        return (committed ? committedTransactions : rolledBackTransactions).get(type);
+    }
+
+    /**
+     * Forgets all measurements.
+     */
+    public void reset() {
+        for (OperationMetrics metrics : operations.values()) {
+            metrics.reset();
+        }
+        committedTransactions.values().forEach(Histogram::reset);
+        rolledBackTransactions.values().forEach(Histogram::reset);
+    }
+
+    private static final class OperationMetrics {
+
+        private final Histogram compilation = new Histogram();
+        private final Histogram requests = new Histogram();
+        private final Histogram mapping = new Histogram();
+        private final Histogram dirtyChecks = new Histogram();
+        private final LongAdder records = new LongAdder();
+        private final LongAdder entities = new LongAdder();
+
+        void reset() {
+            compilation.reset();
+            requests.reset();
+            mapping.reset();
+            dirtyChecks.reset();
+            records.reset();
+            entities.reset();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metrics;
+
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Receives measurements of the work done by the sessions of a {@link org.neo4j.ogm.session.SessionFactory}, registered
+ * with {@link org.neo4j.ogm.session.SessionFactory#setMetrics(Metrics)}.
+ * <p>
+ * Methods are called on the thread doing the work, once the measured step is over, so implementations must be thread
+ * safe and cheap. All methods do nothing by default. Durations are in nanoseconds.
+ *
+ * @see HistogramMetrics
+ */
+public interface Metrics {
+
+    /**
+     * Metrics ignoring all measurements, used when no metrics are registered.
+     */
+    Metrics NOOP = new Metrics() {
+    };
+
+    /**
+     * Cypher statements have been built for an operation: the query of a load, or the statements saving the changed
+     * entities, excluding the time spent checking them for changes.
+     *
+     * @param operation the operation
+     * @param nanos     time spent building the statements
+     */
+    default void compiled(Operation operation, long nanos) {
+    }
+
+    /**
+     * A request sent to the database has been completed, and its response closed.
+     *
+     * @param operation the operation
+     * @param nanos     time spent in the driver: sending the request and reading its response
+     * @param records   number of records read from the response
+     */
+    default void requestCompleted(Operation operation, long nanos, long records) {
+    }
+
+    /**
+     * The response of a request has been consumed.
+     *
+     * @param operation the operation
+     * @param nanos     time the response was open, excluding the time spent in the driver: for loads and queries,
+     *                  the time spent mapping the records onto entities
+     * @param entities  number of entities registered in the mapping context while the response was open: for loads
+     *                  and queries, the number of entities materialized
+     */
+    default void mapped(Operation operation, long nanos, long entities) {
+    }
+
+    /**
+     * Entities to save have been checked for changes.
+     *
+     * @param operation the operation
+     * @param nanos     time spent checking the entities
+     * @param entities  number of entities checked
+     */
+    default void dirtyChecked(Operation operation, long nanos, int entities) {
+    }
+
+    /**
+     * A transaction has been committed or rolled back.
+     *
+     * @param type      the type of the transaction
+     * @param nanos     time since the transaction was opened
+     * @param committed true if the transaction was committed, false if it was rolled back
+     */
+    default void transactionCompleted(Transaction.Type type, long nanos, boolean committed) {
+    }
+}
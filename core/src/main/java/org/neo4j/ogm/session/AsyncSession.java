@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.model.Result;
+
+/**
+ * Operations of a {@link Session} that do not block the calling thread, as returned by {@link Session#async()}.
+ * <p>
+ * Each operation runs in its own transaction of the driver, whose requests are sent and whose results are received
+ * without a thread waiting for them, so the number of operations in flight is not bounded by the number of threads.
+ * Once the result of an operation has been received, it is mapped into the mapping context of the session and the
+ * returned stage is completed, usually on a thread of the driver: dependent stages that block should be run with
+ * an executor of their own.
+ * <p>
+ * Many operations of an asynchronous session may be in flight at the same time, their results are mapped one at a
+ * time. The synchronous operations of the session must not be used while asynchronous operations are in flight.
+ * Asynchronous operations do not take part in the transaction opened by {@link Session#beginTransaction()}.
+ * Asynchronous sessions require a driver supporting asynchronous transactions, such as the Bolt driver, other
+ * drivers throw {@link UnsupportedOperationException}.
+ */
+public interface AsyncSession {
+
+    /**
+     * @see Session#load(Class, Serializable)
+     */
+    <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id);
+
+    /**
+     * @see Session#load(Class, Serializable, int)
+     */
+    <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id, int depth);
+
+    /**
+     * @see Session#loadAll(Class)
+     */
+    <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type);
+
+    /**
+     * @see Session#loadAll(Class, int)
+     */
+    <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, int depth);
+
+    /**
+     * @see Session#loadAll(Class, Filters, int)
+     */
+    <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, Filters filters, int depth);
+
+    /**
+     * Keyset pagination is not supported by asynchronous loads.
+     *
+     * @see Session#loadAll(Class, Filters, SortOrder, Pagination, int)
+     */
+    <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, Filters filters, SortOrder sortOrder,
+        Pagination pagination, int depth);
+
+    /**
+     * @see Session#query(Class, String, Map)
+     */
+    <T> CompletionStage<Iterable<T>> queryAsync(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    /**
+     * @see Session#query(String, Map)
+     */
+    CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters);
+
+    /**
+     * @see Session#query(String, Map, boolean)
+     */
+    CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters, boolean readOnly);
+
+    /**
+     * @see Session#save(Object)
+     */
+    <T> CompletionStage<Void> saveAsync(T object);
+
+    /**
+     * The changes of the objects are mapped when this method is called, later changes are not saved.
+     *
+     * @see Session#save(Object, int)
+     */
+    <T> CompletionStage<Void> saveAsync(T object, int depth);
+}
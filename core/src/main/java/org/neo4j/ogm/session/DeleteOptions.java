@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.session;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Options of {@link Session#deleteAll(Class, DeleteOptions)}.
+ * <p>
+ * The entities are deleted in batches of at most {@link #getBatchSize()} entities, one statement per batch, so that
+ * the changes held by the database for a batch stay bounded. When no transaction is open, the batches are deleted in
+ * transactions committed every {@link #getCommitEvery()} batches.
+ */
+public class DeleteOptions {
+
+    public static final int DEFAULT_BATCH_SIZE = 10000;
+
+    private static final LongConsumer NO_PROGRESS_LISTENER = deleted -> {
+    };
+
+    private final int batchSize;
+    private final int commitEvery;
+    private final LongConsumer progressListener;
+
+    private DeleteOptions(Builder builder) {
+        this.batchSize = builder.batchSize;
+        this.commitEvery = builder.commitEvery;
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * @return options deleting the entities in batches of {@link #DEFAULT_BATCH_SIZE} entities, one transaction per
+     * batch
+     */
+    public static DeleteOptions defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * @return the maximum number of entities deleted by one statement
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the number of batches deleted in each transaction, 0 to delete all the batches in a single transaction
+     */
+    public int getCommitEvery() {
+        return commitEvery;
+    }
+
+    /**
+     * @return the listener called after each batch with the number of entities deleted so far
+     */
+    public LongConsumer getProgressListener() {
+        return progressListener;
+    }
+
+    @Override
+    public String toString() {
+        return "DeleteOptions{" +
+            "batchSize=" + batchSize +
+            ", commitEvery=" + commitEvery +
+            '}';
+    }
+
+    public static class Builder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int commitEvery = 1;
+        private LongConsumer progressListener = NO_PROGRESS_LISTENER;
+
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Commits the transaction every given number of batches. Committed batches are not rolled back when a later
+         * batch fails, and their entities are detached from the session once committed, so only the entities of the
+         * committed batches are detached when a later batch fails. Ignored when the delete is part of a transaction
+         * opened by the caller.
+         *
+         * @param commitEvery number of batches per transaction, 0 to delete all the batches in a single transaction
+         * @return this builder
+         */
+        public Builder commitEvery(int commitEvery) {
+            if (commitEvery < 0) {
+                throw new IllegalArgumentException("Number of batches per transaction must not be negative: "
+                    + commitEvery);
+            }
+            this.commitEvery = commitEvery;
+            return this;
+        }
+
+        /**
+         * @param progressListener called after each batch with the number of entities deleted so far
+         * @return this builder
+         */
+        public Builder progressListener(LongConsumer progressListener) {
+            if (progressListener == null) {
+                throw new IllegalArgumentException("Progress listener must not be null");
+            }
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        public DeleteOptions build() {
+            return new DeleteOptions(this);
+        }
+    }
+}
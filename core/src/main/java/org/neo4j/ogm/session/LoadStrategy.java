@@ -30,5 +30,13 @@ public enum LoadStrategy {
      * entity classes
      * NOTE: Does not support queries with unlimited depth
      */
-    SCHEMA_LOAD_STRATEGY;
+    SCHEMA_LOAD_STRATEGY,
+
+    /**
+     * Load strategy which fetches the matched nodes first, then each level of related nodes with a request matching
+     * the nodes of the previous level by id, resulting into one request per level of depth, each returning the nodes
+     * it loads once.
+     * NOTE: Asynchronous loads and loads of relationship entities use the path load strategy
+     */
+    BREADTH_FIRST_LOAD_STRATEGY;
 }
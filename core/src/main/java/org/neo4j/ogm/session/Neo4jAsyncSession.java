@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.delegates.ExecuteQueriesDelegate;
+import org.neo4j.ogm.session.delegates.LoadByTypeDelegate;
+import org.neo4j.ogm.session.delegates.LoadOneDelegate;
+import org.neo4j.ogm.session.delegates.SaveDelegate;
+import org.neo4j.ogm.session.event.Event;
+
+/**
+ * {@link AsyncSession} of a {@link Neo4jSession}. Results are mapped while holding the lock of the mapping context
+ * of the session.
+ */
+class Neo4jAsyncSession implements AsyncSession {
+
+    private final Neo4jSession session;
+    private final LoadOneDelegate loadOneHandler;
+    private final LoadByTypeDelegate loadByTypeHandler;
+    private final ExecuteQueriesDelegate executeQueriesDelegate;
+    private final SaveDelegate saveDelegate;
+
+    Neo4jAsyncSession(Neo4jSession session) {
+        this.session = session;
+        this.loadOneHandler = new LoadOneDelegate(session);
+        this.loadByTypeHandler = new LoadByTypeDelegate(session);
+        this.executeQueriesDelegate = new ExecuteQueriesDelegate(session);
+        this.saveDelegate = new SaveDelegate(session);
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id) {
+        return loadOneHandler.loadAsync(type, id, 1);
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id, int depth) {
+        return loadOneHandler.loadAsync(type, id, depth);
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type) {
+        return loadByTypeHandler.loadAllAsync(type, new Filters(), new SortOrder(), null, 1);
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, int depth) {
+        return loadByTypeHandler.loadAllAsync(type, new Filters(), new SortOrder(), null, depth);
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, Filters filters, int depth) {
+        return loadByTypeHandler.loadAllAsync(type, filters, new SortOrder(), null, depth);
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, Filters filters, SortOrder sortOrder,
+        Pagination pagination, int depth) {
+        return loadByTypeHandler.loadAllAsync(type, filters, sortOrder, pagination, depth);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> queryAsync(Class<T> objectType, String cypher,
+        Map<String, ?> parameters) {
+        return executeQueriesDelegate.queryAsync(objectType, cypher, parameters);
+    }
+
+    @Override
+    public CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.queryAsync(cypher, parameters);
+    }
+
+    @Override
+    public CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters, boolean readOnly) {
+        return executeQueriesDelegate.queryAsync(cypher, parameters, readOnly);
+    }
+
+    @Override
+    public <T> CompletionStage<Void> saveAsync(T object) {
+        return saveAsync(object, -1); // default : full tree of changed objects
+    }
+
+    @Override
+    public <T> CompletionStage<Void> saveAsync(T object, int depth) {
+        // the save runs outside of the transaction and operation of the session, so its events are handed over to
+        // the event dispatcher here, once committed
+        List<Event> dispatchedEvents = new ArrayList<>();
+        return saveDelegate.saveAsync(object, depth, event -> session.notifyListeners(event, dispatchedEvents))
+            .thenRun(() -> {
+                if (!dispatchedEvents.isEmpty()) {
+                    session.eventDispatcher().dispatch(dispatchedEvents);
+                }
+            });
+    }
+}
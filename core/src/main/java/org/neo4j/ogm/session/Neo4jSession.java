@@ -16,15 +16,22 @@ package org.neo4j.ogm.session;
 import static java.util.Collections.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.StartNode;
+import org.neo4j.ogm.cache.EntityCache;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
@@ -36,6 +43,8 @@ import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metrics.Metrics;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.session.delegates.DeleteDelegate;
@@ -46,15 +55,19 @@ import org.neo4j.ogm.session.delegates.LoadByInstancesDelegate;
 import org.neo4j.ogm.session.delegates.LoadByTypeDelegate;
 import org.neo4j.ogm.session.delegates.LoadOneDelegate;
 import org.neo4j.ogm.session.delegates.SaveDelegate;
+import org.neo4j.ogm.session.event.AsyncEventDispatcher;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.request.InstrumentedRequest;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.LoadClauseCache;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.PathLoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.SchemaLoadClauseBuilder;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.transaction.AsyncTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.RelationshipUtils;
 import org.slf4j.Logger;
@@ -82,30 +95,50 @@ public class Neo4jSession implements Session {
     private final DeleteDelegate deleteDelegate = new DeleteDelegate(this);
     private final ExecuteQueriesDelegate executeQueriesDelegate = new ExecuteQueriesDelegate(this);
     private final GraphIdDelegate graphIdDelegate = new GraphIdDelegate(this);
+    private final AsyncSession asyncSession = new Neo4jAsyncSession(this);
 
     private LoadStrategy loadStrategy;
+    private final LoadClauseCache loadClauseCache;
+    private final Metrics metrics;
+    private final EntityCache entityCache;
 
     private Driver driver;
-    private String bookmark;
+    // also updated by the driver threads committing asynchronous transactions
+    private volatile String bookmark;
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
+    private final AsyncEventDispatcher eventDispatcher;
+    // events for the event dispatcher, of the current transaction and of the current save or delete outside of a
+    // transaction
+    private Transaction eventsTransaction;
+    private List<Event> transactionEvents;
+    private List<Event> operationEvents;
 
     public Neo4jSession(MetaData metaData, Driver driver) {
+        this(metaData, driver, new SessionSettings(emptyList(), LoadStrategy.PATH_LOAD_STRATEGY));
+    }
+
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners,
+        LoadStrategy loadStrategy) {
+        this(metaData, driver, new SessionSettings(eventListeners, loadStrategy));
+    }
+
+    /**
+     * @param settings settings and collaborators of the session, usually shared by the sessions of a session factory
+     */
+    Neo4jSession(MetaData metaData, Driver driver, SessionSettings settings) {
 
         this.metaData = metaData;
         this.driver = driver;
 
         this.mappingContext = new MappingContext(metaData);
         this.txManager = new DefaultTransactionManager(this, driver);
-        this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
-    }
-
-    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners,
-        LoadStrategy loadStrategy) {
-        this(metaData, driver);
-        registeredEventListeners.addAll(eventListeners);
-
-        this.loadStrategy = loadStrategy;
+        this.loadStrategy = settings.loadStrategy;
+        this.loadClauseCache = settings.loadClauseCache;
+        this.metrics = settings.metrics;
+        this.entityCache = settings.entityCache;
+        this.eventDispatcher = settings.eventDispatcher;
+        registeredEventListeners.addAll(settings.eventListeners);
     }
 
     @Override
@@ -116,6 +149,22 @@ public class Neo4jSession implements Session {
 
     @Override
     public void notifyListeners(Event event) {
+        notifyRegisteredListeners(event);
+        if (eventDispatcher != null && eventDispatcher.hasListeners()) {
+            collectEvent(event);
+        }
+    }
+
+    // notifies the listeners of an event fired by an asynchronous operation, collecting it for the event dispatcher
+    // in the events of the operation, which are handed over once it is committed
+    void notifyListeners(Event event, List<Event> dispatchedEvents) {
+        notifyRegisteredListeners(event);
+        if (eventDispatcher != null && eventDispatcher.hasListeners()) {
+            dispatchedEvents.add(event);
+        }
+    }
+
+    private void notifyRegisteredListeners(Event event) {
         for (EventListener eventListener : registeredEventListeners) {
             switch (event.getLifeCycle()) {
                 case PRE_SAVE:
@@ -138,7 +187,57 @@ public class Neo4jSession implements Session {
 
     @Override
     public boolean eventsEnabled() {
-        return registeredEventListeners.size() > 0;
+        return registeredEventListeners.size() > 0 || (eventDispatcher != null && eventDispatcher.hasListeners());
+    }
+
+    /**
+     * @return dispatcher delivering the events to its listeners once they are committed, or null
+     */
+    public AsyncEventDispatcher eventDispatcher() {
+        return eventDispatcher;
+    }
+
+    // collects an event for the event dispatcher, until its transaction is committed or its operation returns
+    private void collectEvent(Event event) {
+        Transaction transaction = getTransaction();
+        if (transaction != null) {
+            if (transaction != eventsTransaction) {
+                List<Event> events = new ArrayList<>();
+                txManager.afterCommit(() -> eventDispatcher.dispatch(events));
+                eventsTransaction = transaction;
+                transactionEvents = events;
+            }
+            transactionEvents.add(event);
+        } else if (operationEvents != null) {
+            operationEvents.add(event);
+        } else {
+            eventDispatcher.dispatch(singletonList(event));
+        }
+    }
+
+    /**
+     * Runs a save or delete, handing over the events it fired outside of a transaction to the event dispatcher once
+     * it returns. The events fired in a transaction are handed over when the transaction is committed.
+     */
+    private <R> R dispatchingEvents(Supplier<R> operation) {
+        if (eventDispatcher == null || operationEvents != null) {
+            return operation.get();
+        }
+        operationEvents = new ArrayList<>();
+        try {
+            R result = operation.get();
+            eventDispatcher.dispatch(operationEvents);
+            return result;
+        } finally {
+            operationEvents = null;
+        }
+    }
+
+    private void dispatchingEvents(Runnable operation) {
+        dispatchingEvents(() -> {
+            operation.run();
+            return null;
+        });
     }
 
     @Override
@@ -295,6 +394,17 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return loadByTypeHandler.stream(type, filters, depth);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth,
+        boolean registerEntities) {
+        return loadByTypeHandler.stream(type, filters, sortOrder, depth, registerEntities);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByIdsHandler (no filters yet)
@@ -404,6 +514,17 @@ public class Neo4jSession implements Session {
         return executeQueriesDelegate.query(type, cypher, parameters);
     }
 
+    @Override
+    public <T> Stream<T> queryStream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.queryStream(type, cypher, parameters, true);
+    }
+
+    @Override
+    public <T> Stream<T> queryStream(Class<T> type, String cypher, Map<String, ?> parameters,
+        boolean registerEntities) {
+        return executeQueriesDelegate.queryStream(type, cypher, parameters, registerEntities);
+    }
+
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
         return executeQueriesDelegate.query(cypher, parameters);
@@ -441,17 +562,22 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> void delete(T object) {
-        deleteDelegate.delete(object);
+        dispatchingEvents(() -> deleteDelegate.delete(object));
     }
 
     @Override
     public <T> void deleteAll(Class<T> type) {
-        deleteDelegate.deleteAll(type);
+        dispatchingEvents(() -> deleteDelegate.deleteAll(type));
+    }
+
+    @Override
+    public <T> long deleteAll(Class<T> type, DeleteOptions options) {
+        return dispatchingEvents(() -> deleteDelegate.deleteAll(type, options));
     }
 
     @Override
     public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
-        return deleteDelegate.delete(type, filters, listResults);
+        return dispatchingEvents(() -> deleteDelegate.delete(type, filters, listResults));
     }
 
     /*
@@ -461,12 +587,27 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> void save(T object) {
-        saveDelegate.save(object);
+        dispatchingEvents(() -> saveDelegate.save(object));
     }
 
     @Override
     public <T> void save(T object, int depth) {
-        saveDelegate.save(object, depth);
+        dispatchingEvents(() -> saveDelegate.save(object, depth));
+    }
+
+    @Override
+    public <T> void saveAll(Iterable<T> objects, SaveOptions options) {
+        dispatchingEvents(() -> saveDelegate.saveAll(objects, options));
+    }
+
+    @Override
+    public void saveChanges() {
+        dispatchingEvents(saveDelegate::saveChanges);
+    }
+
+    @Override
+    public AsyncSession async() {
+        return asyncSession;
     }
 
     /*
@@ -500,6 +641,51 @@ public class Neo4jSession implements Session {
         return txManager.getCurrentTransaction();
     }
 
+    /**
+     * Runs the given work in a new asynchronous transaction of the driver, starting from the last bookmark of this
+     * session. The transaction is committed once the stage returned by the work has completed, and rolled back if it
+     * has failed.
+     *
+     * @param type type of the transaction
+     * @param work requests to execute in the transaction
+     * @return stage completed with the result of the work once the transaction is committed
+     */
+    public <T> CompletionStage<T> inAsyncTransaction(Transaction.Type type,
+        Function<AsyncTransaction, CompletionStage<T>> work) {
+
+        Iterable<String> bookmarks = bookmark == null ? emptySet() : singleton(bookmark);
+        return driver.beginAsyncTransaction(type, bookmarks).thenCompose(tx -> {
+            CompletableFuture<T> done = new CompletableFuture<>();
+            CompletionStage<T> stage;
+            try {
+                stage = work.apply(tx);
+            } catch (RuntimeException e) {
+                CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                stage = failed;
+            }
+            stage.whenComplete((result, error) -> {
+                if (error == null) {
+                    tx.commit().whenComplete((ignored, commitError) -> {
+                        if (commitError == null) {
+                            String lastBookmark = tx.lastBookmark();
+                            if (lastBookmark != null) {
+                                withBookmark(lastBookmark);
+                            }
+                            done.complete(result);
+                        } else {
+                            done.completeExceptionally(commitError);
+                        }
+                    });
+                } else {
+                    // the failure of the work is reported rather than a failure to roll back
+                    tx.rollback().whenComplete((ignored, rollbackError) -> done.completeExceptionally(error));
+                }
+            });
+            return done;
+        });
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * GraphIdDelegate
@@ -545,6 +731,10 @@ public class Neo4jSession implements Session {
         return metaData;
     }
 
+    public LoadClauseCache loadClauseCache() {
+        return loadClauseCache;
+    }
+
     @Deprecated
     // TODO: Replace calls to this with a mockito test instead.
     // inject a custom driver
@@ -556,6 +746,73 @@ public class Neo4jSession implements Session {
         return driver.request();
     }
 
+    /**
+     * @param operation the operation the requests are executed for
+     * @return request of the driver, reporting to the metrics of this session when there are any
+     */
+    public Request requestHandler(Operation operation) {
+        return instrumented(driver.request(), operation);
+    }
+
+    /**
+     * @param operation the operation the requests are executed for
+     * @param type      type of the statements, which lets the driver route read only statements outside of a
+     *                  transaction to another server than the writes
+     * @return request of the driver, reporting to the metrics of this session when there are any
+     */
+    public Request requestHandler(Operation operation, Transaction.Type type) {
+        return instrumented(driver.request(type), operation);
+    }
+
+    private Request instrumented(Request request, Operation operation) {
+        if (metrics == Metrics.NOOP) {
+            return request;
+        }
+        return new InstrumentedRequest(request, operation, metrics, mappingContext);
+    }
+
+    public Metrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * @return cache of the loads by id of cacheable entities, or null if loads are not cached
+     */
+    public EntityCache entityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Evicts the cached loads containing the given nodes or relationship entities, which are being saved or deleted.
+     * When a transaction is open, they are evicted again once it completes, so that loads running meanwhile in other
+     * sessions are not cached with the state preceding the change.
+     *
+     * @param nodeIds               native ids of the nodes
+     * @param relationshipEntityIds native ids of the relationship entities
+     */
+    public void evictCached(Collection<Long> nodeIds, Collection<Long> relationshipEntityIds) {
+        if (entityCache == null) {
+            return;
+        }
+        entityCache.evict(nodeIds, relationshipEntityIds);
+        if (getTransaction() != null) {
+            txManager.afterCompletion(() -> entityCache.evict(nodeIds, relationshipEntityIds));
+        }
+    }
+
+    /**
+     * Evicts all the cached loads, when entities have been changed without knowing which ones.
+     */
+    public void evictAllCached() {
+        if (entityCache == null) {
+            return;
+        }
+        entityCache.clear();
+        if (getTransaction() != null) {
+            txManager.afterCompletion(entityCache::clear);
+        }
+    }
+
     public DefaultTransactionManager transactionManager() {
         return txManager;
     }
@@ -600,6 +857,10 @@ public class Neo4jSession implements Session {
         if (sortOrder != null) {
             for (SortClause sortClause : sortOrder.sortClauses()) {
                 for (int i = 0; i < sortClause.getProperties().length; i++) {
+                    // a sort order reused across queries (e.g. to load consecutive pages) is already resolved
+                    if (sortClause.getProperties()[i].startsWith("`")) {
+                        continue;
+                    }
                     sortClause.getProperties()[i] = String
                         .format(escapedProperty, resolvePropertyName(entityType, sortClause.getProperties()[i]));
                 }
@@ -664,15 +925,17 @@ public class Neo4jSession implements Session {
 
     private LoadClauseBuilder loadClauseBuilder(int depth) {
         if (depth < 0) {
-            return new PathLoadClauseBuilder();
+            return loadClauseCache.cached(LoadStrategy.PATH_LOAD_STRATEGY, new PathLoadClauseBuilder());
         }
 
         switch (loadStrategy) {
             case PATH_LOAD_STRATEGY:
-                return new PathLoadClauseBuilder();
+            case BREADTH_FIRST_LOAD_STRATEGY:
+                // breadth first loads query the matched nodes only, see BreadthFirstLoader
+                return loadClauseCache.cached(LoadStrategy.PATH_LOAD_STRATEGY, new PathLoadClauseBuilder());
 
             case SCHEMA_LOAD_STRATEGY:
-                return new SchemaLoadClauseBuilder(metaData.getSchema());
+                return loadClauseCache.cached(loadStrategy, new SchemaLoadClauseBuilder(metaData.getSchema()));
 
             default:
                 throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
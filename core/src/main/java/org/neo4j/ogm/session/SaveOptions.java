@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+/**
+ * Options of {@link Session#saveAll(Iterable, SaveOptions)}.
+ * <p>
+ * The objects are saved in chunks of {@link #getChunkSize()} objects. All the objects of a chunk are mapped together,
+ * so that the new nodes and relationships of the chunk are created by one UNWIND statement per label or type.
+ * When no transaction is open, the chunks are saved in transactions committed every {@link #getCommitEvery()}
+ * chunks.
+ * <p>
+ * The chunk size counts the objects of the iterable only: a chunk also maps every object reachable from them up to
+ * {@link #getDepth()}, so it can hold many more entities than its size. Saved entities and relationships stay in the
+ * mapping context of the session, so by default the memory used by the session grows with the total number of saved
+ * objects. With {@link #isClearSession()}, the session is cleared once each chunk is saved and holds at most one
+ * chunk: its objects and the objects reachable from them up to the depth. The memory held by the iterable itself is
+ * up to the caller.
+ */
+public class SaveOptions {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final int depth;
+    private final int chunkSize;
+    private final int commitEvery;
+    private final boolean clearSession;
+
+    private SaveOptions(Builder builder) {
+        this.depth = builder.depth;
+        this.chunkSize = builder.chunkSize;
+        this.commitEvery = builder.commitEvery;
+        this.clearSession = builder.clearSession;
+    }
+
+    /**
+     * @return options saving the full tree of changed objects, in chunks of {@link #DEFAULT_CHUNK_SIZE} objects, in a
+     * single transaction
+     */
+    public static SaveOptions defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * @return the depth up to which the related objects of each saved object are saved, -1 for no limit
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return the number of objects mapped and saved together
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return the number of chunks saved in each transaction, 0 to save all the chunks in a single transaction
+     */
+    public int getCommitEvery() {
+        return commitEvery;
+    }
+
+    /**
+     * @return whether the session is cleared once each chunk is saved
+     */
+    public boolean isClearSession() {
+        return clearSession;
+    }
+
+    @Override
+    public String toString() {
+        return "SaveOptions{" +
+            "depth=" + depth +
+            ", chunkSize=" + chunkSize +
+            ", commitEvery=" + commitEvery +
+            ", clearSession=" + clearSession +
+            '}';
+    }
+
+    public static class Builder {
+
+        private int depth = -1;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int commitEvery = 0;
+        private boolean clearSession = false;
+
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Commits the transaction every given number of chunks. Committed chunks are not rolled back when a later
+         * chunk fails. Ignored when the save is part of a transaction opened by the caller.
+         *
+         * @param commitEvery number of chunks per transaction, 0 to save all the chunks in a single transaction
+         * @return this builder
+         */
+        public Builder commitEvery(int commitEvery) {
+            if (commitEvery < 0) {
+                throw new IllegalArgumentException("Number of chunks per transaction must not be negative: "
+                    + commitEvery);
+            }
+            this.commitEvery = commitEvery;
+            return this;
+        }
+
+        /**
+         * Clears the session once each chunk is saved, and committed when the chunk ends a transaction, so that the
+         * memory used by the session is bounded by one chunk. As with {@link Session#clear()}, all the objects known
+         * to the session are detached, including those loaded before the save: saving them again writes all their
+         * properties and relationships, and the objects of a later chunk that reference an object of an earlier
+         * chunk save it again.
+         *
+         * @param clearSession true to clear the session after each chunk
+         * @return this builder
+         */
+        public Builder clearSession(boolean clearSession) {
+            this.clearSession = clearSession;
+            return this;
+        }
+
+        public SaveOptions build() {
+            return new SaveOptions(this);
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.neo4j.ogm.session;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.GraphId;
 import org.neo4j.ogm.cypher.Filter;
@@ -482,6 +483,37 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Stream all node entities of type, filtered by filters.
+     * The entities are mapped lazily, one result record at a time, while the stream is consumed, and are registered
+     * in the session like entities returned by {@code loadAll}.
+     * The related entities are always fetched as described by {@link LoadStrategy#SCHEMA_LOAD_STRATEGY}.
+     * If no transaction is open, a new one is opened for the lifetime of the stream, so the stream must be closed
+     * (e.g. with try-with-resources) when it is not fully consumed.
+     *
+     * @param type    type of entities
+     * @param filters filters
+     * @param depth   depth, must not be negative
+     * @return stream of entities
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, int depth);
+
+    /**
+     * Stream all node entities of type, filtered by filters.
+     * See {@link #stream(Class, Filters, int)}.
+     * When {@code registerEntities} is false, the streamed entities are not registered in the session, so a stream
+     * of any length can be consumed with a bounded amount of memory. Such entities are detached: an entity
+     * returned by two records is returned as two distinct instances, and saving them updates all their properties.
+     *
+     * @param type             type of entities
+     * @param filters          filters
+     * @param sortOrder        sort order
+     * @param depth            depth, must not be negative
+     * @param registerEntities true if the streamed entities should be registered in the session
+     * @return stream of entities
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth, boolean registerEntities);
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -514,6 +546,39 @@ public interface Session {
      */
     <T> void save(T object, int depth);
 
+    /**
+     * Save entities into the database, in chunks.
+     * The objects of a chunk are mapped together and new nodes and relationships of the chunk are created by one
+     * statement per label or type, so large numbers of objects can be saved with few statements.
+     * The objects are consumed from the iterable as they are saved, so they can be produced lazily.
+     * When no transaction is open, the chunks are saved in transactions committed as specified by the options,
+     * otherwise they are saved in the open transaction.
+     * Saved objects stay in the session unless the options clear it after each chunk, see {@link SaveOptions}.
+     *
+     * @param objects entities to save
+     * @param options depth, chunk size, number of chunks per transaction and clearing of the session
+     */
+    <T> void saveAll(Iterable<T> objects, SaveOptions options);
+
+    /**
+     * Save the changes made to the entities of this session since they were loaded or saved.
+     * The changed entities are found by checking each entity of the session rather than by walking the object graph,
+     * and only the changed entities, the entities at the other end of their added or removed relationships and the
+     * new entities they reference are mapped. Finding the changes still hashes the properties and reads the
+     * relationship fields of every entity of the session, but saving a few changes to a large loaded object graph is
+     * much cheaper than saving it from its root.
+     * New entities are saved only when referenced by a changed entity.
+     */
+    void saveChanges();
+
+    /**
+     * Returns the asynchronous operations of this session, which share its mapping context.
+     *
+     * @return asynchronous view of this session
+     * @see AsyncSession
+     */
+    AsyncSession async();
+
     /**
      * Delete entity (or entities)
      *
@@ -528,6 +593,18 @@ public interface Session {
      */
     <T> void deleteAll(Class<T> type);
 
+    /**
+     * Delete all entities of type, in batches.
+     * Each batch is deleted by one statement, so large numbers of entities can be deleted without holding all the
+     * changes in a single transaction. When no transaction is open, the batches are deleted in transactions committed
+     * as specified by the options, otherwise they are deleted in the open transaction.
+     *
+     * @param type    type of the entities to delete
+     * @param options batch size, number of batches per transaction and progress listener
+     * @return number of deleted entities
+     */
+    <T> long deleteAll(Class<T> type, DeleteOptions options);
+
     /**
      * Delete all entities of type matching filter
      *
@@ -629,6 +706,36 @@ public interface Session {
      */
     <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * a cypher statement this method will return a lazily mapped stream of domain objects or scalars
+     * (depending on the parametrized type), see {@link #query(Class, String, Map)}.
+     * The records are pulled from the response one at a time while the stream is consumed.
+     * If no transaction is open, a new one is opened for the lifetime of the stream, so the stream must be closed
+     * (e.g. with try-with-resources) when it is not fully consumed.
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher     The parametrizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T>        A domain object or scalar.
+     * @return A stream of domain objects or scalars as prescribed by the parametrized type.
+     */
+    <T> Stream<T> queryStream(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    /**
+     * a cypher statement this method will return a lazily mapped stream of domain objects or scalars
+     * (depending on the parametrized type), see {@link #queryStream(Class, String, Map)}.
+     * When {@code registerEntities} is false, the domain objects are not registered in the session and are mapped
+     * from each record in isolation, so a stream of any length can be consumed with a bounded amount of memory.
+     *
+     * @param objectType       The type that should be returned from the query.
+     * @param cypher           The parametrizable cypher to execute.
+     * @param parameters       Any parameters to attach to the cypher.
+     * @param registerEntities true if the domain objects should be registered in the session
+     * @param <T>              A domain object or scalar.
+     * @return A stream of domain objects or scalars as prescribed by the parametrized type.
+     */
+    <T> Stream<T> queryStream(Class<T> objectType, String cypher, Map<String, ?> parameters, boolean registerEntities);
+
     /**
      * a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
      * objects as properties, along with query statistics if applicable.
@@ -19,13 +19,17 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
+import org.neo4j.ogm.cache.EntityCache;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.core.ConfigurationException;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metrics.Metrics;
+import org.neo4j.ogm.session.event.AsyncEventDispatcher;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.request.strategy.impl.LoadClauseCache;
 
 /**
  * This is the main initialization point of OGM. Used to create {@link Session} instances for interacting with Neo4j.
@@ -41,8 +45,12 @@ public class SessionFactory {
     private final MetaData metaData;
     private final Driver driver;
     private final List<EventListener> eventListeners;
+    private final LoadClauseCache loadClauseCache = new LoadClauseCache();
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
+    private volatile Metrics metrics = Metrics.NOOP;
+    private volatile EntityCache entityCache;
+    private volatile AsyncEventDispatcher eventDispatcher;
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
@@ -81,6 +89,7 @@ public class SessionFactory {
         AutoIndexManager autoIndexManager = new AutoIndexManager(this.metaData, driver, configuration);
         autoIndexManager.build();
         this.eventListeners = new CopyOnWriteArrayList<>();
+        this.entityCache = defaultEntityCache(metaData);
     }
 
     private Driver newDriverInstance(String driverClassName) {
@@ -103,6 +112,16 @@ public class SessionFactory {
         this.metaData = new MetaData(packages);
         this.driver = driver;
         this.eventListeners = new CopyOnWriteArrayList<>();
+        this.entityCache = defaultEntityCache(metaData);
+    }
+
+    private static EntityCache defaultEntityCache(MetaData metaData) {
+        for (ClassInfo classInfo : metaData.persistentEntities()) {
+            if (classInfo.isCacheable()) {
+                return new EntityCache();
+            }
+        }
+        return null;
     }
 
     /**
@@ -122,7 +141,8 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy);
+        return new Neo4jSession(metaData, driver, new SessionSettings(eventListeners, loadStrategy, loadClauseCache,
+            metrics, entityCache, eventDispatcher));
     }
 
     /**
@@ -166,6 +186,78 @@ public class SessionFactory {
         this.loadStrategy = loadStrategy;
     }
 
+    /**
+     * Returns the cache of the load clauses of load queries, shared by the sessions of this SessionFactory.
+     * Its hit and miss counters tell how often load queries could reuse a cached load clause.
+     *
+     * @return load clause cache
+     */
+    public LoadClauseCache getLoadClauseCache() {
+        return loadClauseCache;
+    }
+
+    /**
+     * Returns the metrics receiving the measurements of the sessions of this SessionFactory
+     *
+     * @return metrics, {@link Metrics#NOOP} when none are registered
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Registers the metrics receiving the measurements of subsequently created sessions: the time spent building
+     * cypher statements, in the driver, mapping responses, checking entities for changes and in transactions.
+     *
+     * @param metrics metrics, {@link Metrics#NOOP} to stop measuring
+     * @see org.neo4j.ogm.metrics.HistogramMetrics
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = requireNonNull(metrics);
+    }
+
+    /**
+     * Returns the cache of the loads by id of {@link org.neo4j.ogm.annotation.Cacheable} entities, shared by the
+     * sessions of this SessionFactory. A cache with default settings is created when some of the mapped classes are
+     * cacheable.
+     *
+     * @return entity cache, or null if loads are not cached
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Sets the cache of the loads by id of {@link org.neo4j.ogm.annotation.Cacheable} entities, used by subsequently
+     * created sessions.
+     *
+     * @param entityCache entity cache, null to stop caching loads
+     */
+    public void setEntityCache(EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    /**
+     * Returns the dispatcher delivering the events of the sessions of this SessionFactory to its listeners once they
+     * are committed.
+     *
+     * @return event dispatcher, or null if none is set
+     */
+    public AsyncEventDispatcher getEventDispatcher() {
+        return eventDispatcher;
+    }
+
+    /**
+     * Sets the dispatcher delivering the events of subsequently created sessions to its listeners on background
+     * threads, once they are committed. Listeners registered on this SessionFactory are still called synchronously.
+     * The dispatcher is closed with this SessionFactory.
+     *
+     * @param eventDispatcher event dispatcher, null to stop dispatching events asynchronously
+     */
+    public void setEventDispatcher(AsyncEventDispatcher eventDispatcher) {
+        this.eventDispatcher = eventDispatcher;
+    }
+
     /**
      * Returns driver used by this SessionFactory
      *
@@ -180,6 +272,9 @@ public class SessionFactory {
      * Also closes any underlying resources, like driver etc.
      */
     public void close() {
+        if (eventDispatcher != null) {
+            eventDispatcher.close();
+        }
         driver.close();
     }
 
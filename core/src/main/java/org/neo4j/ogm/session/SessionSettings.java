@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+
+package org.neo4j.ogm.session;
+
+import java.util.List;
+
+import org.neo4j.ogm.cache.EntityCache;
+import org.neo4j.ogm.metrics.Metrics;
+import org.neo4j.ogm.session.event.AsyncEventDispatcher;
+import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.request.strategy.impl.LoadClauseCache;
+
+/**
+ * Settings and collaborators a {@link SessionFactory} hands to each {@link Neo4jSession} it opens. Apart from the
+ * load strategy, they are usually shared by all the sessions of the session factory.
+ */
+final class SessionSettings {
+
+    final List<EventListener> eventListeners;
+    final LoadStrategy loadStrategy;
+    final LoadClauseCache loadClauseCache;
+    final Metrics metrics;
+    // cache of the loads by id of cacheable entities, or null
+    final EntityCache entityCache;
+    // dispatcher delivering the events to its listeners once they are committed, or null
+    final AsyncEventDispatcher eventDispatcher;
+
+    SessionSettings(List<EventListener> eventListeners, LoadStrategy loadStrategy) {
+        this(eventListeners, loadStrategy, new LoadClauseCache(), Metrics.NOOP, null, null);
+    }
+
+    SessionSettings(List<EventListener> eventListeners, LoadStrategy loadStrategy, LoadClauseCache loadClauseCache,
+        Metrics metrics, EntityCache entityCache, AsyncEventDispatcher eventDispatcher) {
+        this.eventListeners = eventListeners;
+        this.loadStrategy = loadStrategy;
+        this.loadClauseCache = loadClauseCache;
+        this.metrics = metrics;
+        this.entityCache = entityCache;
+        this.eventDispatcher = eventDispatcher;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.delegates;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.metrics.Operation;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.strategy.impl.PathLoadClauseBuilder;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Loads the related entities of a load with the {@link LoadStrategy#BREADTH_FIRST_LOAD_STRATEGY}: the load query only
+ * returns the matched nodes, then each level of related nodes is loaded by a request matching the nodes of the
+ * previous level by id. Nodes already loaded by a previous level are not loaded again. Without a transaction of the
+ * session, the load query and the queries of the levels run in one read only transaction, so that they read the same
+ * graph.
+ * <p>
+ * Loads of relationship entities, and loads of depth 0 or 1, are executed as with the path load strategy.
+ */
+final class BreadthFirstLoader {
+
+    private static final String NEIGHBOURS_STATEMENT = "MATCH (n) WHERE ID(n) IN { ids } WITH n"
+        + new PathLoadClauseBuilder().build("n", null, 1);
+
+    private final Neo4jSession session;
+    private final int depth;
+    private final boolean active;
+    private final Set<Long> visited = new HashSet<>();
+    private Set<Long> frontier = new LinkedHashSet<>();
+
+    /**
+     * @param session the session
+     * @param type    type of the loaded entities
+     * @param depth   depth of the load
+     */
+    BreadthFirstLoader(Neo4jSession session, Class<?> type, int depth) {
+        this.session = session;
+        this.depth = depth;
+        this.active = session.getLoadStrategy() == LoadStrategy.BREADTH_FIRST_LOAD_STRATEGY
+            && (depth > 1 || depth < 0)
+            && !session.metaData().isRelationshipEntity(type.getName());
+    }
+
+    /**
+     * @return whether the related entities are loaded level by level by {@link #expand()}
+     */
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return the depth of the load query
+     */
+    int queryDepth() {
+        return active ? 0 : depth;
+    }
+
+    /**
+     * Runs a load, i.e. the load query followed by {@link #expand()}, in a new read only transaction when there is no
+     * transaction on the session.
+     *
+     * @param load executes the load query and expands its response
+     * @return the result of the load
+     */
+    <T> T load(Supplier<T> load) {
+        if (!active || session.getTransaction() != null) {
+            return load.get();
+        }
+        try (Transaction tx = session.beginTransaction(Transaction.Type.READ_ONLY)) {
+            T result = load.get();
+            tx.commit();
+            return result;
+        }
+    }
+
+    /**
+     * @param response response of the load query
+     * @return response recording the nodes returned by the load query, from which the related entities are loaded
+     */
+    Response<GraphModel> record(Response<GraphModel> response) {
+        if (!active) {
+            return response;
+        }
+        return new Response<GraphModel>() {
+
+            @Override
+            public GraphModel next() {
+                GraphModel graphModel = response.next();
+                if (graphModel != null) {
+                    for (Node node : graphModel.getNodes()) {
+                        frontier.add(node.getId());
+                    }
+                }
+                return graphModel;
+            }
+
+            @Override
+            public void close() {
+                response.close();
+            }
+
+            @Override
+            public String[] columns() {
+                return response.columns();
+            }
+        };
+    }
+
+    /**
+     * @param entities entities returned by the load query, when its response was mapped from rows
+     */
+    void record(Iterable<?> entities) {
+        if (!active) {
+            return;
+        }
+        for (Object entity : entities) {
+            frontier.add(session.context().nativeId(entity));
+        }
+    }
+
+    /**
+     * Loads the related entities of the nodes returned by the load query, once its response has been mapped.
+     */
+    void expand() {
+        if (!active) {
+            return;
+        }
+        GraphEntityMapper mapper = new GraphEntityMapper(session.metaData(), session.context());
+        Set<Long> edgeIds = new HashSet<>();
+        visited.addAll(frontier);
+        for (int level = 1; (depth < 0 || level <= depth) && !frontier.isEmpty(); level++) {
+            Set<Long> nodeIds = new LinkedHashSet<>();
+            Set<Long> levelEdgeIds = new LinkedHashSet<>();
+            DefaultGraphModelRequest request = new DefaultGraphModelRequest(NEIGHBOURS_STATEMENT,
+                Utils.map("ids", frontier));
+            try (Response<GraphModel> response = session.requestHandler(Operation.LOAD).execute(request)) {
+                GraphModel graphModel;
+                while ((graphModel = response.next()) != null) {
+                    mapper.map(Object.class, graphModel, new HashSet<>(), new HashSet<>());
+                    for (Node node : graphModel.getNodes()) {
+                        nodeIds.add(node.getId());
+                    }
+                    for (Edge edge : graphModel.getRelationships()) {
+                        levelEdgeIds.add(edge.getId());
+                    }
+                }
+            }
+
+            Set<Long> next = new LinkedHashSet<>();
+            for (Long nodeId : nodeIds) {
+                if (visited.add(nodeId)) {
+                    next.add(nodeId);
+                }
+            }
+            levelEdgeIds.removeAll(edgeIds);
+            edgeIds.addAll(levelEdgeIds);
+            mapper.executePostLoad(next, levelEdgeIds);
+            frontier = next;
+        }
+    }
+}
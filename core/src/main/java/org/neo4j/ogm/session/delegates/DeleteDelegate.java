@@ -15,6 +15,7 @@ package org.neo4j.ogm.session.delegates;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -23,17 +24,20 @@ import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
 import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
 import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.RowModelRequest;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.DeleteOptions;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.PersistenceEvent;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeDeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipDeleteStatements;
+import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,7 +85,6 @@ public class DeleteDelegate {
         }
     }
 
-    // TODO : this is being done in multiple requests at the moment, one per object. Why not put them in a single request?
     private void deleteOneOrMoreObjects(Set<Object> neighbours, List<?> objects) {
 
         Set<Object> notified = new HashSet<>();
@@ -95,6 +98,10 @@ public class DeleteDelegate {
             }
         }
 
+        // node and relationship entities may share native ids, so they are grouped separately
+        Map<Long, Object> nodeEntities = new LinkedHashMap<>();
+        Map<Long, Object> relationshipEntities = new LinkedHashMap<>();
+
         for (Object object : objects) {
 
             ClassInfo classInfo = session.metaData().classInfo(object);
@@ -103,25 +110,10 @@ public class DeleteDelegate {
 
                 Long identity = session.context().nativeId(object);
                 if (identity >= 0) {
-                    Statement request = getDeleteStatementsBasedOnType(object.getClass()).delete(identity);
-                    if (session.eventsEnabled()) {
-                        if (!notified.contains(object)) {
-                            session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
-                            notified.add(object);
-                        }
-                    }
-                    RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-                    try (Response<RowModel> response = session.requestHandler().execute(query)) {
-                        if (session.metaData().isRelationshipEntity(classInfo.name())) {
-                            session.detachRelationshipEntity(identity);
-                        } else {
-                            session.detachNodeEntity(identity);
-                        }
-                        if (session.eventsEnabled()) {
-                            if (notified.contains(object)) {
-                                session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
-                            }
-                        }
+                    if (session.metaData().isRelationshipEntity(classInfo.name())) {
+                        relationshipEntities.put(identity, object);
+                    } else {
+                        nodeEntities.put(identity, object);
                     }
                 }
             } else {
@@ -129,6 +121,9 @@ public class DeleteDelegate {
             }
         }
 
+        deleteByIds(relationshipEntities, true, notified);
+        deleteByIds(nodeEntities, false, notified);
+
         if (session.eventsEnabled()) {
             for (Object affectedObject : neighbours) {
                 if (notified.contains(affectedObject)) {
@@ -138,6 +133,64 @@ public class DeleteDelegate {
         }
     }
 
+    /**
+     * Deletes the given entities with one statement per batch of {@link DeleteOptions#DEFAULT_BATCH_SIZE} native ids,
+     * then detaches them from the mapping context.
+     *
+     * @param entities             entities to delete by native id
+     * @param isRelationshipEntity whether the entities are relationship entities
+     * @param notified             objects for which a PRE_SAVE or PRE_DELETE event has been raised
+     */
+    private void deleteByIds(Map<Long, Object> entities, boolean isRelationshipEntity, Set<Object> notified) {
+
+        DeleteStatements statements = isRelationshipEntity
+            ? new RelationshipDeleteStatements()
+            : new NodeDeleteStatements();
+        List<Long> ids = new ArrayList<>(entities.keySet());
+
+        for (int from = 0; from < ids.size(); from += DeleteOptions.DEFAULT_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + DeleteOptions.DEFAULT_BATCH_SIZE));
+
+            if (session.eventsEnabled()) {
+                for (Long identity : batch) {
+                    Object object = entities.get(identity);
+                    if (!notified.contains(object)) {
+                        session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
+                        notified.add(object);
+                    }
+                }
+            }
+
+            Statement request = batch.size() == 1 ? statements.delete(batch.get(0)) : statements.delete(batch);
+            RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+            try (Response<RowModel> response = session.requestHandler(Operation.DELETE).execute(query)) {
+                detach(batch, isRelationshipEntity);
+                if (session.eventsEnabled()) {
+                    for (Long identity : batch) {
+                        Object object = entities.get(identity);
+                        if (notified.contains(object)) {
+                            session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void detach(List<Long> ids, boolean isRelationshipEntity) {
+        if (isRelationshipEntity) {
+            for (Long identity : ids) {
+                session.detachRelationshipEntity(identity);
+            }
+            session.evictCached(Collections.emptySet(), ids);
+        } else {
+            for (Long identity : ids) {
+                session.detachNodeEntity(identity);
+            }
+            session.evictCached(ids, Collections.emptySet());
+        }
+    }
+
     public <T> void deleteAll(Class<T> type) {
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo != null) {
@@ -150,8 +203,9 @@ public class DeleteDelegate {
             Statement request = getDeleteStatementsBasedOnType(type).delete(entityLabel);
             RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
             session.notifyListeners(new PersistenceEvent(type, Event.TYPE.PRE_DELETE));
-            try (Response<RowModel> response = session.requestHandler().execute(query)) {
+            try (Response<RowModel> response = session.requestHandler(Operation.DELETE).execute(query)) {
                 session.context().removeType(type);
+                session.evictAllCached();
                 if (session.eventsEnabled()) {
                     session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
                 }
@@ -161,6 +215,81 @@ public class DeleteDelegate {
         }
     }
 
+    public <T> long deleteAll(Class<T> type, DeleteOptions options) {
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        if (classInfo == null) {
+            session.warn(type.getName() + " is not a persistable class");
+            return 0;
+        }
+        String entityLabel = session.entityType(classInfo.name());
+        if (entityLabel == null) {
+            LOG.warn("Unable to find database label for entity " + type.getName()
+                + " : no entities will be deleted. Make sure the class is registered, "
+                + "and not abstract without @NodeEntity annotation");
+            return 0;
+        }
+
+        boolean isRelationshipEntity = session.metaData().isRelationshipEntity(type.getName());
+        DeleteStatements statements = getDeleteStatementsBasedOnType(type);
+        boolean ownTransactions = session.getTransaction() == null;
+        Transaction tx = session.getTransaction();
+        long deleted = 0;
+        int batches = 0;
+        // the entities deleted since the last commit, detached from the mapping context once committed, so that it
+        // stays consistent with the database when a later batch fails
+        List<Long> uncommitted = new ArrayList<>();
+
+        session.notifyListeners(new PersistenceEvent(type, Event.TYPE.PRE_DELETE));
+        try {
+            List<Long> ids;
+            do {
+                if (tx == null) {
+                    tx = session.beginTransaction();
+                }
+                Statement request = statements.delete(entityLabel, options.getBatchSize());
+                RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+                ids = new ArrayList<>();
+                try (Response<RowModel> response = session.requestHandler(Operation.DELETE).execute(query)) {
+                    RowModel row;
+                    while ((row = response.next()) != null) {
+                        ids.add(((Number) row.getValues()[0]).longValue());
+                    }
+                }
+                uncommitted.addAll(ids);
+                deleted += ids.size();
+
+                batches++;
+                if (ownTransactions && options.getCommitEvery() > 0 && batches % options.getCommitEvery() == 0) {
+                    tx.commit();
+                    tx.close();
+                    tx = null;
+                    detach(uncommitted, isRelationshipEntity);
+                    uncommitted.clear();
+                }
+                options.getProgressListener().accept(deleted);
+            } while (ids.size() == options.getBatchSize());
+
+            if (ownTransactions && tx != null) {
+                tx.commit();
+                tx.close();
+            }
+        } catch (RuntimeException e) {
+            if (ownTransactions && tx != null && session.getTransaction() == tx) {
+                tx.rollback();
+            }
+            throw e;
+        }
+
+        detach(uncommitted, isRelationshipEntity);
+        session.context().removeType(type);
+        // deleting nodes also deleted their relationships, which cached loads of their neighbours may contain
+        session.evictAllCached();
+        if (session.eventsEnabled()) {
+            session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
+        }
+        return deleted;
+    }
+
     public <T> Object delete(Class<T> clazz, Iterable<Filter> filters, boolean listResults) {
 
         ClassInfo classInfo = session.metaData().classInfo(clazz.getSimpleName());
@@ -244,6 +373,12 @@ public class DeleteDelegate {
 
         Object object;
 
+        if (isRelationshipEntity) {
+            session.evictCached(Collections.emptySet(), Collections.singleton(identity));
+        } else {
+            session.evictCached(Collections.singleton(identity), Collections.emptySet());
+        }
+
         if (isRelationshipEntity) {
             object = session.context().getRelationshipEntity(identity);
             if (object != null) {
@@ -263,8 +398,9 @@ public class DeleteDelegate {
     public void purgeDatabase() {
         Statement stmt = new NodeDeleteStatements().deleteAll();
         RowModelRequest query = new DefaultRowModelRequest(stmt.getStatement(), stmt.getParameters());
-        session.requestHandler().execute(query).close();
+        session.requestHandler(Operation.DELETE).execute(query).close();
         session.context().clear();
+        session.evictAllCached();
     }
 
     public void clear() {
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.neo4j.ogm.cache.EntityCache;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metrics.Operation;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+
+/**
+ * Reads and populates the {@link EntityCache} of a session for loads by id of cacheable entities.
+ */
+final class EntityCacheSupport {
+
+    private EntityCacheSupport() {
+    }
+
+    /**
+     * @param session   the session
+     * @param classInfo the class of the loaded entity
+     * @param id        the id of the loaded entity
+     * @param depth     the depth of the load
+     * @return the cached graphs of the load, or null if the load is not cached
+     */
+    static List<GraphModel> cached(Neo4jSession session, ClassInfo classInfo, Object id, int depth) {
+        EntityCache cache = session.entityCache();
+        if (cache == null || !classInfo.isCacheable()) {
+            return null;
+        }
+        return cache.get(classInfo.name(), id, depth);
+    }
+
+    /**
+     * @return response returning the given graphs
+     */
+    static Response<GraphModel> replay(Collection<GraphModel> graphs) {
+        Iterator<GraphModel> iterator = graphs.iterator();
+        return new Response<GraphModel>() {
+
+            @Override
+            public GraphModel next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public String[] columns() {
+                return new String[0];
+            }
+        };
+    }
+
+    /**
+     * Executes a load by id, caching its graphs once its response has been read completely and closed, when the
+     * entity is cacheable, the load is not part of a transaction, which may hold uncommitted changes, and all the
+     * loaded entities are cacheable.
+     *
+     * @param session   the session
+     * @param classInfo the class of the loaded entity
+     * @param id        the id of the loaded entity
+     * @param depth     the depth of the load
+     * @param request   the request loading the entity
+     * @return the response of the request
+     */
+    static Response<GraphModel> execute(Neo4jSession session, ClassInfo classInfo, Object id, int depth,
+        GraphModelRequest request) {
+        EntityCache cache = session.entityCache();
+        if (cache == null || !classInfo.isCacheable() || session.getTransaction() != null) {
+            return session.requestHandler(Operation.LOAD).execute(request);
+        }
+        long generation = cache.generation();
+        Response<GraphModel> response = session.requestHandler(Operation.LOAD).execute(request);
+        return new CachingResponse(session, cache, classInfo.name(), id, depth, generation, response);
+    }
+
+    private static class CachingResponse implements Response<GraphModel> {
+
+        private final Neo4jSession session;
+        private final EntityCache cache;
+        private final String className;
+        private final Object id;
+        private final int depth;
+        private final long generation;
+        private final Response<GraphModel> response;
+        private final List<GraphModel> graphs = new ArrayList<>();
+        private boolean complete;
+
+        CachingResponse(Neo4jSession session, EntityCache cache, String className, Object id, int depth,
+            long generation, Response<GraphModel> response) {
+            this.session = session;
+            this.cache = cache;
+            this.className = className;
+            this.id = id;
+            this.depth = depth;
+            this.generation = generation;
+            this.response = response;
+        }
+
+        @Override
+        public GraphModel next() {
+            GraphModel graph = response.next();
+            if (graph == null) {
+                complete = true;
+            } else {
+                graphs.add(graph);
+            }
+            return graph;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+            if (complete && !graphs.isEmpty()) {
+                put();
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return response.columns();
+        }
+
+        // the graphs have been mapped by now, so their entities are known to the mapping context
+        private void put() {
+            Set<Long> nodeIds = new HashSet<>();
+            Set<Long> relationshipEntityIds = new HashSet<>();
+            for (GraphModel graph : graphs) {
+                for (Node node : graph.getNodes()) {
+                    Object entity = session.context().getNodeEntity(node.getId());
+                    if (entity == null || !session.metaData().classInfo(entity).isCacheable()) {
+                        return;
+                    }
+                    nodeIds.add(node.getId());
+                }
+                for (Edge edge : graph.getRelationships()) {
+                    Object relationshipEntity = session.context().getRelationshipEntity(edge.getId());
+                    if (relationshipEntity != null) {
+                        if (!session.metaData().classInfo(relationshipEntity).isCacheable()) {
+                            return;
+                        }
+                        relationshipEntityIds.add(edge.getId());
+                    }
+                }
+            }
+            cache.put(className, id, depth, graphs, nodeIds, relationshipEntityIds, generation);
+        }
+    }
+}
@@ -14,13 +14,16 @@ package org.neo4j.ogm.session.delegates;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.StartNode;
 import org.neo4j.ogm.context.EntityRowModelMapper;
+import org.neo4j.ogm.context.EntityStreamMapper;
 import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.context.ResponseMapper;
 import org.neo4j.ogm.context.RestModelMapper;
@@ -32,6 +35,7 @@ import org.neo4j.ogm.cypher.query.DefaultRestModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.RestModel;
 import org.neo4j.ogm.model.Result;
@@ -44,6 +48,7 @@ import org.neo4j.ogm.response.model.QueryResultModel;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.strategy.impl.CountStatements;
+import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.ClassUtils;
 
 /**
@@ -89,37 +94,102 @@ public class ExecuteQueriesDelegate {
         return executeAndMap(type, cypher, parameters, new EntityRowModelMapper());
     }
 
+    public <T> Stream<T> queryStream(Class<T> type, String cypher, Map<String, ?> parameters,
+        boolean registerEntities) {
+        validateQuery(cypher, parameters, false);
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+
+        Transaction.Type txType = isReadOnly(cypher) ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+        EntityStreamMapper mapper = new EntityStreamMapper(session.metaData(), session.context(), registerEntities);
+        if (session.metaData().classInfo(type.getSimpleName()) != null) {
+            GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+            return ResponseStreams.execute(session, txType,
+                release -> mapper.mapGraphs(type, session.requestHandler(Operation.QUERY).execute(request), release));
+        } else {
+            RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+            return ResponseStreams.execute(session, txType,
+                release -> mapper.mapScalars(type, session.requestHandler(Operation.QUERY).execute(request), release));
+        }
+    }
+
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         validateQuery(cypher, parameters, readOnly);
 
         RestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
+
+        Transaction.Type type = readOnly ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+        try (Response<RestModel> response = session.requestHandler(Operation.QUERY, type).execute(request)) {
+            return result(response, readOnly);
+        }
+    }
+
+    private Result result(Response<RestModel> response, boolean readOnly) {
         ResponseMapper mapper = new RestModelMapper(new GraphEntityMapper(session.metaData(), session.context()),
             session.metaData());
 
-        try (Response<RestModel> response = session.requestHandler().execute(request)) {
-            Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
-            RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
+        Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
+        RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
 
-            if (readOnly) {
-                return new QueryResultModel(restStatisticsModel.getResult(), null);
-            } else {
-                return new QueryResultModel(restStatisticsModel.getResult(), restStatisticsModel.getStatistics());
-            }
+        if (readOnly) {
+            return new QueryResultModel(restStatisticsModel.getResult(), null);
+        } else {
+            return new QueryResultModel(restStatisticsModel.getResult(), restStatisticsModel.getStatistics());
         }
     }
 
+    public <T> CompletionStage<Iterable<T>> queryAsync(Class<T> type, String cypher, Map<String, ?> parameters) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+
+        Transaction.Type txType = isReadOnly(cypher) ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+        if (session.metaData().classInfo(type.getSimpleName()) != null) {
+            GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+            return session.inAsyncTransaction(txType, tx -> tx.execute(request)
+                .thenApply(response -> {
+                    synchronized (session.context()) {
+                        return new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+                    }
+                }));
+        }
+        RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+        return session.inAsyncTransaction(txType, tx -> tx.execute(request)
+            .thenApply(response -> new EntityRowModelMapper().map(type, response)));
+    }
+
+    public CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters) {
+        return queryAsync(cypher, parameters, isReadOnly(cypher));
+    }
+
+    public CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters, boolean readOnly) {
+
+        validateQuery(cypher, parameters, readOnly);
+
+        RestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
+        Transaction.Type txType = readOnly ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+        return session.inAsyncTransaction(txType, tx -> tx.execute(request)
+            .thenApply(response -> {
+                synchronized (session.context()) {
+                    return result(response, readOnly);
+                }
+            }));
+    }
+
     private <T> Iterable<T> executeAndMap(Class<T> type, String cypher, Map<String, ?> parameters,
         ResponseMapper mapper) {
 
         if (type != null && session.metaData().classInfo(type.getSimpleName()) != null) {
             GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
-            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+            try (Response<GraphModel> response = session.requestHandler(Operation.QUERY).execute(request)) {
                 return new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
             }
         } else {
             RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
-            try (Response<RowModel> response = session.requestHandler().execute(request)) {
+            try (Response<RowModel> response = session.requestHandler(Operation.QUERY).execute(request)) {
                 return mapper.map(type, response);
             }
         }
@@ -162,7 +232,8 @@ public class ExecuteQueriesDelegate {
             }
             countStatement = new CountStatements().countNodes(labels);
         }
-        try (Response<RowModel> response = session.requestHandler().execute((RowModelRequest) countStatement)) {
+        try (Response<RowModel> response = session.requestHandler(Operation.QUERY)
+            .execute((RowModelRequest) countStatement)) {
             RowModel queryResult = response.next();
             return queryResult == null ? 0 : ((Number) queryResult.getValues()[0]).longValue();
         }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.delegates;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortClause;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.session.Neo4jSession;
+
+/**
+ * Records the position reached by a {@link KeysetPagination} once its page has been loaded, by reading the sort
+ * keys of the last entity of the page.
+ */
+final class KeysetPaginationSupport {
+
+    private KeysetPaginationSupport() {
+    }
+
+    /**
+     * @param session   the session
+     * @param type      the type of the loaded entities
+     * @param sortOrder the sort order, either as provided by the user or already resolved to graph property names
+     * @return fields holding the sort keys, in sort order
+     */
+    static List<FieldInfo> sortFields(Neo4jSession session, Class<?> type, SortOrder sortOrder) {
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        List<FieldInfo> fields = new ArrayList<>();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                FieldInfo fieldInfo = classInfo.propertyFieldByName(property);
+                if (fieldInfo == null && property.startsWith("`")) {
+                    String propertyName = property.substring(1, property.length() - 1);
+                    for (FieldInfo propertyField : classInfo.propertyFields()) {
+                        if (propertyField.property().equals(propertyName)) {
+                            fieldInfo = propertyField;
+                        }
+                    }
+                }
+                if (fieldInfo == null) {
+                    throw new IllegalArgumentException("Keyset pagination requires sorting by properties of "
+                        + type.getName() + ", " + property + " is not a property");
+                }
+                fields.add(fieldInfo);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @param session    the session
+     * @param pagination the pagination of the loaded page
+     * @param sortFields fields holding the sort keys
+     * @param result     the loaded page, in sort order
+     */
+    static void rememberLastSeen(Neo4jSession session, KeysetPagination pagination, List<FieldInfo> sortFields,
+        Collection<?> result) {
+        if (result.size() < pagination.getPageSize()) {
+            pagination.setLastSeen(null, null);
+            return;
+        }
+
+        Object last = null;
+        for (Object entity : result) {
+            last = entity;
+        }
+        List<Object> sortKeys = new ArrayList<>();
+        for (FieldInfo fieldInfo : sortFields) {
+            sortKeys.add(fieldInfo.readProperty(last));
+        }
+        pagination.setLastSeen(sortKeys, session.context().nativeId(last));
+    }
+}
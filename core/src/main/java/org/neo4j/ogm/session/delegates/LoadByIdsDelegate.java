@@ -13,20 +13,27 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -57,27 +64,88 @@ public class LoadByIdsDelegate {
                 + " : no results will be returned. Make sure the class is registered, "
                 + "and not abstract without @NodeEntity annotation");
         }
+        // entities found in the entity cache are mapped from the cached graphs, the others are loaded
+        List<T> cachedEntities = new ArrayList<>();
+        Collection<ID> uncachedIds = ids;
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        if (classInfo != null && sortOrder.sortClauses().isEmpty() && pagination == null) {
+            List<GraphModel> cachedGraphs = new ArrayList<>();
+            uncachedIds = new ArrayList<>();
+            for (ID id : ids) {
+                List<GraphModel> cached = EntityCacheSupport.cached(session, classInfo, id, depth);
+                if (cached == null) {
+                    uncachedIds.add(id);
+                } else {
+                    cachedGraphs.addAll(cached);
+                }
+            }
+            if (!cachedGraphs.isEmpty()) {
+                new GraphEntityMapper(session.metaData(), session.context())
+                    .map(type, EntityCacheSupport.replay(cachedGraphs))
+                    .forEach(cachedEntities::add);
+                if (uncachedIds.isEmpty()) {
+                    return sortResultsByIds(type, ids, cachedEntities);
+                }
+            }
+        }
+
         QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
+        BreadthFirstLoader loader = new BreadthFirstLoader(session, type, depth);
+
+        List<FieldInfo> keysetFields = pagination instanceof KeysetPagination
+            ? KeysetPaginationSupport.sortFields(session, type, sortOrder) : null;
 
-        PagingAndSortingQuery qry = queryStatements.findAllByType(entityLabel, ids, depth)
+        long start = System.nanoTime();
+        PagingAndSortingQuery qry = queryStatements.findAllByType(entityLabel, uncachedIds, loader.queryDepth())
             .setSortOrder(sortOrder)
             .setPagination(pagination);
+        if (keysetFields != null) {
+            // the graphs also hold the related entities, which may be of the loaded type: the entities of the page
+            // and their order are read from the ids returned by the rows
+            qry.setRowResult(true);
+        }
+        String statement = qry.getStatement();
+        session.metrics().compiled(Operation.LOAD, System.nanoTime() - start);
+
+        if (keysetFields != null) {
+            DefaultGraphRowListModelRequest request = new DefaultGraphRowListModelRequest(statement,
+                qry.getParameters());
+            Collection<T> results = loader.load(() -> {
+                Collection<T> mapped;
+                try (Response<GraphRowListModel> response = session.requestHandler(Operation.LOAD).execute(request)) {
+                    mapped = new LinkedHashSet<>((Collection<T>) new GraphRowListModelMapper(
+                        session.metaData(), session.context()).map(type, response));
+                }
+                loader.record(mapped);
+                loader.expand();
+                return mapped;
+            });
+            KeysetPaginationSupport.rememberLastSeen(session, (KeysetPagination) pagination, keysetFields, results);
+            return results;
+        }
 
-        GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
-        try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-            Iterable<T> mapped = new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-
-            if (sortOrder.sortClauses().isEmpty()) {
-                return sortResultsByIds(type, ids, mapped);
+        GraphModelRequest request = new DefaultGraphModelRequest(statement, qry.getParameters());
+        Iterable<T> mapped = loader.load(() -> {
+            Iterable<T> entities;
+            try (Response<GraphModel> response = loader.record(
+                session.requestHandler(Operation.LOAD).execute(request))) {
+                entities = new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
             }
-            Set<T> results = new LinkedHashSet<>();
-            for (T entity : mapped) {
-                if (includeMappedEntity(ids, entity)) {
-                    results.add(entity);
-                }
+            loader.expand();
+            return entities;
+        });
+
+        if (sortOrder.sortClauses().isEmpty()) {
+            mapped.forEach(cachedEntities::add);
+            return sortResultsByIds(type, ids, cachedEntities);
+        }
+        Set<T> results = new LinkedHashSet<>();
+        for (T entity : mapped) {
+            if (includeMappedEntity(ids, entity)) {
+                results.add(entity);
             }
-            return results;
         }
+        return results;
     }
 
     private <T, ID extends Serializable> Set<T> sortResultsByIds(Class<T> type, Collection<ID> ids,
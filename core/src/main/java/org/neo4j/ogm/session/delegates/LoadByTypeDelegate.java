@@ -13,22 +13,34 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
+import org.neo4j.ogm.context.EntityStreamMapper;
 import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.exception.core.InvalidDepthException;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.LoadStrategy;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.SchemaLoadClauseBuilder;
+import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +60,85 @@ public class LoadByTypeDelegate {
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
         int depth) {
 
+        // sort keys are read from the entities, so they must be resolved before the sort order is rewritten
+        List<FieldInfo> keysetFields = pagination instanceof KeysetPagination
+            ? KeysetPaginationSupport.sortFields(session, type, sortOrder) : null;
+
+        BreadthFirstLoader loader = new BreadthFirstLoader(session, type, depth);
+        long start = System.nanoTime();
+        PagingAndSortingQuery query = query(type, filters, sortOrder, pagination, loader.queryDepth());
+        if (keysetFields != null) {
+            // the graphs also hold the related entities, which may be of the loaded type: the entities of the page
+            // and their order are read from the ids returned by the rows
+            query.setRowResult(true);
+        }
+        String statement = query.getStatement();
+        session.metrics().compiled(Operation.LOAD, System.nanoTime() - start);
+
+        Collection<T> result = loader.load(() -> {
+            Collection<T> mapped;
+            if (query.needsRowResult()) {
+                DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(
+                    statement, query.getParameters());
+                try (Response<GraphRowListModel> response = session.requestHandler(Operation.LOAD)
+                    .execute(graphRowListModelRequest)) {
+                    mapped = mapRows(type, response);
+                }
+                loader.record(mapped);
+            } else {
+                GraphModelRequest request = new DefaultGraphModelRequest(statement, query.getParameters());
+                try (Response<GraphModel> response = loader.record(
+                    session.requestHandler(Operation.LOAD).execute(request))) {
+                    mapped = mapGraphs(type, response);
+                }
+            }
+            loader.expand();
+            return mapped;
+        });
+
+        if (keysetFields != null) {
+            KeysetPaginationSupport.rememberLastSeen(session, (KeysetPagination) pagination, keysetFields, result);
+        }
+        return result;
+    }
+
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, Filters filters, SortOrder sortOrder,
+        Pagination pagination, int depth) {
+
+        if (pagination instanceof KeysetPagination) {
+            throw new IllegalArgumentException("Keyset pagination is not supported by asynchronous loads");
+        }
+        PagingAndSortingQuery query = query(type, filters, sortOrder, pagination, depth);
+
+        if (query.needsRowResult()) {
+            DefaultGraphRowListModelRequest request = new DefaultGraphRowListModelRequest(query.getStatement(),
+                query.getParameters());
+            return session.inAsyncTransaction(Transaction.Type.READ_ONLY, tx -> tx.execute(request)
+                .thenApply(response -> {
+                    synchronized (session.context()) {
+                        return mapRows(type, response);
+                    }
+                }));
+        }
+        GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+        return session.inAsyncTransaction(Transaction.Type.READ_ONLY, tx -> tx.execute(request)
+            .thenApply(response -> {
+                synchronized (session.context()) {
+                    return mapGraphs(type, response);
+                }
+            }));
+    }
+
+    /**
+     * Builds the query loading the entities of a type. Its response must be mapped with
+     * {@link #mapRows(Class, Response)} if {@link PagingAndSortingQuery#needsRowResult()}, with
+     * {@link #mapGraphs(Class, Response)} otherwise.
+     *
+     * @return query loading the entities
+     */
+    public <T> PagingAndSortingQuery query(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        int depth) {
+
         //session.ensureTransaction();
         String entityLabel = session.entityType(type.getName());
         if (entityLabel == null) {
@@ -67,23 +158,65 @@ public class LoadByTypeDelegate {
             query = queryStatements.findByType(entityLabel, filters, depth);
         }
 
-        query.setSortOrder(sortOrder)
+        return query.setSortOrder(sortOrder)
             .setPagination(pagination);
+    }
 
-        if (query.needsRowResult()) {
-            DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(
-                query.getStatement(), query.getParameters());
-            try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
-                return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context())
-                    .map(type, response);
-            }
+    public <T> Collection<T> mapRows(Class<T> type, Response<GraphRowListModel> response) {
+        return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response);
+    }
+
+    public <T> Collection<T> mapGraphs(Class<T> type, Response<GraphModel> response) {
+        return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+    }
+
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth,
+        boolean registerEntities) {
+
+        if (depth < 0) {
+            throw new InvalidDepthException("Cannot stream entities with unlimited depth");
+        }
+        if (session.metaData().isRelationshipEntity(type.getName())) {
+            throw new IllegalArgumentException("Only node entities can be streamed, " + type.getName()
+                + " is a relationship entity");
+        }
+        String entityLabel = session.entityType(type.getName());
+        if (entityLabel == null) {
+            LOG.warn("Unable to find database label for entity " + type.getName()
+                + " : no results will be returned. Make sure the class is registered, "
+                + "and not abstract without @NodeEntity annotation");
+            return Stream.empty();
+        }
+
+        // the schema load strategy returns each root entity with its related entities in a single row,
+        // which allows an entity to be handed out as soon as its row has been mapped
+        QueryStatements queryStatements = new NodeQueryStatements<>(null, session.loadClauseCache()
+            .cached(LoadStrategy.SCHEMA_LOAD_STRATEGY, new SchemaLoadClauseBuilder(session.metaData().getSchema())));
+
+        long start = System.nanoTime();
+        session.resolvePropertyAnnotations(type, sortOrder);
+
+        PagingAndSortingQuery query;
+        if (filters.isEmpty()) {
+            query = queryStatements.findByType(entityLabel, depth);
         } else {
-            GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
-            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-            }
+            session.resolvePropertyAnnotations(type, filters);
+            query = queryStatements.findByType(entityLabel, filters, depth);
         }
+        query.setSortOrder(sortOrder)
+            .setRowResult(true);
+
+        DefaultGraphRowListModelRequest request = new DefaultGraphRowListModelRequest(query.getStatement(),
+            query.getParameters());
+        session.metrics().compiled(Operation.LOAD, System.nanoTime() - start);
+        EntityStreamMapper mapper = new EntityStreamMapper(session.metaData(), session.context(), registerEntities);
+
+        return ResponseStreams.execute(session, Transaction.Type.READ_ONLY,
+            release -> mapper.mapRows(type, session.requestHandler(Operation.LOAD).execute(request), release));
+    }
 
+    public <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return stream(type, filters, new SortOrder(), depth, true);
     }
 
     public <T> Collection<T> loadAll(Class<T> type) {
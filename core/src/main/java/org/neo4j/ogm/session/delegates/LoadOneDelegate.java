@@ -13,6 +13,8 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphEntityMapper;
@@ -20,11 +22,13 @@ import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +51,50 @@ public class LoadOneDelegate {
     }
 
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        List<GraphModel> cached = classInfo == null ? null
+            : EntityCacheSupport.cached(session, classInfo, id, depth);
+        if (cached != null) {
+            return map(type, id, EntityCacheSupport.replay(cached));
+        }
+
+        BreadthFirstLoader loader = new BreadthFirstLoader(session, type, depth);
+        long start = System.nanoTime();
+        GraphModelRequest request = request(type, id, loader.queryDepth());
+        session.metrics().compiled(Operation.LOAD, System.nanoTime() - start);
+        if (loader.isActive()) {
+            return loader.load(() -> {
+                T entity;
+                try (Response<GraphModel> response = loader.record(
+                    session.requestHandler(Operation.LOAD).execute(request))) {
+                    entity = map(type, id, response);
+                }
+                loader.expand();
+                return entity;
+            });
+        }
+        try (Response<GraphModel> response = EntityCacheSupport.execute(session, classInfo, id, depth, request)) {
+            return map(type, id, response);
+        }
+    }
+
+    public <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id, int depth) {
+        GraphModelRequest request = request(type, id, depth);
+        return session.inAsyncTransaction(Transaction.Type.READ_ONLY, tx -> tx.execute(request)
+            .thenApply(response -> {
+                synchronized (session.context()) {
+                    return map(type, id, response);
+                }
+            }));
+    }
+
+    /**
+     * @param type  type of the entity to load
+     * @param id    id of the entity, its primary id if its class has one
+     * @param depth depth of the related entities to load
+     * @return request loading the entity and its related entities
+     */
+    public <T, ID extends Serializable> GraphModelRequest request(Class<T> type, ID id, int depth) {
 
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo == null) {
@@ -72,11 +120,17 @@ public class LoadOneDelegate {
         }
         PagingAndSortingQuery qry = queryStatements.findOneByType(entityType, id, depth);
 
-        GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
-        try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-            new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-            return lookup(type, id);
-        }
+        return new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
+    }
+
+    /**
+     * Maps the response of a {@link #request(Class, Serializable, int)} into the mapping context.
+     *
+     * @return the loaded entity, or null if it was not found
+     */
+    public <T, ID extends Serializable> T map(Class<T> type, ID id, Response<GraphModel> response) {
+        new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+        return lookup(type, id);
     }
 
     private <T, U> T lookup(Class<T> type, U id) {
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.delegates;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Executes streaming requests. A response can only be consumed lazily while its transaction is open (drivers
+ * buffer the whole result when an auto-commit transaction is committed), so when there is no transaction bound
+ * to the current thread a new transaction is opened, and committed when the stream is closed.
+ */
+final class ResponseStreams {
+
+    private ResponseStreams() {
+    }
+
+    /**
+     * @param session the session
+     * @param type    type of the transaction to open if there is none
+     * @param request function executing the request and mapping its response onto a stream, the supplied
+     *                runnable must be invoked when the stream is closed
+     * @param <T>     type of the stream elements
+     * @return the stream
+     */
+    static <T> Stream<T> execute(Neo4jSession session, Transaction.Type type,
+        Function<Runnable, Stream<T>> request) {
+        if (session.getTransaction() != null) {
+            return request.apply(() -> {
+            });
+        }
+
+        Transaction tx = session.beginTransaction(type);
+        try {
+            return request.apply(() -> {
+                // the driver rolls the transaction back when the response fails
+                if (session.getTransaction() == tx) {
+                    tx.commit();
+                    tx.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            if (session.getTransaction() == tx) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+}
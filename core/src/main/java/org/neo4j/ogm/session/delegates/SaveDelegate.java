@@ -14,13 +14,21 @@ package org.neo4j.ogm.session.delegates;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.neo4j.ogm.context.EntityGraphMapper;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SaveOptions;
+import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.request.RequestExecutor;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Vince Bickers
@@ -44,19 +52,9 @@ public class SaveDelegate {
 
         SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
 
-        if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
-            Iterable<T> objects;
-            if (object.getClass().isArray()) {
-                int length = Array.getLength(object);
-                List<T> copy = new ArrayList<>(length);
-                for (int i = 0; i < length; i++) {
-                    T arrayElement = (T) Array.get(object, i);
-                    copy.add(arrayElement);
-                }
-                objects = copy;
-            } else {
-                objects = (Iterable<T>) object;
-            }
+        Iterable<T> objects = elements(object);
+        if (objects != null) {
+            long start = System.nanoTime();
             EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), session.context());
             for (Object element : objects) {
                 if (session.eventsEnabled()) {
@@ -64,6 +62,7 @@ public class SaveDelegate {
                 }
                 mapper.map(element, depth);
             }
+            reportMapping(mapper, start);
             requestExecutor.executeSave(mapper.compileContext());
             if (session.eventsEnabled()) {
                 eventsDelegate.postSave();
@@ -76,8 +75,10 @@ public class SaveDelegate {
                     eventsDelegate.preSave(object);
                 }
 
-                CompileContext context = new EntityGraphMapper(session.metaData(), session.context())
-                    .map(object, depth);
+                long start = System.nanoTime();
+                EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), session.context());
+                CompileContext context = mapper.map(object, depth);
+                reportMapping(mapper, start);
 
                 requestExecutor.executeSave(context);
 
@@ -89,4 +90,154 @@ public class SaveDelegate {
             }
         }
     }
+
+    public void saveChanges() {
+
+        long start = System.nanoTime();
+        EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), session.context());
+        List<Object> changedEntities = mapper.changedEntities();
+        if (changedEntities.isEmpty()) {
+            reportMapping(mapper, start);
+            return;
+        }
+
+        SaveEventDelegate eventsDelegate = null;
+        if (session.eventsEnabled()) {
+            eventsDelegate = new SaveEventDelegate(session);
+            eventsDelegate.preSaveChanges(changedEntities);
+        }
+        mapper.mapChanges(changedEntities);
+        reportMapping(mapper, start);
+        requestExecutor.executeSave(mapper.compileContext());
+        if (eventsDelegate != null) {
+            eventsDelegate.postSave();
+        }
+    }
+
+    /**
+     * @param asyncListeners notifies the listeners of the events of the save, which runs outside of the transaction
+     *                       and operation of the session
+     */
+    public <T> CompletionStage<Void> saveAsync(T object, int depth, Consumer<Event> asyncListeners) {
+
+        SaveEventDelegate eventsDelegate = new SaveEventDelegate(session, asyncListeners);
+        CompileContext context;
+
+        // the mapping context may be updated concurrently by the completion of other asynchronous requests
+        synchronized (session.context()) {
+            Iterable<T> objects = elements(object);
+            if (objects == null && session.metaData().classInfo(object) == null) {
+                session.warn(object.getClass().getName() + " is not an instance of a persistable class");
+                return CompletableFuture.completedFuture(null);
+            }
+            if (session.eventsEnabled()) {
+                eventsDelegate.preSave(object);
+            }
+            long start = System.nanoTime();
+            EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), session.context());
+            if (objects != null) {
+                for (Object element : objects) {
+                    mapper.map(element, depth);
+                }
+            } else {
+                mapper.map(object, depth);
+            }
+            context = mapper.compileContext();
+            reportMapping(mapper, start);
+        }
+
+        return requestExecutor.executeSaveAsync(context)
+            .thenRun(() -> {
+                if (session.eventsEnabled()) {
+                    synchronized (session.context()) {
+                        eventsDelegate.postSave();
+                    }
+                }
+            });
+    }
+
+    public <T> void saveAll(Iterable<T> objects, SaveOptions options) {
+
+        boolean ownTransactions = session.getTransaction() == null;
+        Transaction tx = session.getTransaction();
+        int chunks = 0;
+
+        try {
+            Iterator<T> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                List<T> chunk = new ArrayList<>(options.getChunkSize());
+                while (chunk.size() < options.getChunkSize() && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                if (tx == null) {
+                    tx = session.beginTransaction();
+                }
+
+                // all the objects of a chunk share one compile context, so that new nodes and relationships are
+                // created by one statement per label or type
+                SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
+                if (session.eventsEnabled()) {
+                    eventsDelegate.preSave(chunk);
+                }
+                long start = System.nanoTime();
+                EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), session.context());
+                for (T element : chunk) {
+                    mapper.map(element, options.getDepth());
+                }
+                reportMapping(mapper, start);
+                requestExecutor.executeSave(mapper.compileContext());
+                if (session.eventsEnabled()) {
+                    eventsDelegate.postSave();
+                }
+
+                chunks++;
+                if (ownTransactions && options.getCommitEvery() > 0 && chunks % options.getCommitEvery() == 0) {
+                    tx.commit();
+                    tx.close();
+                    tx = null;
+                }
+                if (options.isClearSession()) {
+                    session.clear();
+                }
+            }
+
+            if (ownTransactions && tx != null) {
+                tx.commit();
+                tx.close();
+            }
+        } catch (RuntimeException e) {
+            if (ownTransactions && tx != null && session.getTransaction() == tx) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the elements of an array or an iterable, null if the object is neither
+     */
+    private <T> Iterable<T> elements(T object) {
+        if (object.getClass().isArray()) {
+            int length = Array.getLength(object);
+            List<T> copy = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                T arrayElement = (T) Array.get(object, i);
+                copy.add(arrayElement);
+            }
+            return copy;
+        }
+        if (Iterable.class.isAssignableFrom(object.getClass())) {
+            return (Iterable<T>) object;
+        }
+        return null;
+    }
+
+    /**
+     * Reports the mapping of the entities to save, started at the given time, to the metrics of the session.
+     */
+    private void reportMapping(EntityGraphMapper mapper, long start) {
+        long dirtyCheckNanos = mapper.dirtyCheckNanos();
+        session.metrics().compiled(Operation.SAVE, System.nanoTime() - start - dirtyCheckNanos);
+        session.metrics().dirtyChecked(Operation.SAVE, dirtyCheckNanos, mapper.dirtyChecks());
+    }
 }
@@ -13,13 +13,15 @@
 
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.context.MappedRelationship;
@@ -40,19 +42,29 @@ final class SaveEventDelegate {
     private static final Logger logger = LoggerFactory.getLogger(SaveEventDelegate.class);
 
     private Neo4jSession session;
+    // notifies the listeners of the events of asynchronous saves, or null
+    private Consumer<Event> asyncListeners;
     private Set<Object> visited;
     private Set<Object> preSaved;
-    private Set<MappedRelationship> registeredRelationships = new HashSet<>();
     private Set<MappedRelationship> addedRelationships = new HashSet<>();
+    // the relationships of the mapping context not mapped again from the visited objects. The relationships of
+    // each visited object are looked up in the mapping context, so that the cost of the comparison is proportional
+    // to the visited objects rather than to the size of the mapping context.
     private Set<MappedRelationship> deletedRelationships = new HashSet<>();
 
     SaveEventDelegate(Neo4jSession session) {
         this.session = session;
         this.preSaved = new HashSet<>();
         this.visited = new HashSet<>();
+    }
 
-        this.registeredRelationships.clear();
-        this.registeredRelationships.addAll(session.context().getRelationships());
+    /**
+     * @param session        the session
+     * @param asyncListeners notifies the listeners of the events of an asynchronous save, instead of the session
+     */
+    SaveEventDelegate(Neo4jSession session, Consumer<Event> asyncListeners) {
+        this(session);
+        this.asyncListeners = asyncListeners;
     }
 
     void preSave(Object object) {
@@ -85,6 +97,29 @@ final class SaveEventDelegate {
         }
     }
 
+    /**
+     * Fires the pre-save events of changed entities found without walking the object graph, and of the new entities
+     * reachable from them through other new entities.
+     *
+     * @param changedEntities the changed entities, including the ones at the other end of changed relationships
+     */
+    void preSaveChanges(Collection<Object> changedEntities) {
+        Deque<Object> pending = new ArrayDeque<>(changedEntities);
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (visit(object)) {
+                for (Object child : children(object)) {
+                    if (session.metaData().classInfo(child) != null && session.context().nativeId(child) < 0) {
+                        pending.push(child);
+                    }
+                }
+                if (!preSaveFired(object)) {
+                    firePreSave(object);
+                }
+            }
+        }
+    }
+
     void postSave() {
         for (Object object : this.preSaved) {
             fire(Event.TYPE.POST_SAVE, object);
@@ -113,7 +148,11 @@ final class SaveEventDelegate {
     }
 
     private void fire(Event.TYPE eventType, Object object) {
-        this.session.notifyListeners(new PersistenceEvent(object, eventType));
+        if (asyncListeners == null) {
+            this.session.notifyListeners(new PersistenceEvent(object, eventType));
+        } else {
+            asyncListeners.accept(new PersistenceEvent(object, eventType));
+        }
     }
 
     private boolean preSaveFired(Object object) {
@@ -199,19 +238,15 @@ final class SaveEventDelegate {
                         this.addedRelationships.add(mappable);
                         return true;
                     }
-                    this.registeredRelationships.add(mappable);
                     this.deletedRelationships.remove(mappable);     // no longer deleted
                 }
             }
 
-            // compare the set of current relationships with the ones in the mapping context
-            // if are there any missing from the mapping context, the object is dirty because
+            // if any relationship of the mapping context has not been mapped again, the object is dirty because
             // a previously mapped relationship has been deleted.
-            for (MappedRelationship previous : session.context().getRelationships()) {
-                if (isDeleted(previous)) {
-                    logger.debug("deleted: {} from {}", previous, parent);
-                    return true;
-                }
+            if (!deletedRelationships.isEmpty()) {
+                logger.debug("deleted: {} from {}", deletedRelationships, parent);
+                return true;
             }
         }
 
@@ -224,16 +259,9 @@ final class SaveEventDelegate {
         return !this.session.context().getRelationships().contains(mappedRelationship);
     }
 
-    // returns true if the specified mapped relationship is not found in the list
-    // of registered relationships for the current save invocation
-    private boolean isDeleted(MappedRelationship mappedRelationship) {
-        return !this.registeredRelationships.contains(mappedRelationship);
-    }
-
-    // remove the current relationships for this object as loaded from the mapping context
-    // we expect to put them back in again later. Any differences afterwards between
-    // current relationships and the main mapping context indicate that relationships
-    // have been deleted since the last time the objects were loaded.
+    // mark the relationships of this object as loaded in the mapping context as deleted
+    // we expect to map them again later. Any relationships still marked afterwards
+    // indicate that relationships have been deleted since the last time the objects were loaded.
     private void clearPreviousRelationships(Object parent, FieldInfo reader) {
 
         Long id = session.context().nativeId(parent);
@@ -252,28 +280,20 @@ final class SaveEventDelegate {
 
     private void deregisterIncomingRelationship(Long id, String relationshipType, Class endNodeType) {
 
-        Iterator<MappedRelationship> iterator = this.registeredRelationships.iterator();
-
-        while (iterator.hasNext()) {
-            MappedRelationship mappedRelationship = iterator.next();
+        for (MappedRelationship mappedRelationship : session.context().getRelationships(id)) {
             if (mappedRelationship.getEndNodeId() == id && mappedRelationship.getRelationshipType()
                 .equals(relationshipType) && endNodeType.equals(mappedRelationship.getStartNodeType())) {
                 deletedRelationships.add(mappedRelationship);
-                iterator.remove();
             }
         }
     }
 
     private void deregisterOutgoingRelationship(Long id, String relationshipType, Class endNodeType) {
 
-        Iterator<MappedRelationship> iterator = this.registeredRelationships.iterator();
-
-        while (iterator.hasNext()) {
-            MappedRelationship mappedRelationship = iterator.next();
+        for (MappedRelationship mappedRelationship : session.context().getRelationships(id)) {
             if (mappedRelationship.getStartNodeId() == id && mappedRelationship.getRelationshipType()
                 .equals(relationshipType) && endNodeType.equals(mappedRelationship.getEndNodeType())) {
                 deletedRelationships.add(mappedRelationship);
-                iterator.remove();
             }
         }
     }
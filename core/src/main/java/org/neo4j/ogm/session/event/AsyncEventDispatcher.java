@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers persistence events to event listeners on background threads, once the transaction in which they were fired
+ * has been committed.
+ * <p>
+ * The sessions of a {@link org.neo4j.ogm.session.SessionFactory} with a dispatcher collect the events of each
+ * transaction, and hand them over to the dispatcher when the transaction is committed. The events of a rolled back
+ * transaction are dropped. Outside of a transaction, the events of a save or delete are handed over when it returns.
+ * Saving threads therefore do not wait for the listeners of the dispatcher, which suits listeners auditing the changes
+ * or notifying other systems. Listeners changing the entities before they are saved must be registered on the session
+ * factory or the session instead, which call them synchronously.
+ * <p>
+ * Events are delivered by a fixed number of threads. All the events of an entity are delivered by the same thread, in
+ * the order in which they were fired. Each thread receives the events in batches of up to {@link #getBatchSize()}
+ * events and queues up to {@link #getQueueCapacity()} batches: when its queue is full, the committing thread waits,
+ * so that listeners slower than the changes slow down the writes instead of queueing events without bounds.
+ * <p>
+ * Listeners are called after the changes are saved, and may observe later changes of the entities. Exceptions and
+ * errors thrown by listeners are logged, and do not stop the delivery of the other events.
+ */
+public class AsyncEventDispatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    // queued after the last batch of each thread when the dispatcher is closed
+    private static final List<Event> END = new ArrayList<>(0);
+
+    private final List<EventListener> listeners = new CopyOnWriteArrayList<>();
+    private final int batchSize;
+    private final int queueCapacity;
+    private final Worker[] workers;
+    private final AtomicLong undelivered = new AtomicLong();
+    // dispatching threads hold the read lock, closing the dispatcher takes the write lock
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    private AsyncEventDispatcher(Builder builder) {
+        this.batchSize = builder.batchSize;
+        this.queueCapacity = builder.queueCapacity;
+        this.workers = new Worker[builder.threads];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(i);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * @return a dispatcher delivering the events with one thread, in batches of {@link #DEFAULT_BATCH_SIZE} events,
+     * queueing up to {@link #DEFAULT_QUEUE_CAPACITY} batches
+     */
+    public static AsyncEventDispatcher create() {
+        return new Builder().build();
+    }
+
+    /**
+     * Registers a listener receiving the events handed over to this dispatcher from now on.
+     *
+     * @param eventListener the listener
+     * @return the listener
+     */
+    public EventListener register(EventListener eventListener) {
+        listeners.add(eventListener);
+        return eventListener;
+    }
+
+    /**
+     * @param eventListener the listener
+     * @return true if the listener was registered
+     */
+    public boolean deregister(EventListener eventListener) {
+        return listeners.remove(eventListener);
+    }
+
+    /**
+     * @return true if listeners are registered, so that the sessions collect the events
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Hands over the events of a committed transaction, to be delivered in order to the listeners. Waits while the
+     * queue of a thread delivering the events is full.
+     *
+     * @param events the events, in the order in which they were fired
+     */
+    public void dispatch(List<? extends Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                LOGGER.warn("Event dispatcher closed, {} events dropped", events.size());
+                return;
+            }
+            List<List<Event>> batches = new ArrayList<>(workers.length);
+            for (int i = 0; i < workers.length; i++) {
+                batches.add(null);
+            }
+            for (int i = 0; i < events.size(); i++) {
+                Event event = events.get(i);
+                int worker = Math.floorMod(System.identityHashCode(event.getObject()), workers.length);
+                List<Event> batch = batches.get(worker);
+                if (batch == null) {
+                    batch = new ArrayList<>(Math.min(batchSize, events.size() - i));
+                    batches.set(worker, batch);
+                }
+                batch.add(event);
+                if (batch.size() == batchSize) {
+                    batches.set(worker, null);
+                    if (!workers[worker].queue(batch)) {
+                        return;
+                    }
+                }
+            }
+            for (int worker = 0; worker < workers.length; worker++) {
+                List<Event> batch = batches.get(worker);
+                if (batch != null && !workers[worker].queue(batch)) {
+                    return;
+                }
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Waits until the events handed over so far have been delivered.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return true if the events were delivered, false if the timeout elapsed first
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean awaitDelivery(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (undelivered) {
+            while (undelivered.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(undelivered, remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return number of events handed over and not yet delivered
+     */
+    public long getUndeliveredEvents() {
+        return undelivered.get();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Stops accepting events, and waits until the events already handed over have been delivered.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Worker worker : workers) {
+                worker.queue(END);
+            }
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            for (Worker worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncEventDispatcher{" +
+            "threads=" + workers.length +
+            ", batchSize=" + batchSize +
+            ", queueCapacity=" + queueCapacity +
+            ", undeliveredEvents=" + undelivered.get() +
+            '}';
+    }
+
+    private void deliver(List<Event> batch) {
+        for (Event event : batch) {
+            for (EventListener listener : listeners) {
+                try {
+                    switch (event.getLifeCycle()) {
+                        case PRE_SAVE:
+                            listener.onPreSave(event);
+                            break;
+                        case POST_SAVE:
+                            listener.onPostSave(event);
+                            break;
+                        case PRE_DELETE:
+                            listener.onPreDelete(event);
+                            break;
+                        case POST_DELETE:
+                            listener.onPostDelete(event);
+                            break;
+                        default:
+                            LOGGER.warn("Event not recognised: {}", event);
+                    }
+                } catch (Throwable e) {
+                    // errors are logged too, a dead delivery thread would block the committing threads forever
+                    LOGGER.warn("Event listener {} failed on {}", listener, event, e);
+                }
+            }
+        }
+        if (undelivered.addAndGet(-batch.size()) == 0) {
+            synchronized (undelivered) {
+                undelivered.notifyAll();
+            }
+        }
+    }
+
+    private class Worker extends Thread {
+
+        private final BlockingQueue<List<Event>> batches = new ArrayBlockingQueue<>(queueCapacity);
+
+        Worker(int index) {
+            super("neo4j-ogm-events-" + index);
+            setDaemon(true);
+        }
+
+        // returns false if the current thread was interrupted while waiting for the queue
+        boolean queue(List<Event> batch) {
+            undelivered.addAndGet(batch.size());
+            try {
+                batches.put(batch);
+                return true;
+            } catch (InterruptedException e) {
+                undelivered.addAndGet(-batch.size());
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while waiting for the event queue, events dropped");
+                return false;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<Event> batch;
+                while ((batch = batches.take()) != END) {
+                    deliver(batch);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Event delivery interrupted, {} events not delivered", batches.size());
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private int threads = 1;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        /**
+         * @param threads number of threads delivering the events
+         * @return this builder
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param batchSize maximum number of events handed over to a thread at once
+         * @return this builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param queueCapacity maximum number of batches queued for each thread before committing threads wait
+         * @return this builder
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public AsyncEventDispatcher build() {
+            return new AsyncEventDispatcher(this);
+        }
+    }
+}
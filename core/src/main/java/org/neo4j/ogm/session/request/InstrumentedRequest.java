@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request;
+
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metrics.Metrics;
+import org.neo4j.ogm.metrics.Operation;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * {@link Request} reporting the requests of an operation to {@link Metrics}.
+ * <p>
+ * The time spent in the driver, executing the request and reading the records of its response, is reported with the
+ * number of records read when the response is closed. The rest of the time the response was open, spent by the
+ * session mapping the records, is reported with the number of entities registered in the mapping context meanwhile.
+ * Requests failing in the driver are not reported.
+ */
+public class InstrumentedRequest implements Request {
+
+    private final Request request;
+    private final Operation operation;
+    private final Metrics metrics;
+    private final MappingContext mappingContext;
+
+    /**
+     * @param request        the request of the driver
+     * @param operation      the operation the request is executed for
+     * @param metrics        the metrics to report to
+     * @param mappingContext the mapping context the responses are mapped into
+     */
+    public InstrumentedRequest(Request request, Operation operation, Metrics metrics, MappingContext mappingContext) {
+        this.request = request;
+        this.operation = operation;
+        this.metrics = metrics;
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        return instrument(() -> request.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        return instrument(() -> request.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        return instrument(() -> request.execute(query));
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        return instrument(() -> request.execute(query));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        return instrument(() -> request.execute(query));
+    }
+
+    private <T> Response<T> instrument(Supplier<Response<T>> execution) {
+        long entities = mappingContext.registeredEntities();
+        long start = System.nanoTime();
+        Response<T> response = execution.get();
+        return new InstrumentedResponse<>(response, start, System.nanoTime() - start, entities);
+    }
+
+    private class InstrumentedResponse<T> implements Response<T> {
+
+        private final Response<T> response;
+        private final long start;
+        private final long entities;
+        private long driverNanos;
+        private long records;
+        private boolean closed;
+
+        InstrumentedResponse(Response<T> response, long start, long driverNanos, long entities) {
+            this.response = response;
+            this.start = start;
+            this.driverNanos = driverNanos;
+            this.entities = entities;
+        }
+
+        @Override
+        public T next() {
+            long nextStart = System.nanoTime();
+            T record = response.next();
+            driverNanos += System.nanoTime() - nextStart;
+            if (record != null) {
+                records++;
+            }
+            return record;
+        }
+
+        @Override
+        public void close() {
+            long closeStart = System.nanoTime();
+            response.close();
+            long end = System.nanoTime();
+            if (!closed) {
+                closed = true;
+                driverNanos += end - closeStart;
+                metrics.requestCompleted(operation, driverNanos, records);
+                metrics.mapped(operation, end - start - driverNanos,
+                    mappingContext.registeredEntities() - entities);
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return response.columns();
+        }
+    }
+}
@@ -15,16 +15,22 @@ package org.neo4j.ogm.session.request;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.context.Mappable;
 import org.neo4j.ogm.context.MappedRelationship;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.TransientRelationship;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.cypher.compiler.Compiler;
 import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metrics.Operation;
 import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.response.Response;
@@ -240,21 +246,14 @@ public class RequestExecutor {
 
             // execute the statements to create new nodes. The ids will be returned
             // and will be used in subsequent statements that refer to these new nodes.
-            try (Response<RowModel> response = session.requestHandler().execute(createNodesRowRequest)) {
+            try (Response<RowModel> response = session.requestHandler(Operation.SAVE).execute(createNodesRowRequest)) {
                 registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
             }
 
-            List<Statement> statements = new ArrayList<>();
-            statements.addAll(compiler.createRelationshipsStatements());
-            statements.addAll(compiler.updateNodesStatements());
-            statements.addAll(compiler.updateRelationshipStatements());
-            statements.addAll(compiler.deleteRelationshipStatements());
-            statements.addAll(compiler.deleteRelationshipEntityStatements());
-
             DefaultRequest defaultRequest = new DefaultRequest();
-            defaultRequest.setStatements(statements);
+            defaultRequest.setStatements(statementsDependentOnNewNodes(compiler));
 
-            try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
+            try (Response<RowModel> response = session.requestHandler(Operation.SAVE).execute(defaultRequest)) {
                 registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
             }
         } else { // only update / delete statements
@@ -262,7 +261,7 @@ public class RequestExecutor {
             if (statements.size() > 0) {
                 DefaultRequest defaultRequest = new DefaultRequest();
                 defaultRequest.setStatements(statements);
-                try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
+                try (Response<RowModel> response = session.requestHandler(Operation.SAVE).execute(defaultRequest)) {
                     registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
                 }
             }
@@ -273,12 +272,102 @@ public class RequestExecutor {
             tx.close();
         }
 
+        evictCachedEntities(context);
+
         //Update the mapping context now that the request is successful
         updateNodeEntities(context, session, entityReferenceMappings);
         updateRelationshipEntities(context, session, relReferenceMappings);
         updateRelationships(context, session, relReferenceMappings);
     }
 
+    /**
+     * Execute a save request without blocking the calling thread, in its own asynchronous transaction.
+     * The mapping context is updated once the transaction is committed.
+     *
+     * @param context the CompileContext for this request
+     * @return stage completed once the request is committed and the mapping context is updated
+     */
+    public CompletionStage<Void> executeSaveAsync(CompileContext context) {
+
+        Compiler compiler = context.getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        List<ReferenceMapping> entityReferenceMappings = new ArrayList<>();
+        List<ReferenceMapping> relReferenceMappings = new ArrayList<>();
+
+        return session.inAsyncTransaction(Transaction.Type.READ_WRITE, tx -> {
+            if (compiler.hasStatementsDependentOnNewNodes()) {
+                DefaultRequest createNodesRowRequest = new DefaultRequest();
+                createNodesRowRequest.setStatements(compiler.createNodesStatements());
+
+                return tx.execute(createNodesRowRequest)
+                    .thenCompose(response -> {
+                        registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings);
+                        DefaultRequest defaultRequest = new DefaultRequest();
+                        defaultRequest.setStatements(statementsDependentOnNewNodes(compiler));
+                        return tx.execute(defaultRequest);
+                    })
+                    .thenAccept(response ->
+                        registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings));
+            }
+            List<Statement> statements = compiler.getAllStatements();
+            if (statements.isEmpty()) {
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            DefaultRequest defaultRequest = new DefaultRequest();
+            defaultRequest.setStatements(statements);
+            return tx.execute(defaultRequest)
+                .thenAccept(response ->
+                    registerEntityIds(context, response, entityReferenceMappings, relReferenceMappings));
+        }).thenRun(() -> {
+            synchronized (session.context()) {
+                evictCachedEntities(context);
+                updateNodeEntities(context, session, entityReferenceMappings);
+                updateRelationshipEntities(context, session, relReferenceMappings);
+                updateRelationships(context, session, relReferenceMappings);
+            }
+        });
+    }
+
+    /**
+     * Evicts the cached loads containing the saved entities, or the nodes whose relationships have changed.
+     *
+     * @param context the compile context of the save
+     */
+    private void evictCachedEntities(CompileContext context) {
+        if (session.entityCache() == null) {
+            return;
+        }
+        Set<Long> nodeIds = new HashSet<>();
+        Set<Long> relationshipEntityIds = new HashSet<>();
+        for (Object object : context.registry()) {
+            if (object instanceof TransientRelationship) {
+                TransientRelationship relationship = (TransientRelationship) object;
+                nodeIds.add(context.getId(relationship.getSrc()));
+                nodeIds.add(context.getId(relationship.getTgt()));
+            } else if (session.metaData().classInfo(object).isRelationshipEntity()) {
+                relationshipEntityIds.add(session.context().nativeId(object));
+            } else {
+                nodeIds.add(session.context().nativeId(object));
+            }
+        }
+        for (Mappable relationship : context.getDeletedRelationships()) {
+            nodeIds.add(relationship.getStartNodeId());
+            nodeIds.add(relationship.getEndNodeId());
+        }
+        session.evictCached(nodeIds, relationshipEntityIds);
+    }
+
+    private List<Statement> statementsDependentOnNewNodes(Compiler compiler) {
+        List<Statement> statements = new ArrayList<>();
+        statements.addAll(compiler.createRelationshipsStatements());
+        statements.addAll(compiler.updateNodesStatements());
+        statements.addAll(compiler.updateRelationshipStatements());
+        statements.addAll(compiler.deleteRelationshipStatements());
+        statements.addAll(compiler.deleteRelationshipEntityStatements());
+        return statements;
+    }
+
     /**
      * Update the mapping context with new relationships created in a request.
      *
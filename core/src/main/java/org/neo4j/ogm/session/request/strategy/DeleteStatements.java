@@ -55,6 +55,19 @@ public interface DeleteStatements {
      */
     CypherQuery delete(String type);
 
+    /**
+     * construct a query to delete at most the specified number of objects with the specified label or relationship
+     * type, returning the ids of the deleted objects
+     *
+     * @param type  the label attached to the object, or the relationship type
+     * @param limit maximum number of objects to delete
+     * @return a {@link CypherQuery}
+     * @throws UnsupportedOperationException unless implemented, as by the statements of this library
+     */
+    default CypherQuery delete(String type, int limit) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support deleting in batches");
+    }
+
     /**
      * construct queries to delete all objects with the specified label that match the specified filters
      *
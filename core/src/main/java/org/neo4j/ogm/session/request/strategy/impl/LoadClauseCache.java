@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+/**
+ * Cache of the load clauses of load queries, shared by the sessions of a session factory.
+ * <p>
+ * The load clause (the RETURN part of a load query) only depends on the load strategy, the label of the loaded
+ * entities and the depth, and is the expensive part of a load query to build: the schema load strategy walks the
+ * schema up to the requested depth and builds a statement of up to several kilobytes. The match clauses, which
+ * depend on the filters and hold their parameters, are still built for each query.
+ * <p>
+ * The cache is thread safe. It holds at most {@code maxSize} load clauses, further load clauses are built for
+ * every query.
+ */
+public class LoadClauseCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final ConcurrentMap<Key, String> loadClauses = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public LoadClauseCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize maximum number of cached load clauses
+     */
+    public LoadClauseCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param loadStrategy      load strategy implemented by the builder
+     * @param loadClauseBuilder builder of the load clauses
+     * @return builder returning the cached load clauses, building them with the given builder on cache misses
+     */
+    public LoadClauseBuilder cached(LoadStrategy loadStrategy, LoadClauseBuilder loadClauseBuilder) {
+        return (variable, label, depth) -> {
+            Key key = new Key(loadStrategy, variable, label, depth);
+            String loadClause = loadClauses.get(key);
+            if (loadClause != null) {
+                hits.increment();
+                return loadClause;
+            }
+            misses.increment();
+            loadClause = loadClauseBuilder.build(variable, label, depth);
+            if (loadClauses.size() < maxSize) {
+                loadClauses.putIfAbsent(key, loadClause);
+            }
+            return loadClause;
+        };
+    }
+
+    /**
+     * @return number of load clauses returned from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of load clauses that had to be built
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of cached load clauses
+     */
+    public int size() {
+        return loadClauses.size();
+    }
+
+    /**
+     * Removes all cached load clauses and resets the counters.
+     */
+    public void clear() {
+        loadClauses.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private static final class Key {
+
+        private final LoadStrategy loadStrategy;
+        private final String variable;
+        private final String label;
+        private final int depth;
+
+        Key(LoadStrategy loadStrategy, String variable, String label, int depth) {
+            this.loadStrategy = loadStrategy;
+            this.variable = variable;
+            this.label = label;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return depth == key.depth
+                && loadStrategy == key.loadStrategy
+                && Objects.equals(variable, key.variable)
+                && Objects.equals(label, key.label);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(loadStrategy);
+            result = 31 * result + Objects.hashCode(variable);
+            result = 31 * result + Objects.hashCode(label);
+            result = 31 * result + depth;
+            return result;
+        }
+    }
+}
@@ -51,6 +51,13 @@ public class NodeDeleteStatements implements DeleteStatements {
             String.format("MATCH (n:`%s`) OPTIONAL MATCH (n)-[r0]-() DELETE r0, n", label), Utils.map());
     }
 
+    @Override
+    public CypherQuery delete(String label, int limit) {
+        return new DefaultRowModelRequest(
+            String.format("MATCH (n:`%s`) WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n "
+                + "RETURN DISTINCT ID(n)", label), Utils.map("limit", limit));
+    }
+
     @Override
     public CypherQuery delete(String label, Iterable<Filter> filters) {
         FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, filters);
@@ -46,6 +46,12 @@ public class RelationshipDeleteStatements implements DeleteStatements {
         return new DefaultRowModelRequest(String.format("MATCH (n)-[r0:`%s`]-() DELETE r0", type), Utils.map());
     }
 
+    public CypherQuery delete(String type, int limit) {
+        return new DefaultRowModelRequest(
+            String.format("MATCH (n)-[r0:`%s`]->() WITH r0 LIMIT { limit } DELETE r0 RETURN ID(r0)", type),
+            Utils.map("limit", limit));
+    }
+
     @Override
     public CypherQuery delete(String type, Iterable<Filter> filters) {
         FilteredQuery query = FilteredQueryBuilder.buildRelationshipQuery(type, filters);
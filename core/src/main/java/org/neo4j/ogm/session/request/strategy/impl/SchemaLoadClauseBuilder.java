@@ -65,10 +65,13 @@ public class SchemaLoadClauseBuilder implements LoadClauseBuilder {
     }
 
     private void expand(StringBuilder sb, String fromNodeVar, Node node, int level, int depth) {
+        // expand is always called after an opening bracket, so only entries after the first one need a separator
+        boolean first = true;
         for (Map.Entry<String, Relationship> entry : node.relationships().entrySet()) {
-            if (needsSeparator(sb)) {
+            if (!first) {
                 sb.append(", ");
             }
+            first = false;
 
             //            sb.append(entry.getKey() + " : ");
 
@@ -78,16 +81,6 @@ public class SchemaLoadClauseBuilder implements LoadClauseBuilder {
 
     }
 
-    private boolean needsSeparator(StringBuilder sb) {
-        for (int i = sb.length() - 1; i >= 0; i--) {
-            char ch = sb.charAt(i);
-            if (!Character.isWhitespace(ch)) {
-                return ch != '[' && ch != ',';
-            }
-        }
-        return false;
-    }
-
     private void listComprehension(StringBuilder sb, String fromNodeVar, Relationship relationship, Node node,
         int level, int depth) {
 
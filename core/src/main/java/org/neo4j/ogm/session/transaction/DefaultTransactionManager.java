@@ -15,6 +15,9 @@ package org.neo4j.ogm.session.transaction;
 
 import static java.util.Collections.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.core.TransactionManagerException;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -33,6 +36,10 @@ public class DefaultTransactionManager implements TransactionManager {
     private final Session session;
 
     private static final ThreadLocal<Transaction> TRANSACTION_THREAD_LOCAL = new ThreadLocal<>();
+    // System.nanoTime() at which the current transaction was opened, reported to the metrics of the session
+    private static final ThreadLocal<Long> TRANSACTION_START = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> COMPLETION_ACTIONS = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> COMMIT_ACTIONS = new ThreadLocal<>();
 
     public DefaultTransactionManager(Session session, Driver driver) {
         this.driver = driver;
@@ -40,6 +47,9 @@ public class DefaultTransactionManager implements TransactionManager {
         this.session = session;
 
         TRANSACTION_THREAD_LOCAL.remove();
+        TRANSACTION_START.remove();
+        COMPLETION_ACTIONS.remove();
+        COMMIT_ACTIONS.remove();
     }
 
     /**
@@ -66,6 +76,9 @@ public class DefaultTransactionManager implements TransactionManager {
     public Transaction openTransaction(Transaction.Type type, Iterable<String> bookmarks) {
         if (TRANSACTION_THREAD_LOCAL.get() == null) {
             TRANSACTION_THREAD_LOCAL.set(driver.newTransaction(type, bookmarks));
+            TRANSACTION_START.set(System.nanoTime());
+            COMPLETION_ACTIONS.remove();
+            COMMIT_ACTIONS.remove();
         } else {
             ((AbstractTransaction) TRANSACTION_THREAD_LOCAL.get()).extend(type);
         }
@@ -91,6 +104,7 @@ public class DefaultTransactionManager implements TransactionManager {
         }
 
         TRANSACTION_THREAD_LOCAL.remove();
+        transactionCompleted(transaction, false);
     }
 
     /**
@@ -106,6 +120,7 @@ public class DefaultTransactionManager implements TransactionManager {
             throw new TransactionManagerException("Transaction is not current for this thread");
         }
         TRANSACTION_THREAD_LOCAL.remove();
+        transactionCompleted(tx, true);
     }
 
     /**
@@ -166,5 +181,57 @@ public class DefaultTransactionManager implements TransactionManager {
 
     public void clear() {
         TRANSACTION_THREAD_LOCAL.remove();
+        TRANSACTION_START.remove();
+        COMPLETION_ACTIONS.remove();
+        COMMIT_ACTIONS.remove();
+    }
+
+    /**
+     * Registers an action to run once the current transaction of this thread has been committed or rolled back.
+     *
+     * @param action the action
+     */
+    public void afterCompletion(Runnable action) {
+        List<Runnable> actions = COMPLETION_ACTIONS.get();
+        if (actions == null) {
+            actions = new ArrayList<>();
+            COMPLETION_ACTIONS.set(actions);
+        }
+        actions.add(action);
+    }
+
+    /**
+     * Registers an action to run once the current transaction of this thread has been committed, before the actions
+     * registered with {@link #afterCompletion(Runnable)}. The action is dropped if the transaction is rolled back.
+     *
+     * @param action the action
+     */
+    public void afterCommit(Runnable action) {
+        List<Runnable> actions = COMMIT_ACTIONS.get();
+        if (actions == null) {
+            actions = new ArrayList<>();
+            COMMIT_ACTIONS.set(actions);
+        }
+        actions.add(action);
+    }
+
+    private void transactionCompleted(Transaction tx, boolean committed) {
+        List<Runnable> commitActions = COMMIT_ACTIONS.get();
+        COMMIT_ACTIONS.remove();
+        if (committed && commitActions != null) {
+            commitActions.forEach(Runnable::run);
+        }
+
+        List<Runnable> actions = COMPLETION_ACTIONS.get();
+        COMPLETION_ACTIONS.remove();
+        if (actions != null) {
+            actions.forEach(Runnable::run);
+        }
+
+        Long start = TRANSACTION_START.get();
+        TRANSACTION_START.remove();
+        if (start != null && session instanceof Neo4jSession) {
+            ((Neo4jSession) session).metrics().transactionCompleted(tx.type(), System.nanoTime() - start, committed);
+        }
     }
 }
@@ -12,10 +12,7 @@
  */
 package org.neo4j.ogm.typeconversion;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
 
 /**
  * By default the OGM will map date arrays to UTC-based ISO8601 compliant
@@ -30,10 +27,10 @@ import java.util.TimeZone;
  */
 public class DateArrayStringConverter implements AttributeConverter<Date[], String[]> {
 
-    private String format;
+    private final DateFormatter formatter;
 
     public DateArrayStringConverter(String userDefinedFormat) {
-        this.format = userDefinedFormat;
+        this.formatter = DateFormatter.forPattern(userDefinedFormat);
     }
 
     @Override
@@ -42,12 +39,9 @@ public class DateArrayStringConverter implements AttributeConverter<Date[], Stri
             return null;
         }
         String[] values = new String[(value.length)];
-
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
         int i = 0;
         for (Date date : value) {
-            values[i++] = simpleDateFormat.format(date);
+            values[i++] = formatter.format(date);
         }
         return values;
     }
@@ -60,12 +54,8 @@ public class DateArrayStringConverter implements AttributeConverter<Date[], Stri
         Date[] dates = new Date[dateValues.length];
 
         int i = 0;
-        try {
-            for (String date : dateValues) {
-                dates[i++] = new SimpleDateFormat(format).parse(date);
-            }
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
+        for (String date : dateValues) {
+            dates[i++] = formatter.parse(date);
         }
         return dates;
     }
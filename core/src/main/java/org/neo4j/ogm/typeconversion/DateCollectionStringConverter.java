@@ -12,15 +12,12 @@
  */
 package org.neo4j.ogm.typeconversion;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.TimeZone;
 import java.util.Vector;
 
 /**
@@ -36,13 +33,12 @@ import java.util.Vector;
  */
 public class DateCollectionStringConverter implements AttributeConverter<Collection<Date>, String[]> {
 
-    private SimpleDateFormat simpleDateFormat;
+    private final DateFormatter formatter;
     private final Class<? extends Collection> collectionClass;
 
     public DateCollectionStringConverter(String userDefinedFormat, Class<? extends Collection> collectionClass) {
         this.collectionClass = collectionClass;
-        simpleDateFormat = new SimpleDateFormat(userDefinedFormat);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        this.formatter = DateFormatter.forPattern(userDefinedFormat);
     }
 
     @Override
@@ -53,7 +49,7 @@ public class DateCollectionStringConverter implements AttributeConverter<Collect
         String[] values = new String[(value.size())];
         int i = 0;
         for (Date date : value) {
-            values[i++] = simpleDateFormat.format(date);
+            values[i++] = formatter.format(date);
         }
         return values;
     }
@@ -74,12 +70,8 @@ public class DateCollectionStringConverter implements AttributeConverter<Collect
         } else {
             return null;
         }
-        try {
-            for (String value : dateValues) {
-                values.add(simpleDateFormat.parse(value));
-            }
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
+        for (String value : dateValues) {
+            values.add(formatter.parse(value));
         }
         return values;
     }
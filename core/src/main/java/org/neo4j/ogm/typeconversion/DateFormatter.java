@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.typeconversion;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+
+/**
+ * Thread safe formatter of dates to strings in UTC, shared by the converters using the same
+ * {@link SimpleDateFormat} pattern.
+ * <p>
+ * The default {@link DateString#ISO_8601} pattern, used by all the date fields without a user defined format, is
+ * formatted and parsed with an immutable {@link DateTimeFormatter}. Other patterns keep the semantics of
+ * {@link SimpleDateFormat}, whose pattern letters differ from the ones of {@link DateTimeFormatter}, with a
+ * {@link SimpleDateFormat} per thread.
+ */
+final class DateFormatter {
+
+    private static final ConcurrentMap<String, DateFormatter> formatters = new ConcurrentHashMap<>();
+
+    private static final DateTimeFormatter ISO_8601 = DateTimeFormatter.ofPattern(DateString.ISO_8601)
+        .withZone(ZoneOffset.UTC);
+
+    // on Java 8 the zone of a formatter overrides the parsed offset, so values are parsed without it
+    private static final DateTimeFormatter ISO_8601_PARSER = DateTimeFormatter.ofPattern(DateString.ISO_8601);
+
+    private final boolean iso8601;
+    private final ThreadLocal<SimpleDateFormat> simpleDateFormat;
+
+    private DateFormatter(String pattern) {
+        this.iso8601 = DateString.ISO_8601.equals(pattern);
+        this.simpleDateFormat = iso8601 ? null : ThreadLocal.withInitial(() -> {
+            SimpleDateFormat format = new SimpleDateFormat(pattern);
+            format.setTimeZone(TimeZone.getTimeZone("UTC"));
+            return format;
+        });
+    }
+
+    /**
+     * @param pattern {@link SimpleDateFormat} pattern
+     * @return the formatter of the pattern
+     */
+    static DateFormatter forPattern(String pattern) {
+        return formatters.computeIfAbsent(pattern, DateFormatter::new);
+    }
+
+    String format(Date date) {
+        if (iso8601) {
+            return ISO_8601.format(date.toInstant());
+        }
+        return simpleDateFormat.get().format(date);
+    }
+
+    Date parse(String value) {
+        try {
+            if (iso8601) {
+                return Date.from(ISO_8601_PARSER.parse(value, Instant::from));
+            }
+            return simpleDateFormat.get().parse(value);
+        } catch (ParseException | DateTimeParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -13,10 +13,7 @@
 
 package org.neo4j.ogm.typeconversion;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -34,16 +31,15 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class DateStringConverter implements AttributeConverter<Date, String> {
 
-    private final String format;
+    private final DateFormatter formatter;
     private final boolean lenient;
 
     public DateStringConverter(String userDefinedFormat) {
-        this.format = userDefinedFormat;
-        this.lenient = false;
+        this(userDefinedFormat, false);
     }
 
     public DateStringConverter(String userDefinedFormat, boolean lenient) {
-        this.format = userDefinedFormat;
+        this.formatter = DateFormatter.forPattern(userDefinedFormat);
         this.lenient = lenient;
     }
 
@@ -51,9 +47,7 @@ public class DateStringConverter implements AttributeConverter<Date, String> {
     public String toGraphProperty(Date value) {
         if (value == null)
             return null;
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return simpleDateFormat.format(value);
+        return formatter.format(value);
     }
 
     @Override
@@ -61,12 +55,6 @@ public class DateStringConverter implements AttributeConverter<Date, String> {
         if (value == null || (lenient && StringUtils.isBlank(value))) {
             return null;
         }
-        try {
-            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-            simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-            return simpleDateFormat.parse(value);
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
-        }
+        return formatter.parse(value);
     }
 }
@@ -14,14 +14,13 @@
 package org.neo4j.ogm.drivers.embedded.request;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.QueryExecutionException;
 import org.neo4j.graphdb.Result;
-import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.ParameterConversion;
 import org.neo4j.ogm.drivers.embedded.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.GraphRowModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.RestModelResponse;
@@ -46,24 +45,16 @@ import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 /**
  * @author vince
  * @author Luanne Misquitta
  */
 public class EmbeddedRequest implements Request {
 
-    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-
     private final GraphDatabaseService graphDatabaseService;
     private final Logger logger = LoggerFactory.getLogger(EmbeddedRequest.class);
     private final TransactionManager transactionManager;
 
-    private final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
-    };
-
     public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager) {
         this.graphDatabaseService = graphDatabaseService;
         this.transactionManager = transactionManager;
@@ -156,7 +147,7 @@ public class EmbeddedRequest implements Request {
         try {
             String cypher = statement.getStatement();
 
-            Map<String, Object> parameterMap = mapper.convertValue(statement.getParameters(), MAP_TYPE_REF);
+            Map<String, Object> parameterMap = ParameterConversion.convertParameters(statement.getParameters());
             logger.info("Request: {} with params {}", cypher, parameterMap);
 
             // If we don't have a current transactional context for this operation
@@ -33,12 +33,10 @@ public class GraphRowModelResponse extends EmbeddedResponse<GraphRowListModel> {
     @Override
     public GraphRowListModel next() {
 
+        // one record at a time, so that the response can be consumed lazily
         if (result.hasNext()) {
             DefaultGraphRowListModel model = new DefaultGraphRowListModel();
-
-            while (result.hasNext()) {
-                model.add(adapter.adapt(result.next()));
-            }
+            model.add(adapter.adapt(result.next()));
             return model;
         }
         return null;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.driver;
+
+import java.util.function.Function;
+
+import org.neo4j.ogm.drivers.http.driver.HttpEndpoints.Endpoint;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Request executed by an endpoint of {@link HttpEndpoints}, counting the requests each endpoint is executing and
+ * ejecting the endpoints that fail.
+ * <p>
+ * Read only statements executed outside of a transaction are executed again by the next reader when a follower
+ * fails; other statements are not, as they may already have been executed.
+ */
+final class EndpointRequest implements Request {
+
+    private final HttpEndpoints endpoints;
+    private final Endpoint endpoint;
+    private final boolean retryOnFollowers;
+    private final Function<Endpoint, Request> requests;
+
+    /**
+     * @param endpoints        the endpoints of the driver
+     * @param endpoint         the endpoint executing the statements
+     * @param retryOnFollowers whether the statements may be executed by another reader if a follower fails
+     * @param requests         creates the request sending the statements to an endpoint
+     */
+    EndpointRequest(HttpEndpoints endpoints, Endpoint endpoint, boolean retryOnFollowers,
+        Function<Endpoint, Request> requests) {
+        this.endpoints = endpoints;
+        this.endpoint = endpoint;
+        this.retryOnFollowers = retryOnFollowers;
+        this.requests = requests;
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        return execute(request -> request.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        return execute(request -> request.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        return execute(request -> request.execute(query));
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        return execute(request -> request.execute(query));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        return execute(request -> request.execute(query));
+    }
+
+    private <T> Response<T> execute(Function<Request, Response<T>> execution) {
+        Endpoint endpoint = this.endpoint;
+        while (true) {
+            endpoint.acquire();
+            Response<T> response;
+            try {
+                response = execution.apply(requests.apply(endpoint));
+            } catch (ConnectionException e) {
+                endpoint.release();
+                if (endpoints.failed(endpoint, e) && retryOnFollowers && endpoint != endpoints.leader()) {
+                    endpoint = endpoints.reader();
+                    continue;
+                }
+                throw e;
+            } catch (RuntimeException e) {
+                endpoint.release();
+                throw e;
+            }
+            endpoint.succeeded();
+            return new EndpointResponse<>(response, endpoint);
+        }
+    }
+
+    /**
+     * Response releasing its endpoint when closed.
+     */
+    private static final class EndpointResponse<T> implements Response<T> {
+
+        private final Response<T> response;
+        private final Endpoint endpoint;
+        private boolean closed;
+
+        EndpointResponse(Response<T> response, Endpoint endpoint) {
+            this.response = response;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public T next() {
+            return response.next();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                endpoint.release();
+            }
+            response.close();
+        }
+
+        @Override
+        public String[] columns() {
+            return response.columns();
+        }
+    }
+}
@@ -38,9 +38,12 @@ import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.util.EntityUtils;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.drivers.http.driver.HttpEndpoints.Endpoint;
+import org.neo4j.ogm.drivers.http.driver.HttpEndpoints.LoadBalancing;
 import org.neo4j.ogm.drivers.http.request.HttpRequest;
 import org.neo4j.ogm.drivers.http.request.HttpRequestException;
 import org.neo4j.ogm.drivers.http.transaction.HttpTransaction;
+import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.exception.ResultErrorsException;
 import org.neo4j.ogm.request.DefaultRequest;
 import org.neo4j.ogm.request.Request;
@@ -50,6 +53,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Driver talking to the transactional http endpoint of the database.
+ * <p>
+ * When {@link Configuration#getURIS()} lists the followers of a cluster, the writes are sent to
+ * {@link Configuration#getURI()}, the leader, and read only transactions and read only queries executed outside of a
+ * transaction are balanced across the followers, see {@link HttpEndpoints}.
+ *
  * @author vince
  */
 
@@ -58,6 +67,7 @@ public final class HttpDriver extends AbstractConfigurableDriver {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpDriver.class);
 
     private CloseableHttpClient httpClient;
+    private HttpEndpoints endpoints;
 
     public HttpDriver() {
     }
@@ -69,6 +79,8 @@ public final class HttpDriver extends AbstractConfigurableDriver {
     @Override
     public void configure(Configuration config) {
         super.configure(config);
+        endpoints = new HttpEndpoints(config.getURI(), config.getURIS(),
+            LoadBalancing.fromString(config.getHttpLoadBalancing()));
 
         if (config.getVerifyConnection()) {
             httpClient();
@@ -92,12 +104,28 @@ public final class HttpDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request() {
+        return request(Transaction.Type.READ_WRITE);
+    }
+
+    @Override
+    public Request request(Transaction.Type type) {
         Transaction tx = transactionManager.getCurrentTransaction();
-        if (tx == null) {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials());
-        } else {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), tx.isReadOnly());
+        if (!endpoints.hasFollowers()) {
+            boolean readOnly = tx != null && tx.isReadOnly();
+            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), readOnly,
+                configuration.getHttpRequestCompression());
+        }
+        if (tx != null) {
+            String url = ((HttpTransaction) tx).url();
+            LOGGER.debug("Thread: {}, request url {}", Thread.currentThread().getId(), url);
+            return new EndpointRequest(endpoints, endpoints.endpointOf(url), false,
+                endpoint -> new HttpRequest(httpClient(), url, configuration.getCredentials(), tx.isReadOnly(),
+                    configuration.getHttpRequestCompression()));
         }
+        boolean readOnly = type == Transaction.Type.READ_ONLY;
+        return new EndpointRequest(endpoints, readOnly ? endpoints.reader() : endpoints.leader(), readOnly,
+            endpoint -> new HttpRequest(httpClient(), endpoint.autoCommitUrl(), configuration.getCredentials(),
+                readOnly, configuration.getHttpRequestCompression()));
     }
 
     @Override
@@ -105,7 +133,21 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         if (bookmarks != null && bookmarks.iterator().hasNext()) {
             LOGGER.warn("Passing bookmarks {} to HttpDriver. This is not currently supported.", bookmarks);
         }
-        return new HttpTransaction(transactionManager, this, newTransactionUrl(type), type);
+        Endpoint endpoint = type == Transaction.Type.READ_ONLY ? endpoints.reader() : endpoints.leader();
+        while (true) {
+            try {
+                String url = newTransactionUrl(endpoint, type);
+                endpoint.succeeded();
+                return new HttpTransaction(transactionManager, this, url, type);
+            } catch (ConnectionException e) {
+                // no statement has been executed yet, the transaction can be started by another reader
+                if (endpoint != endpoints.leader() && endpoints.failed(endpoint, e)) {
+                    endpoint = endpoints.reader();
+                } else {
+                    throw e;
+                }
+            }
+        }
     }
 
     public CloseableHttpResponse executeHttpRequest(HttpRequestBase request) throws HttpRequestException {
@@ -131,9 +173,9 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         }
     }
 
-    private String newTransactionUrl(Transaction.Type type) {
+    private String newTransactionUrl(Endpoint endpoint, Transaction.Type type) {
 
-        String url = transactionEndpoint(configuration.getURI());
+        String url = endpoint.transactionEndpoint();
         LOGGER.debug("Thread: {}, POST {}", Thread.currentThread().getId(), url);
 
         HttpPost request = new HttpPost(url);
@@ -148,19 +190,7 @@ public final class HttpDriver extends AbstractConfigurableDriver {
     }
 
     private String autoCommitUrl() {
-        return transactionEndpoint(configuration.getURI()).concat("/commit");
-    }
-
-    private String transactionEndpoint(String server) {
-        if (server == null) {
-            return null;
-        }
-        String url = server;
-
-        if (!server.endsWith("/")) {
-            url += "/";
-        }
-        return url + "db/data/transaction";
+        return endpoints.leader().autoCommitUrl();
     }
 
     private String requestUrl() {
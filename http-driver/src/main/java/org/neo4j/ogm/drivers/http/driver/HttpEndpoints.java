@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.driver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.apache.http.client.HttpResponseException;
+import org.neo4j.ogm.drivers.http.request.HttpRequestException;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Servers of a cluster the {@link HttpDriver} talks to: the leader, which executes the writes, and the followers,
+ * across which read only transactions and queries are balanced.
+ * <p>
+ * A follower failing to answer is ejected for a backoff period, doubled at each consecutive failure up to
+ * {@link #MAX_BACKOFF_MILLIS}. Once the backoff has elapsed, the follower is selected again and is back in the pool
+ * after its first success. Reads fall back to the leader while all the followers are ejected.
+ * <p>
+ * Thread safe.
+ */
+final class HttpEndpoints {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpEndpoints.class);
+
+    static final long INITIAL_BACKOFF_MILLIS = 1_000;
+    static final long MAX_BACKOFF_MILLIS = 60_000;
+
+    /**
+     * Strategies selecting the follower of the next read.
+     */
+    enum LoadBalancing {
+
+        /**
+         * Selects the followers in turn.
+         */
+        ROUND_ROBIN("round-robin"),
+
+        /**
+         * Selects the follower with the fewest requests being executed, in turn among followers with as many.
+         */
+        LEAST_OUTSTANDING_REQUESTS("least-outstanding-requests");
+
+        private final String name;
+
+        LoadBalancing(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param name name of the strategy, case insensitive
+         * @return the strategy, round robin if the name is null
+         */
+        static LoadBalancing fromString(String name) {
+            if (name == null) {
+                return ROUND_ROBIN;
+            }
+            for (LoadBalancing loadBalancing : values()) {
+                if (name.equalsIgnoreCase(loadBalancing.name)) {
+                    return loadBalancing;
+                }
+            }
+            throw new IllegalArgumentException("Unknown http load balancing strategy: " + name);
+        }
+    }
+
+    private final Endpoint leader;
+    private final Endpoint[] followers;
+    private final LoadBalancing loadBalancing;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger turn = new AtomicInteger();
+
+    /**
+     * @param leader        uri of the leader
+     * @param uris          uris of the followers, may include the leader, or null
+     * @param loadBalancing strategy selecting the follower of the next read
+     */
+    HttpEndpoints(String leader, String[] uris, LoadBalancing loadBalancing) {
+        this(leader, uris, loadBalancing, System::nanoTime);
+    }
+
+    HttpEndpoints(String leader, String[] uris, LoadBalancing loadBalancing, LongSupplier nanoClock) {
+        this.leader = new Endpoint(leader);
+        this.loadBalancing = loadBalancing;
+        this.nanoClock = nanoClock;
+
+        List<Endpoint> followers = new ArrayList<>();
+        if (uris != null) {
+            for (String uri : uris) {
+                Endpoint follower = new Endpoint(uri.trim());
+                if (!follower.uri.equals(this.leader.uri) && !contains(followers, follower)) {
+                    followers.add(follower);
+                }
+            }
+        }
+        this.followers = followers.toArray(new Endpoint[0]);
+    }
+
+    Endpoint leader() {
+        return leader;
+    }
+
+    boolean hasFollowers() {
+        return followers.length > 0;
+    }
+
+    /**
+     * @return the endpoint that should execute the next read: an available follower, or the leader if there is none
+     */
+    Endpoint reader() {
+        if (followers.length == 0) {
+            return leader;
+        }
+        long now = nanoClock.getAsLong();
+        int start = Math.floorMod(turn.getAndIncrement(), followers.length);
+        Endpoint selected = null;
+        for (int i = 0; i < followers.length; i++) {
+            Endpoint follower = followers[(start + i) % followers.length];
+            if (!follower.isAvailable(now)) {
+                continue;
+            }
+            if (loadBalancing == LoadBalancing.ROUND_ROBIN) {
+                return follower;
+            }
+            if (selected == null || follower.outstanding.get() < selected.outstanding.get()) {
+                selected = follower;
+            }
+        }
+        return selected != null ? selected : leader;
+    }
+
+    /**
+     * @param url url of a transaction
+     * @return the endpoint the url belongs to, the leader if it belongs to none
+     */
+    Endpoint endpointOf(String url) {
+        for (Endpoint follower : followers) {
+            if (url.startsWith(follower.uri)) {
+                return follower;
+            }
+        }
+        return leader;
+    }
+
+    /**
+     * Ejects the endpoint if the exception shows it could not be reached or is unavailable. Exceptions reporting
+     * errors of the request itself, such as client errors, do not eject the endpoint.
+     *
+     * @param endpoint  endpoint that failed to execute a request
+     * @param exception the exception thrown by the request
+     * @return true if the endpoint was ejected
+     */
+    boolean failed(Endpoint endpoint, ConnectionException exception) {
+        if (exception instanceof HttpRequestException && exception.getCause() instanceof HttpResponseException
+            && ((HttpResponseException) exception.getCause()).getStatusCode() < 500) {
+            return false;
+        }
+        endpoint.eject(nanoClock.getAsLong(), exception);
+        return true;
+    }
+
+    private static boolean contains(List<Endpoint> endpoints, Endpoint endpoint) {
+        for (Endpoint other : endpoints) {
+            if (other.uri.equals(endpoint.uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A server, with its number of requests being executed and its ejection state.
+     */
+    static final class Endpoint {
+
+        private final String uri;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile int failures;
+        private volatile long ejectedUntil;
+
+        Endpoint(String uri) {
+            this.uri = uri == null || uri.endsWith("/") ? uri : uri + "/";
+        }
+
+        String uri() {
+            return uri;
+        }
+
+        String transactionEndpoint() {
+            return uri == null ? null : uri + "db/data/transaction";
+        }
+
+        String autoCommitUrl() {
+            return uri == null ? null : transactionEndpoint() + "/commit";
+        }
+
+        int outstanding() {
+            return outstanding.get();
+        }
+
+        boolean isAvailable(long now) {
+            return failures == 0 || now - ejectedUntil >= 0;
+        }
+
+        void acquire() {
+            outstanding.incrementAndGet();
+        }
+
+        void release() {
+            outstanding.decrementAndGet();
+        }
+
+        void succeeded() {
+            if (failures != 0) {
+                synchronized (this) {
+                    LOGGER.info("Endpoint {} is back after {} failures", uri, failures);
+                    failures = 0;
+                }
+            }
+        }
+
+        private synchronized void eject(long now, Exception exception) {
+            int shift = Math.min(failures, 16);
+            long backoff = Math.min(INITIAL_BACKOFF_MILLIS << shift, MAX_BACKOFF_MILLIS);
+            failures++;
+            ejectedUntil = now + TimeUnit.MILLISECONDS.toNanos(backoff);
+            LOGGER.warn("Endpoint {} failed, ejected for {} ms: {}", uri, backoff, exception.getLocalizedMessage());
+        }
+
+        @Override
+        public String toString() {
+            return uri;
+        }
+    }
+}
@@ -25,7 +25,6 @@ import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HTTP;
@@ -72,16 +71,26 @@ public class HttpRequest implements Request {
     private final CloseableHttpClient httpClient;
     private final Credentials credentials;
     private final boolean readOnly;
+    private final boolean compressed;
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials) {
         this(httpClient, url, credentials, false);
     }
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly) {
+        this(httpClient, url, credentials, readOnly, false);
+    }
+
+    /**
+     * @param compressed whether the statements are sent compressed with gzip
+     */
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly,
+        boolean compressed) {
         this.httpClient = httpClient;
         this.url = url;
         this.credentials = credentials;
         this.readOnly = readOnly;
+        this.compressed = compressed;
     }
 
     @Override
@@ -89,8 +98,8 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new GraphModelResponse(executeRequest(cypher));
+            Statements statements = statements(request);
+            return new GraphModelResponse(executeRequest(statements));
         }
     }
 
@@ -99,16 +108,15 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new RowModelResponse(executeRequest(cypher));
+            Statements statements = statements(request);
+            return new RowModelResponse(executeRequest(statements));
         }
     }
 
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
         Statements statements = new Statements(query.getStatements());
-        String cypher = cypherRequest(statements);
-        return new RowModelResponse(executeRequest(cypher));
+        return new RowModelResponse(executeRequest(statements));
     }
 
     @Override
@@ -116,8 +124,8 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new GraphRowsModelResponse(executeRequest(cypher));
+            Statements statements = statements(request);
+            return new GraphRowsModelResponse(executeRequest(statements));
         }
     }
 
@@ -126,33 +134,21 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new RestModelResponse(executeRequest(cypher));
+            Statements statements = statements(request);
+            return new RestModelResponse(executeRequest(statements));
         }
     }
 
-    // we use the OBJECT_MAPPER to create the request string from the statement.
+    // the statements are serialized to JSON by the StatementsEntity, while the request is sent.
     // this driver is the only one that needs to do this, because the request format
     // is different for each type of request - GraphModelRequest/RowModelRequest, etc
-    private String cypherRequest(Statement statement) {
+    private Statements statements(Statement statement) {
         List<Statement> statementList = new ArrayList<>();
         statementList.add(statement);
-        try {
-            return OBJECT_MAPPER.writeValueAsString(new Statements(statementList));
-        } catch (JsonProcessingException jpe) {
-            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
-        }
-    }
-
-    private String cypherRequest(Statements statements) {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(statements);
-        } catch (JsonProcessingException jpe) {
-            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
-        }
+        return new Statements(statementList);
     }
 
-    private CloseableHttpResponse executeRequest(String cypher) throws HttpRequestException {
+    private CloseableHttpResponse executeRequest(Statements statements) throws HttpRequestException {
 
         String url = this.url;
 
@@ -160,14 +156,36 @@ public class HttpRequest implements Request {
 
         HttpPost request = new HttpPost(url);
 
-        request.setEntity(new StringEntity(cypher, "UTF-8"));
+        request.setEntity(new StatementsEntity(statements, compressed));
         request.setHeader("X-WRITE", readOnly ? "0" : "1");
 
-        LOGGER.info("Thread: {}, url: {}, request: {}", Thread.currentThread().getId(), url, cypher);
+        if (LOGGER.isDebugEnabled()) {
+            // the body is only built in memory for the debug log
+            LOGGER.debug("Thread: {}, url: {}, request: {}", Thread.currentThread().getId(), url, json(statements));
+        } else {
+            LOGGER.info("Thread: {}, url: {}, statements: {}", Thread.currentThread().getId(), url,
+                cypher(statements));
+        }
 
         return execute(httpClient, request, credentials);
     }
 
+    private static String json(Statements statements) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(statements);
+        } catch (JsonProcessingException jpe) {
+            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
+        }
+    }
+
+    private static List<String> cypher(Statements statements) {
+        List<String> cypher = new ArrayList<>();
+        for (Statement statement : statements.getStatements()) {
+            cypher.add(statement.getStatement());
+        }
+        return cypher;
+    }
+
     public static CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpRequestBase request,
         Credentials credentials) throws HttpRequestException {
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.exception.ResultProcessingException;
+import org.neo4j.ogm.request.Statements;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Request entity writing the JSON of statements to the connection while the request is sent, so that the request
+ * body is never held in memory. The body is sent with chunked transfer encoding, and optionally compressed with gzip.
+ * <p>
+ * The entity is repeatable: the statements are serialized again each time the request is sent.
+ */
+public class StatementsEntity extends AbstractHttpEntity {
+
+    private static final ObjectWriter WRITER = ObjectMapperFactory.objectMapper().writer()
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Statements statements;
+    private final boolean compressed;
+
+    /**
+     * @param statements statements to send
+     * @param compressed whether the body should be compressed with gzip
+     */
+    public StatementsEntity(Statements statements, boolean compressed) {
+        this.statements = statements;
+        this.compressed = compressed;
+        setContentType("application/json;charset=UTF-8");
+        setChunked(true);
+        if (compressed) {
+            setContentEncoding("gzip");
+        }
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * @return the body, built in memory. Prefer {@link #writeTo(OutputStream)}.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        writeTo(content);
+        return new ByteArrayInputStream(content.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (compressed) {
+            GZIPOutputStream gzipStream = new GZIPOutputStream(outStream, BUFFER_SIZE);
+            write(gzipStream);
+            // the connection closes the stream it owns
+            gzipStream.finish();
+        } else {
+            write(outStream);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    private void write(OutputStream outStream) throws IOException {
+        try {
+            WRITER.writeValue(outStream, statements);
+        } catch (JsonProcessingException jpe) {
+            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
+        }
+    }
+}
@@ -15,93 +15,116 @@ package org.neo4j.ogm.drivers.http.response;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
 
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.neo4j.ogm.config.ObjectMapperFactory;
 import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.exception.ResultProcessingException;
 import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.response.model.QueryStatisticsModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
+ * Response of the transactional endpoint, parsed while it is read from the connection.
+ * <p>
+ * The response is walked one record at a time: only the record being returned is held in memory, and the first
+ * record is available as soon as it has been received. The columns precede the records of each statement, so
+ * {@link #columns()} is known once the response has been created; the statistics of a statement follow its records
+ * and the errors follow all the results, so they are only known once the records before them have been read.
+ * Errors of a request whose statements returned no results are thrown when the response is created, other errors
+ * are thrown once the last record has been read, or when the response is closed.
+ * <p>
+ * The connection is held until the whole response has been read: {@link #close()} reads the records that have not
+ * been consumed.
+ *
  * @author vince
  * @author Luanne Misquitta
  */
 public abstract class AbstractHttpResponse<T> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpResponse.class);
+
+    /**
+     * Position of the parser in the response.
+     */
+    private enum Level {
+        // fields of the response
+        RESPONSE,
+        // elements of the results array
+        RESULTS,
+        // fields of a statement result
+        RESULT,
+        // elements of the data array of a statement result
+        DATA,
+        // fields of a record
+        RECORD
+    }
+
     private final InputStream results;
-    private final JsonParser bufferParser;
+    private final JsonParser parser;
     private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-    private final TokenBuffer buffer;
     private final Class<T> resultClass;
     private final CloseableHttpResponse httpResponse;
 
+    private Level level = Level.RESPONSE;
+    // the current token of the parser has not been processed yet
+    private boolean pending;
+    private boolean finished;
+
     private String[] columns;
     private QueryStatistics queryStatistics;
-    private JsonNode responseNode;
-
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpResponse.class);
+    private CypherException error;
 
     public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass) {
 
         this.resultClass = resultClass;
+        this.httpResponse = httpResponse;
         try {
-            this.httpResponse = httpResponse;
             this.results = httpResponse.getEntity().getContent();
-            JsonParser parser = ObjectMapperFactory.jsonFactory().createParser(results);
-            buffer = new TokenBuffer(parser);
-            //Copy the contents of the response into the token buffer.
-            //This is so that we do not have to serialize the response to textual json while we get to the end of the stream to check for errors
-            parser.nextToken();
-            buffer.copyCurrentStructure(parser);
-            bufferParser = buffer.asParser();
-        } catch (IOException ioException) {
-            throw new RuntimeException(ioException);
-        } finally {
-            close(); //We are done with the InputStream
-        }
-        initialise();
-    }
-
-    private void initialise() {
-        try {
-            responseNode = mapper.readTree(buffer.asParser());
-            LOGGER.debug("Response: {}", responseNode);
-            JsonNode errors = responseNode.findValue("errors");
-            if (errors.elements().hasNext()) {
-                JsonNode errorNode = errors.elements().next();
-                throw new CypherException("Error executing Cypher " + errorNode.findValue("code"),
-                    errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
+            this.parser = ObjectMapperFactory.jsonFactory().createParser(results);
+            // read up to the records of the first statement, so that its columns are known, and so that the errors
+            // of requests without results are thrown right away
+            if (advance("data")) {
+                pending = true;
+            } else {
+                finish();
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+        } catch (IOException ioException) {
+            abort();
+            throw new ResultProcessingException("Could not read the response", ioException);
+        } catch (RuntimeException exception) {
+            abort();
+            throw exception;
         }
     }
 
+    /**
+     * Reads the next model of the response.
+     *
+     * @param key field of the records holding the model, or field of the statement results for models spanning all
+     *            the records of a statement. The model is read from this field up to the end of the enclosing object.
+     * @return the model, or null when all the records have been read
+     */
     public T nextDataRecord(String key) {
-        JsonToken token;
         try {
-            while ((token = bufferParser.nextToken()) != null) {
-                if (JsonToken.FIELD_NAME.equals(token)) {
-                    if (key.equals(bufferParser.getCurrentName())) {
-                        return mapper.readValue(bufferParser, resultClass);
-                    }
-                }
+            if (!advance(key)) {
+                finish();
+                return null;
             }
+            T record = mapper.readValue(parser, resultClass);
+            // the model has been read up to the end of the enclosing record or statement result
+            level = level == Level.RECORD ? Level.DATA : Level.RESULTS;
+            return record;
         } catch (IOException e) {
-            e.printStackTrace();
+            abort();
+            throw new ResultProcessingException("Could not read the response", e);
         }
-        return null;
     }
 
     /**
@@ -111,44 +134,154 @@ public abstract class AbstractHttpResponse<T> {
      * @return the first set of columns from a JSON response
      */
     public String[] columns() {
-        if (columns == null) {
-            List<String> columnsList = new ArrayList<>();
-            List<JsonNode> columnsNodes = responseNode.findValues("columns");
-            if (columnsNodes != null && columnsNodes.size() > 0) {
-                JsonNode firstColumnsNode = columnsNodes.get(0);
-                for (JsonNode columnNode : firstColumnsNode) {
-                    columnsList.add(columnNode.asText());
-                }
-                columns = new String[columnsList.size()];
-                columns = columnsList.toArray(columns);
-            }
-        }
         return columns;
     }
 
     /**
-     * Extract stats from the response if present
+     * Extract stats from the response if present. Statistics follow the records of their statement, so this
+     * returns null until those records have been read.
      *
      * @return queryStatistics or null if the response does not contain it
      */
     public QueryStatistics statistics() {
-        if (queryStatistics == null) {
-            List<JsonNode> statsNodes = responseNode.findValues("stats");
-            try {
-                if (statsNodes != null && statsNodes.size() > 0) {
-                    queryStatistics = mapper.treeToValue(statsNodes.get(0), QueryStatisticsModel.class);
-                }
-            } catch (JsonProcessingException jsonException) {
-                throw new RuntimeException(jsonException);
+        return queryStatistics;
+    }
+
+    /**
+     * Reads the rest of the response, so that its errors are reported, and releases the connection.
+     */
+    public void close() {
+        try {
+            advance(null);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the rest of the response: {}", e.getLocalizedMessage());
+        } finally {
+            finish();
+        }
+    }
+
+    /**
+     * Moves the parser to the next field named key in a statement result or a record, reading the columns,
+     * statistics and errors on the way.
+     *
+     * @param key name of the field, null to read the whole response
+     * @return true if the parser is on the field, false at the end of the response
+     */
+    private boolean advance(String key) throws IOException {
+        if (finished) {
+            return false;
+        }
+        JsonToken token;
+        while ((token = nextToken()) != null) {
+            switch (level) {
+                case RESPONSE:
+                    // the other tokens open and close the response
+                    if (token == JsonToken.FIELD_NAME) {
+                        String name = parser.getCurrentName();
+                        parser.nextToken();
+                        if ("results".equals(name)) {
+                            level = Level.RESULTS;
+                        } else if ("errors".equals(name)) {
+                            readErrors();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    break;
+                case RESULTS:
+                    level = token == JsonToken.START_OBJECT ? Level.RESULT : Level.RESPONSE;
+                    break;
+                case RESULT:
+                    if (token == JsonToken.END_OBJECT) {
+                        level = Level.RESULTS;
+                        break;
+                    }
+                    String name = parser.getCurrentName();
+                    if (name.equals(key)) {
+                        return true;
+                    }
+                    parser.nextToken();
+                    if ("columns".equals(name)) {
+                        String[] statementColumns = mapper.readValue(parser, String[].class);
+                        if (columns == null) {
+                            columns = statementColumns;
+                        }
+                    } else if ("stats".equals(name)) {
+                        QueryStatisticsModel statistics = mapper.readValue(parser, QueryStatisticsModel.class);
+                        if (queryStatistics == null) {
+                            queryStatistics = statistics;
+                        }
+                    } else if ("data".equals(name)) {
+                        level = Level.DATA;
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case DATA:
+                    level = token == JsonToken.START_OBJECT ? Level.RECORD : Level.RESULT;
+                    break;
+                case RECORD:
+                    if (token == JsonToken.END_OBJECT) {
+                        level = Level.DATA;
+                        break;
+                    }
+                    if (parser.getCurrentName().equals(key)) {
+                        return true;
+                    }
+                    parser.nextToken();
+                    parser.skipChildren();
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected level " + level);
             }
         }
-        return queryStatistics;
+        return false;
     }
 
-    private void close() {
+    private JsonToken nextToken() throws IOException {
+        if (pending) {
+            pending = false;
+            return parser.getCurrentToken();
+        }
+        return parser.nextToken();
+    }
+
+    private void readErrors() throws IOException {
+        JsonNode errors = mapper.readTree(parser);
+        if (error == null && errors.elements().hasNext()) {
+            JsonNode errorNode = errors.elements().next();
+            error = new CypherException("Error executing Cypher " + errorNode.findValue("code"),
+                errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
+        }
+    }
+
+    /**
+     * Releases the connection once the response has been read, and throws its error if any.
+     */
+    private void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        release();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void abort() {
+        if (!finished) {
+            finished = true;
+            release();
+        }
+    }
+
+    private void release() {
         try {
             LOGGER.debug("Thread {}: Releasing HttpResponse", Thread.currentThread().getId());
-            results.close();
+            if (results != null) {
+                results.close();
+            }
             httpResponse.close();
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -37,9 +37,4 @@ public class GraphModelResponse extends AbstractHttpResponse<ResultGraphModel> i
         }
         return null;
     }
-
-    @Override
-    public void close() {
-        // nothing to do here
-    }
 }
@@ -15,38 +15,32 @@ package org.neo4j.ogm.drivers.http.response;
 
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.neo4j.ogm.model.GraphRowListModel;
-import org.neo4j.ogm.model.GraphRowModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
-import org.neo4j.ogm.result.ResultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowModel;
 
 /**
  * @author vince
  * @author Luanne Misquitta
  */
-public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowListModel>
+public class GraphRowsModelResponse extends AbstractHttpResponse<DefaultGraphRowModel>
     implements Response<GraphRowListModel> {
 
     public GraphRowsModelResponse(CloseableHttpResponse httpResponse) {
-        super(httpResponse, ResultGraphRowListModel.class);
+        super(httpResponse, DefaultGraphRowModel.class);
     }
 
     @Override
     public GraphRowListModel next() {
-        ResultGraphRowListModel graphRowModel = nextDataRecord("data");
+        // one record at a time, so that the response can be consumed while it is read
+        // the graph precedes the row in each record
+        DefaultGraphRowModel graphRowModel = nextDataRecord("graph");
 
         if (graphRowModel != null) {
             DefaultGraphRowListModel graphRowListModel = new DefaultGraphRowListModel();
-            for (GraphRowModel model : graphRowModel.getData()) {
-                graphRowListModel.add(model);
-            }
+            graphRowListModel.add(graphRowModel);
             return graphRowListModel;
         }
         return null;
     }
-
-    @Override
-    public void close() {
-        //Nothing to do, the response has been closed already
-    }
 }
@@ -12,6 +12,8 @@
  */
 package org.neo4j.ogm.drivers.http.response;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -27,10 +29,16 @@ import org.neo4j.ogm.result.ResultRestModel;
 public class RestModelResponse extends AbstractHttpResponse<ResultRestModel> implements Response<RestModel> {
 
     private RestModelAdapter restModelAdapter = new RestModelAdapter();
+    private final Deque<ResultRestModel> records = new ArrayDeque<>();
 
     public RestModelResponse(CloseableHttpResponse httpResponse) {
         super(httpResponse, ResultRestModel.class);
         restModelAdapter.setColumns(columns());
+        // the statistics, returned with every model, follow the records
+        ResultRestModel record;
+        while ((record = nextDataRecord("rest")) != null) {
+            records.add(record);
+        }
     }
 
     @Override
@@ -40,13 +48,8 @@ public class RestModelResponse extends AbstractHttpResponse<ResultRestModel> imp
         return defaultRestModel;
     }
 
-    @Override
-    public void close() {
-        //Nothing to do, the response has been closed already
-    }
-
     private Map<String, Object> buildModel() {
-        ResultRestModel result = nextDataRecord("rest");
+        ResultRestModel result = records.poll();
         Map<String, Object> row = new LinkedHashMap<>();
         if (result != null) {
             row = restModelAdapter.adapt(result.queryResults());
@@ -38,9 +38,4 @@ public class RowModelResponse extends AbstractHttpResponse<ResultRowModel> imple
         }
         return null;
     }
-
-    @Override
-    public void close() {
-        //Nothing to do, the response has been closed already
-    }
 }
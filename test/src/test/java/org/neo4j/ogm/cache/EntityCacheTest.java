@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cache;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.neo4j.ogm.domain.cache.City;
+import org.neo4j.ogm.domain.cache.Country;
+import org.neo4j.ogm.drivers.StubHttpDriver;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+
+public class EntityCacheTest {
+
+    private static final String FRANCE = "{\"graph\": { \"nodes\" :[ "
+        + "{\"id\" : \"1\", \"labels\" : [ \"Country\"], \"properties\" : {\"name\" : \"France\"}}"
+        + "]} }";
+
+    private static final String FRANCE_AND_PARIS = "{\"graph\": { \"nodes\" :[ "
+        + "{\"id\" : \"1\", \"labels\" : [ \"Country\"], \"properties\" : {\"name\" : \"France\"}}, "
+        + "{\"id\" : \"2\", \"labels\" : [ \"City\"], \"properties\" : {\"name\" : \"Paris\"}}"
+        + "], \"relationships\": [ "
+        + "{\"id\" : \"3\", \"type\" : \"IN\", \"startNode\" : \"2\", \"endNode\" : \"1\", \"properties\" : {}}"
+        + "]} }";
+
+    private final EntityCache cache = new EntityCache();
+
+    @Test
+    public void shouldShareLoadsBetweenSessionsWithoutSharingEntities() {
+        CountingDriver driver = new CountingDriver(FRANCE);
+
+        Country loaded = openSession(driver).load(Country.class, 1L, 0);
+        Country cached = openSession(driver).load(Country.class, 1L, 0);
+
+        assertThat(driver.requests).isEqualTo(1);
+        assertThat(cached.getName()).isEqualTo("France");
+        assertThat(cached).isNotSameAs(loaded);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(openSession(driver).loadAll(Country.class, singletonList(1L), 0))
+            .extracting(Country::getName).containsExactly("France");
+        assertThat(driver.requests).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldLoadAgainOnceEvicted() {
+        CountingDriver driver = new CountingDriver(FRANCE);
+        openSession(driver).load(Country.class, 1L, 0);
+
+        Neo4jSession session = openSession(driver);
+        session.evictCached(singleton(1L), emptySet());
+        session.load(Country.class, 1L, 0);
+
+        assertThat(driver.requests).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotCacheLoadsReturningEntitiesThatAreNotCacheable() {
+        CountingDriver driver = new CountingDriver(FRANCE_AND_PARIS);
+
+        openSession(driver).load(Country.class, 1L, 1);
+        Country country = openSession(driver).load(Country.class, 1L, 1);
+
+        assertThat(country.getName()).isEqualTo("France");
+        assertThat(driver.requests).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(openSession(driver).load(City.class, 2L, 1).getCountry()).isNotNull();
+    }
+
+    @Test
+    public void shouldNotCacheLoadsRunningWhileEntitiesAreEvicted() {
+        List<GraphModel> graphs = singletonList(new DefaultGraphModel());
+        long generation = cache.generation();
+
+        cache.evict(singleton(42L), emptySet());
+        cache.put("Country", 1L, 0, graphs, singleton(1L), emptySet(), generation);
+
+        assertThat(cache.get("Country", 1L, 0)).isNull();
+    }
+
+    @Test
+    public void shouldEvictLoadsContainingAnEntity() {
+        List<GraphModel> graphs = singletonList(new DefaultGraphModel());
+        cache.put("Country", 1L, 1, graphs, asList(1L, 2L), singleton(3L), cache.generation());
+        cache.put("Country", 4L, 1, graphs, asList(4L, 2L), emptySet(), cache.generation());
+        cache.put("Country", 5L, 1, graphs, singleton(5L), emptySet(), cache.generation());
+
+        cache.evict(singleton(2L), emptySet());
+
+        assertThat(cache.get("Country", 1L, 1)).isNull();
+        assertThat(cache.get("Country", 4L, 1)).isNull();
+        assertThat(cache.get("Country", 5L, 1)).isSameAs(graphs);
+
+        cache.evict(emptySet(), singleton(3L));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedLoadsBeyondMaxSize() {
+        EntityCache small = new EntityCache(2, 1, TimeUnit.MINUTES);
+        List<GraphModel> graphs = singletonList(new DefaultGraphModel());
+        small.put("Country", 1L, 0, graphs, singleton(1L), emptySet(), small.generation());
+        small.put("Country", 2L, 0, graphs, singleton(2L), emptySet(), small.generation());
+        small.get("Country", 1L, 0);
+        small.put("Country", 3L, 0, graphs, singleton(3L), emptySet(), small.generation());
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.get("Country", 1L, 0)).isNotNull();
+        assertThat(small.get("Country", 2L, 0)).isNull();
+    }
+
+    @Test
+    public void shouldExpireLoads() throws InterruptedException {
+        EntityCache shortLived = new EntityCache(10, 1, TimeUnit.MILLISECONDS);
+        shortLived.put("Country", 1L, 0, singletonList(new DefaultGraphModel()), singleton(1L), emptySet(),
+            shortLived.generation());
+
+        Thread.sleep(5);
+
+        assertThat(shortLived.get("Country", 1L, 0)).isNull();
+        assertThat(shortLived.size()).isEqualTo(0);
+    }
+
+    private Neo4jSession openSession(CountingDriver driver) {
+        SessionFactory sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.cache");
+        sessionFactory.setLoadStrategy(LoadStrategy.PATH_LOAD_STRATEGY);
+        sessionFactory.setEntityCache(cache);
+        return (Neo4jSession) sessionFactory.openSession();
+    }
+
+    private static class CountingDriver extends StubHttpDriver {
+
+        private final String json;
+        private int requests;
+
+        CountingDriver(String json) {
+            this.json = json;
+        }
+
+        @Override
+        protected String[] getResponse() {
+            return new String[] { json };
+        }
+
+        @Override
+        public Request request() {
+            requests++;
+            return super.request();
+        }
+    }
+}
@@ -43,6 +43,7 @@ public class ConfigurationTest {
         builder.trustStrategy("TRUST_SIGNED_CERTIFICATES");
         builder.trustCertFile("/tmp/cert");
         builder.connectionLivenessCheckTimeout(1000);
+        builder.httpRequestCompression(true);
 
         Configuration configuration = builder.build();
 
@@ -57,6 +58,7 @@ public class ConfigurationTest {
         assertThat(configuration.getTrustStrategy()).isEqualTo("TRUST_SIGNED_CERTIFICATES");
         assertThat(configuration.getTrustCertFile()).isEqualTo("/tmp/cert");
         assertThat(configuration.getConnectionLivenessCheckTimeout().intValue()).isEqualTo(1000);
+        assertThat(configuration.getHttpRequestCompression()).isTrue();
     }
 
     @Test
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+public class LongLongHashMapTest {
+
+    private final LongLongHashMap map = new LongLongHashMap();
+
+    @Test
+    public void shouldPutAndGetValues() {
+        map.put(1L, 10L);
+        map.put(-1L, -10L);
+        map.put(0L, 0L);
+        map.put(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        assertThat(map.size()).isEqualTo(4);
+        assertThat(map.get(1L, 42L)).isEqualTo(10L);
+        assertThat(map.get(-1L, 42L)).isEqualTo(-10L);
+        assertThat(map.get(0L, 42L)).isEqualTo(0L);
+        assertThat(map.get(Long.MIN_VALUE, 42L)).isEqualTo(Long.MAX_VALUE);
+        assertThat(map.get(2L, 42L)).isEqualTo(42L);
+        assertThat(map.containsKey(0L)).isTrue();
+        assertThat(map.containsKey(2L)).isFalse();
+    }
+
+    @Test
+    public void shouldReplaceValueOfExistingKey() {
+        map.put(7L, 1L);
+        map.put(7L, 2L);
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(7L, 0L)).isEqualTo(2L);
+    }
+
+    @Test
+    public void shouldGrowBeyondInitialCapacity() {
+        for (long i = 0; i < 100_000; i++) {
+            map.put(i * 16, i);
+        }
+
+        assertThat(map.size()).isEqualTo(100_000);
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(map.get(i * 16, -1L)).isEqualTo(i);
+        }
+        assertThat(map.containsKey(8L)).isFalse();
+    }
+
+    @Test
+    public void shouldClear() {
+        map.put(1L, 1L);
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.containsKey(1L)).isFalse();
+    }
+}
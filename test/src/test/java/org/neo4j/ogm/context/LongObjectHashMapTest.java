@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+public class LongObjectHashMapTest {
+
+    private final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+    @Test
+    public void shouldPutAndGetValues() {
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(-1L, "b")).isNull();
+        assertThat(map.put(1L, "c")).isEqualTo("a");
+        assertThat(map.putIfAbsent(1L, "d")).isEqualTo("c");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L)).isEqualTo("c");
+        assertThat(map.get(-1L)).isEqualTo("b");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.values()).containsOnly("b", "c");
+    }
+
+    @Test
+    public void shouldFindEntriesAfterRemovingCollidingKeys() {
+        for (long i = 0; i < 10_000; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        for (long i = 0; i < 10_000; i += 2) {
+            assertThat(map.remove(i)).isEqualTo(String.valueOf(i));
+        }
+
+        assertThat(map.size()).isEqualTo(5_000);
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(map.get(i)).isEqualTo(i % 2 == 0 ? null : String.valueOf(i));
+        }
+        assertThat(map.remove(0L)).isNull();
+    }
+
+    @Test
+    public void shouldAllowRemovalWhileIteratingKeys() {
+        for (long i = 0; i < 100; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        for (long key : map.keys()) {
+            map.remove(key);
+        }
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.values()).isEmpty();
+    }
+}
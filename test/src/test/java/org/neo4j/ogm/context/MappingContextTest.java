@@ -168,4 +168,37 @@ public class MappingContextTest {
         assertThat(mappingContext.isDirty(healthcare)).isFalse();
         assertThat(mappingContext.isDirty(immigration)).isFalse();
     }
+
+    @Test
+    public void shouldReportMemoryFootprint() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+
+        Policy immigration = new Policy("immigration");
+        immigration.setId(3L);
+
+        MemoryFootprint empty = mappingContext.memoryFootprint();
+
+        mappingContext.addNodeEntity(jim);
+        mappingContext.addNodeEntity(healthcare);
+        mappingContext.addNodeEntity(immigration);
+        mappingContext.addRelationship(
+            new MappedRelationship(jim.getId(), "INFLUENCES", healthcare.getId(), Person.class, Policy.class));
+        mappingContext.addRelationship(
+            new MappedRelationship(jim.getId(), "INFLUENCES", immigration.getId(), Person.class, Policy.class));
+
+        MemoryFootprint footprint = mappingContext.memoryFootprint();
+        assertThat(footprint.getNodeEntities()).isEqualTo(3);
+        assertThat(footprint.getRelationshipEntities()).isZero();
+        assertThat(footprint.getRelationships()).isEqualTo(2);
+        assertThat(footprint.getRelationshipBytes()).isGreaterThan(empty.getRelationshipBytes());
+        assertThat(footprint.getTotalBytes()).isGreaterThan(empty.getTotalBytes());
+
+        mappingContext.removeEntity(jim);
+
+        assertThat(mappingContext.memoryFootprint().getRelationships()).isZero();
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+public class RelationshipRegisterTest {
+
+    private final RelationshipRegister register = new RelationshipRegister();
+
+    @Test
+    public void shouldNotRegisterEqualRelationshipsTwice() {
+        assertThat(register.add(relationship(1L, "KNOWS", 2L, null))).isTrue();
+        assertThat(register.add(relationship(1L, "KNOWS", 2L, null))).isFalse();
+        assertThat(register.add(relationship(1L, "LIKES", 2L, null))).isTrue();
+
+        assertThat(register).hasSize(2);
+        assertThat(register.contains(relationship(1L, "KNOWS", 2L, null))).isTrue();
+        assertThat(register.contains(relationship(2L, "KNOWS", 1L, null))).isFalse();
+    }
+
+    @Test
+    public void shouldFindRelationshipsOfNode() {
+        MappedRelationship outgoing = relationship(1L, "KNOWS", 2L, null);
+        MappedRelationship incoming = relationship(3L, "KNOWS", 1L, null);
+        MappedRelationship loop = relationship(1L, "LIKES", 1L, null);
+        MappedRelationship other = relationship(2L, "KNOWS", 3L, null);
+        register.add(outgoing);
+        register.add(incoming);
+        register.add(loop);
+        register.add(other);
+
+        assertThat(register.relationshipsOf(1L)).containsOnly(outgoing, incoming, loop).hasSize(3);
+        assertThat(register.relationshipsOf(4L)).isEmpty();
+
+        register.remove(loop);
+
+        assertThat(register.relationshipsOf(1L)).containsOnly(outgoing, incoming);
+    }
+
+    @Test
+    public void shouldFindRelationshipsOfRelationshipEntity() {
+        MappedRelationship relationship = relationship(1L, "RATED", 2L, 10L);
+        register.add(relationship);
+        register.add(relationship(1L, "RATED", 3L, 11L));
+
+        assertThat(register.relationshipsOfRelationshipEntity(10L)).containsExactly(relationship);
+
+        register.remove(relationship);
+
+        assertThat(register.relationshipsOfRelationshipEntity(10L)).isEmpty();
+        assertThat(register.relationshipsOfRelationshipEntity(11L)).hasSize(1);
+    }
+
+    @Test
+    public void shouldRemoveWhileIterating() {
+        for (long i = 0; i < 100; i++) {
+            register.add(relationship(i % 10, "KNOWS", i, null));
+        }
+
+        Iterator<MappedRelationship> iterator = register.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getEndNodeId() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(register).hasSize(50);
+        assertThat(register.relationshipsOf(0L)).isEmpty();
+        assertThat(register.relationshipsOf(1L)).hasSize(10);
+    }
+
+    @Test
+    public void shouldAddAndRemoveRelationshipsOfHighDegreeNode() {
+        for (long i = 0; i < 50_000; i++) {
+            assertThat(register.add(relationship(1L, "KNOWS", i, null))).isTrue();
+        }
+        assertThat(register.add(relationship(1L, "KNOWS", 0L, null))).isFalse();
+        assertThat(register.relationshipsOf(1L)).hasSize(50_000);
+
+        for (long i = 0; i < 50_000 - 1; i++) {
+            assertThat(register.remove(relationship(1L, "KNOWS", i, null))).isTrue();
+        }
+
+        assertThat(register).containsExactly(relationship(1L, "KNOWS", 49_999L, null));
+        assertThat(register.relationshipsOf(1L)).containsExactly(relationship(1L, "KNOWS", 49_999L, null));
+        assertThat(register.relationshipsOf(49_999L)).containsExactly(relationship(1L, "KNOWS", 49_999L, null));
+        assertThat(register.remove(relationship(1L, "KNOWS", 0L, null))).isFalse();
+    }
+
+    private static MappedRelationship relationship(long start, String type, long end, Long relationshipEntityId) {
+        return new MappedRelationship(start, type, end, relationshipEntityId, Object.class, Object.class);
+    }
+}
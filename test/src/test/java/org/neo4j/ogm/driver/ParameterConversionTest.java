@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class ParameterConversionTest {
+
+    @Test
+    public void shouldConvertValuesAsJackson() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("string", "value");
+        parameters.put("int", 3);
+        parameters.put("long", 4L);
+        parameters.put("short", (short) 5);
+        parameters.put("double", 2.5);
+        parameters.put("bigInteger", BigInteger.TEN);
+        parameters.put("boolean", true);
+        parameters.put("null", null);
+        parameters.put("char", 'c');
+        parameters.put("chars", new char[] { 'a', 'b' });
+        parameters.put("enum", Thread.State.NEW);
+        parameters.put("date", new Date(1234));
+        parameters.put("ints", new int[] { 1, 2 });
+        parameters.put("strings", new String[] { "a", "b" });
+        parameters.put("set", new LinkedHashSet<>(Arrays.asList(1, 2)));
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put(1, 2);
+        map.put(Thread.State.NEW, "new");
+        parameters.put("map", map);
+        parameters.put("bean", new Bean());
+
+        Map<String, Object> expected = ObjectMapperFactory.objectMapper()
+            .convertValue(parameters, new TypeReference<HashMap<String, Object>>() {
+            });
+
+        assertThat(ParameterConversion.convertParameters(parameters)).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldConvertNestedValues() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1);
+        row.put("props", new HashMap<>(singletonMap("age", 42)));
+        List<Object> rows = new ArrayList<>();
+        rows.add(row);
+
+        Map<String, Object> converted = ParameterConversion.convertParameters(singletonMap("rows", rows));
+
+        List<?> convertedRows = (List<?>) converted.get("rows");
+        Map<?, ?> convertedRow = (Map<?, ?>) convertedRows.get(0);
+        assertThat(convertedRow.get("id")).isEqualTo(1L);
+        assertThat(((Map<?, ?>) convertedRow.get("props")).get("age")).isEqualTo(42L);
+        // the input is not modified
+        assertThat(row.get("id")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReuseValuesThatDoNotNeedConversion() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1L);
+        row.put("name", "name");
+        row.put("tags", Arrays.asList("a", "b"));
+        List<Object> rows = new ArrayList<>();
+        rows.add(row);
+        Map<String, Object> parameters = singletonMap("rows", rows);
+
+        assertThat(ParameterConversion.convertParameters(parameters)).isSameAs(parameters);
+    }
+
+    @Test
+    public void shouldOnlyCopyTheListsThatNeedConversion() {
+        List<Object> unchanged = Arrays.asList("a", "b");
+        List<Object> changed = Arrays.asList("a", 1);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("unchanged", unchanged);
+        parameters.put("changed", changed);
+
+        Map<String, Object> converted = ParameterConversion.convertParameters(parameters);
+
+        assertThat(converted).isNotSameAs(parameters);
+        assertThat(converted.get("unchanged")).isSameAs(unchanged);
+        assertThat(converted.get("changed")).isEqualTo(Arrays.asList("a", 1L));
+    }
+
+    private static Map<String, Object> singletonMap(String key, Object value) {
+        Map<String, Object> map = new HashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    public static class Bean {
+
+        public int number = 3;
+        public String name = "bean";
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.neo4j.ogm.drivers.http.driver.HttpEndpoints.Endpoint;
+import org.neo4j.ogm.drivers.http.driver.HttpEndpoints.LoadBalancing;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.EmptyResponse;
+import org.neo4j.ogm.response.Response;
+
+public class HttpEndpointsTest {
+
+    private static final String LEADER = "http://leader:7474";
+    private static final String[] URIS = { "http://leader:7474/", "http://follower1:7474", "http://follower2:7474" };
+
+    private long now;
+
+    private HttpEndpoints endpoints(LoadBalancing loadBalancing) {
+        return new HttpEndpoints(LEADER, URIS, loadBalancing, () -> now);
+    }
+
+    @Test
+    public void shouldSendReadsToTheLeaderWithoutFollowers() {
+        HttpEndpoints endpoints = new HttpEndpoints(LEADER, null, LoadBalancing.ROUND_ROBIN);
+
+        assertThat(endpoints.hasFollowers()).isFalse();
+        assertThat(endpoints.reader()).isSameAs(endpoints.leader());
+        assertThat(endpoints.leader().autoCommitUrl()).isEqualTo("http://leader:7474/db/data/transaction/commit");
+    }
+
+    @Test
+    public void shouldBalanceReadsRoundRobin() {
+        HttpEndpoints endpoints = endpoints(LoadBalancing.ROUND_ROBIN);
+
+        assertThat(uris(endpoints, 4)).containsExactly(
+            "http://follower1:7474/", "http://follower2:7474/", "http://follower1:7474/", "http://follower2:7474/");
+    }
+
+    @Test
+    public void shouldSelectTheFollowerWithTheFewestOutstandingRequests() {
+        HttpEndpoints endpoints = endpoints(LoadBalancing.LEAST_OUTSTANDING_REQUESTS);
+        Endpoint busy = endpoints.reader();
+        busy.acquire();
+
+        assertThat(endpoints.reader()).isNotSameAs(busy);
+        assertThat(endpoints.reader()).isNotSameAs(busy);
+
+        busy.release();
+        assertThat(uris(endpoints, 2)).containsOnly("http://follower1:7474/", "http://follower2:7474/");
+    }
+
+    @Test
+    public void shouldEjectFailingFollowersWithBackoff() {
+        HttpEndpoints endpoints = endpoints(LoadBalancing.ROUND_ROBIN);
+        Endpoint follower = endpoints.reader();
+        Endpoint other = endpoints.reader();
+
+        assertThat(endpoints.failed(follower, refused())).isTrue();
+        assertThat(uris(endpoints, 3)).containsOnly(other.uri());
+
+        now += TimeUnit.MILLISECONDS.toNanos(HttpEndpoints.INITIAL_BACKOFF_MILLIS);
+        assertThat(uris(endpoints, 2)).containsOnly(follower.uri(), other.uri());
+
+        // a second failure doubles the backoff
+        endpoints.failed(follower, refused());
+        now += TimeUnit.MILLISECONDS.toNanos(HttpEndpoints.INITIAL_BACKOFF_MILLIS);
+        assertThat(uris(endpoints, 3)).containsOnly(other.uri());
+        now += TimeUnit.MILLISECONDS.toNanos(HttpEndpoints.INITIAL_BACKOFF_MILLIS);
+        assertThat(uris(endpoints, 2)).containsOnly(follower.uri(), other.uri());
+
+        follower.succeeded();
+        endpoints.failed(follower, refused());
+        now += TimeUnit.MILLISECONDS.toNanos(HttpEndpoints.INITIAL_BACKOFF_MILLIS);
+        assertThat(uris(endpoints, 2)).containsOnly(follower.uri(), other.uri());
+    }
+
+    @Test
+    public void shouldFallBackToTheLeaderWhenAllFollowersAreEjected() {
+        HttpEndpoints endpoints = endpoints(LoadBalancing.LEAST_OUTSTANDING_REQUESTS);
+        endpoints.failed(endpoints.reader(), refused());
+        endpoints.failed(endpoints.reader(), refused());
+
+        assertThat(endpoints.reader()).isSameAs(endpoints.leader());
+    }
+
+    @Test
+    public void shouldFindTheEndpointOfATransaction() {
+        HttpEndpoints endpoints = endpoints(LoadBalancing.ROUND_ROBIN);
+
+        assertThat(endpoints.endpointOf("http://follower2:7474/db/data/transaction/12").uri())
+            .isEqualTo("http://follower2:7474/");
+        assertThat(endpoints.endpointOf("http://elsewhere:7474/db/data/transaction/12"))
+            .isSameAs(endpoints.leader());
+    }
+
+    @Test
+    public void shouldExecuteReadsAgainOnTheNextReaderWhenAFollowerFails() {
+        HttpEndpoints endpoints = endpoints(LoadBalancing.ROUND_ROBIN);
+        List<String> urls = new ArrayList<>();
+        Request request = new EndpointRequest(endpoints, endpoints.reader(), true, endpoint -> new FailingRequest(
+            endpoint.uri().contains("follower1"), endpoint.autoCommitUrl(), urls));
+
+        Response<RestModel> response = request.execute((RestModelRequest) null);
+
+        assertThat(urls).containsExactly("http://follower1:7474/db/data/transaction/commit",
+            "http://follower2:7474/db/data/transaction/commit");
+        assertThat(endpoints.endpointOf("http://follower2:7474/").outstanding()).isEqualTo(1);
+        response.close();
+        assertThat(endpoints.endpointOf("http://follower2:7474/").outstanding()).isEqualTo(0);
+        assertThat(endpoints.endpointOf("http://follower1:7474/").outstanding()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldNotExecuteWritesAgain() {
+        HttpEndpoints endpoints = endpoints(LoadBalancing.ROUND_ROBIN);
+        List<String> urls = new ArrayList<>();
+        Request request = new EndpointRequest(endpoints, endpoints.leader(), false,
+            endpoint -> new FailingRequest(true, endpoint.autoCommitUrl(), urls));
+
+        assertThatThrownBy(() -> request.execute((RestModelRequest) null)).isInstanceOf(ConnectionException.class);
+        assertThat(urls).containsExactly("http://leader:7474/db/data/transaction/commit");
+        assertThat(endpoints.leader().outstanding()).isEqualTo(0);
+    }
+
+    private static ConnectionException refused() {
+        return new ConnectionException("http://follower:7474", new ConnectException("Connection refused"));
+    }
+
+    private static List<String> uris(HttpEndpoints endpoints, int reads) {
+        List<String> uris = new ArrayList<>();
+        for (int i = 0; i < reads; i++) {
+            uris.add(endpoints.reader().uri());
+        }
+        return uris;
+    }
+
+    private static class FailingRequest implements Request {
+
+        private final boolean fail;
+        private final String url;
+        private final List<String> urls;
+
+        FailingRequest(boolean fail, String url, List<String> urls) {
+            this.fail = fail;
+            this.url = url;
+            this.urls = urls;
+        }
+
+        @Override
+        public Response<GraphModel> execute(GraphModelRequest query) {
+            return execute();
+        }
+
+        @Override
+        public Response<RowModel> execute(RowModelRequest query) {
+            return execute();
+        }
+
+        @Override
+        public Response<RowModel> execute(DefaultRequest query) {
+            return execute();
+        }
+
+        @Override
+        public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+            return execute();
+        }
+
+        @Override
+        public Response<RestModel> execute(RestModelRequest query) {
+            return execute();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Response<T> execute() {
+            urls.add(url);
+            if (fail) {
+                throw new ConnectionException(url, new ConnectException("Connection refused"));
+            }
+            return new EmptyResponse();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.Statements;
+
+public class StatementsEntityTest {
+
+    private final Statements statements = new Statements(Collections.<Statement>singletonList(
+        new DefaultRowModelRequest("MATCH (n) WHERE n.name = {name} RETURN n",
+            Collections.singletonMap("name", "\u00e9l\u00e8ve"))));
+
+    @Test
+    public void shouldWriteTheStatementsAsJson() throws IOException {
+        StatementsEntity entity = new StatementsEntity(statements, false);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        entity.writeTo(body);
+
+        assertThat(body.toString("UTF-8"))
+            .isEqualTo(ObjectMapperFactory.objectMapper().writeValueAsString(statements));
+        assertThat(entity.isChunked()).isTrue();
+        assertThat(entity.isRepeatable()).isTrue();
+        assertThat(entity.getContentEncoding()).isNull();
+    }
+
+    @Test
+    public void shouldCompressTheStatements() throws IOException {
+        StatementsEntity entity = new StatementsEntity(statements, true);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        entity.writeTo(body);
+
+        String json = IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(body.toByteArray())), "UTF-8");
+        assertThat(json).isEqualTo(ObjectMapperFactory.objectMapper().writeValueAsString(statements));
+        assertThat(entity.getContentEncoding().getValue()).isEqualTo("gzip");
+    }
+}
@@ -14,15 +14,19 @@ package org.neo4j.ogm.drivers.http.response;
 
 import static org.mockito.Mockito.*;
 
+import static org.assertj.core.api.Assertions.*;
+
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.exception.ResultProcessingException;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultRowModel;
 import org.neo4j.ogm.result.ResultRowModel;
@@ -79,6 +83,18 @@ public class JsonResponseTest {
         }
     }
 
+    @Test
+    public void shouldReturnRecordsBeforeTheResponseHasBeenReceived() throws IOException {
+
+        when(entity.getContent()).thenReturn(firstRowThenConnectionFailure());
+
+        try (Response<DefaultRowModel> rsp = new TestRowHttpResponse()) {
+            assertThat(rsp.columns()).containsExactly("n");
+            assertThat(rsp.next().getValues()).containsExactly(1L);
+            assertThatThrownBy(rsp::next).isInstanceOf(ResultProcessingException.class);
+        }
+    }
+
     private void parseResponse(Response<DefaultRowModel> rsp) {
         //noinspection StatementWithEmptyBody
         while (rsp.next() != null)
@@ -143,6 +159,18 @@ public class JsonResponseTest {
         return new ByteArrayInputStream(s.getBytes());
     }
 
+    private InputStream firstRowThenConnectionFailure() {
+
+        final String s = "{\"results\": [{\"columns\": [\"n\"],\"data\": [{\"row\": [1]},";
+
+        return new SequenceInputStream(new ByteArrayInputStream(s.getBytes()), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+    }
+
     static class TestRowHttpResponse extends AbstractHttpResponse<ResultRowModel> implements Response<DefaultRowModel> {
 
         public TestRowHttpResponse() {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DomainIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File classes;
+
+    @Before
+    public void setUp() throws IOException {
+        classes = folder.newFolder("classes");
+    }
+
+    @Test
+    public void shouldIndexTheCompiledClassesIncludingNestedClasses() throws Exception {
+        compile("com/acme/domain/Person.java",
+            "package com.acme.domain; public class Person { public static class Address {} }");
+
+        assertThat(index()).containsExactly("com.acme.domain.Person", "com.acme.domain.Person$Address");
+        assertThat(names(DomainIndex.classes(classLoader(), "com.acme")))
+            .containsOnly("com.acme.domain.Person", "com.acme.domain.Person$Address");
+    }
+
+    @Test
+    public void shouldKeepTheClassesIndexedByPreviousCompilations() throws Exception {
+        compile("com/acme/domain/Person.java", "package com.acme.domain; public class Person {}");
+        compile("com/acme/domain/Pet.java", "package com.acme.domain; public class Pet {}");
+
+        assertThat(index()).containsExactly("com.acme.domain.Person", "com.acme.domain.Pet");
+    }
+
+    @Test
+    public void shouldSkipDeletedClasses() throws Exception {
+        compile("com/acme/domain/Person.java", "package com.acme.domain; public class Person {}");
+        compile("com/acme/domain/Pet.java", "package com.acme.domain; public class Pet {}");
+        Files.delete(classes.toPath().resolve("com/acme/domain/Pet.class"));
+
+        assertThat(names(DomainIndex.classes(classLoader(), "com.acme.domain")))
+            .containsOnly("com.acme.domain.Person");
+    }
+
+    @Test
+    public void shouldScanWhenAPackageIsNotIndexed() throws Exception {
+        compile("com/acme/domain/Person.java", "package com.acme.domain; public class Person {}");
+
+        assertThat(DomainIndex.classes(classLoader(), "com.acme", "org.neo4j.ogm.domain.forum")).isNull();
+        assertThat(DomainIndex.classes(classLoader())).isNull();
+    }
+
+    @Test
+    public void shouldScanWhenAPackageIsAlsoFoundWithoutIndex() throws Exception {
+        compile("com/acme/domain/Person.java", "package com.acme.domain; public class Person {}");
+        File unindexed = folder.newFolder("unindexed");
+        compileWithoutIndex(unindexed, "com/acme/domain/Pet.java", "package com.acme.domain; public class Pet {}");
+
+        ClassLoader classLoader = new URLClassLoader(new URL[] { classes.toURI().toURL(), unindexed.toURI().toURL() },
+            getClass().getClassLoader());
+        assertThat(DomainIndex.classes(classLoader, "com.acme")).isNull();
+        assertThat(names(DomainIndex.classes(classLoader(), "com.acme"))).containsOnly("com.acme.domain.Person");
+    }
+
+    private void compile(String path, String source) throws Exception {
+        String processorPath = new File(DomainIndexProcessor.class.getProtectionDomain().getCodeSource()
+            .getLocation().toURI()).getPath();
+        compile(classes, path, source, "-processorpath", processorPath, "-processor",
+            DomainIndexProcessor.class.getName());
+    }
+
+    private void compileWithoutIndex(File output, String path, String source) throws Exception {
+        compile(output, path, source, "-proc:none");
+    }
+
+    private void compile(File output, String path, String source, String... options) throws Exception {
+        Path file = folder.getRoot().toPath().resolve("src").resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+        List<String> arguments = new ArrayList<>(Arrays.asList(options));
+        arguments.addAll(Arrays.asList("-classpath", output.getPath(), "-d", output.getPath(), file.toString()));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null, arguments.toArray(new String[0]));
+        assertThat(status).isEqualTo(0);
+    }
+
+    private String[] index() throws IOException {
+        return Files.readAllLines(classes.toPath().resolve(DomainIndex.RESOURCE), StandardCharsets.UTF_8).stream()
+            .filter(line -> !line.startsWith("#"))
+            .toArray(String[]::new);
+    }
+
+    private ClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader());
+    }
+
+    private static String[] names(Set<Class<?>> classes) {
+        return classes.stream().map(Class::getName).toArray(String[]::new);
+    }
+}
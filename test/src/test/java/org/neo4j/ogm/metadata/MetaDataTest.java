@@ -17,7 +17,9 @@ import static org.assertj.core.api.Assertions.*;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.ogm.domain.forum.Member;
 import org.neo4j.ogm.exception.core.AmbiguousBaseClassException;
+import org.neo4j.ogm.exception.core.MappingException;
 
 /**
  * @author Vince Bickers
@@ -62,6 +64,16 @@ public class MetaDataTest {
         assertThat(classInfo.name()).isEqualTo("org.neo4j.ogm.domain.forum.Member");
     }
 
+    @Test
+    public void testForeignLabelsDoNotChangeResolvedClass() {
+        ClassInfo classInfo = metaData.resolve("Login", "User");
+        for (int i = 0; i < 100; i++) {
+            assertThat(metaData.resolve("Foreign" + i, "Login", "User", "Other" + i)).isSameAs(classInfo);
+        }
+        assertThat(metaData.resolve("User", "Login")).isSameAs(classInfo);
+        assertThat(metaData.resolve("Foreign", "Other")).isNull();
+    }
+
     @Test(expected = AmbiguousBaseClassException.class)
     public void testCannotResolveInconsistentClassHierarchies() {
         metaData.resolve("Login", "Topic");
@@ -150,4 +162,32 @@ public class MetaDataTest {
         assertThat(metaData.resolve("Silver", "Pewter", "Tin").name())
             .isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
     }
+
+    @Test
+    public void testClassInfoByFullyAndPartiallyQualifiedName() {
+        ClassInfo classInfo = metaData.classInfo("org.neo4j.ogm.domain.forum.Topic");
+        assertThat(classInfo).isNotNull();
+        assertThat(metaData.classInfo("forum.Topic")).isSameAs(classInfo);
+        assertThat(metaData.classInfo("Topic")).isSameAs(classInfo);
+        assertThat(metaData.classInfo("rum.Topic")).isNull();
+    }
+
+    @Test
+    public void testClassInfoOfObjectIsClassInfoOfItsClass() {
+        Member member = new Member();
+        assertThat(metaData.classInfo(member)).isSameAs(metaData.classInfo(Member.class.getName()));
+        assertThat(metaData.classInfo(member)).isSameAs(metaData.classInfo(new Member()));
+        assertThat(metaData.classInfo(new Object())).isNull();
+    }
+
+    @Test
+    public void testAmbiguousSimpleNameCannotBeResolved() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.cineasts.minimum", "org.neo4j.ogm.domain.cineasts.plain");
+
+        assertThat(metaData.classInfo("minimum.Actor").name())
+            .isEqualTo("org.neo4j.ogm.domain.cineasts.minimum.Actor");
+        assertThatThrownBy(() -> metaData.classInfo("Actor"))
+            .isInstanceOf(MappingException.class)
+            .hasMessage("More than one class has simple name: Actor");
+    }
 }
@@ -15,10 +15,13 @@ package org.neo4j.ogm.metadata.reflect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.lang.reflect.InvocationTargetException;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.canonical.ArbitraryRelationshipEntity;
 import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.exception.core.BaseClassNotFoundException;
 import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.response.model.NodeModel;
@@ -87,4 +90,56 @@ public class EntityFactoryTest {
         Individual instance = this.entityFactory.newObject(Individual.class);
         assertThat(instance).as("The resultant instance shouldn't be null").isNotNull();
     }
+
+    @Test
+    public void shouldConstructNewObjectEachTimeTheSameTaxaAreResolved() {
+        NodeModel first = new NodeModel();
+        first.setLabels(new String[] { "Female", "Individual", "Lass" });
+        NodeModel second = new NodeModel();
+        second.setLabels(new String[] { "Female", "Individual", "Lass" });
+
+        Individual ourLass = this.entityFactory.newObject(first);
+        Individual anotherLass = this.entityFactory.newObject(second);
+        assertThat(anotherLass).isNotSameAs(ourLass).isExactlyInstanceOf(Individual.class);
+    }
+
+    @Test
+    public void shouldFailEachTimeForUnknownTaxa() {
+        NodeModel vertex = new NodeModel();
+        vertex.setLabels(new String[] { "Knight", "Baronet" });
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> this.entityFactory.newObject(vertex))
+                .isInstanceOf(BaseClassNotFoundException.class);
+        }
+    }
+
+    @Test
+    public void shouldRethrowErrorsThrownByConstructor() {
+        assertThatThrownBy(() -> this.entityFactory.newObject(ClassWithFailingConstructor.class))
+            .isExactlyInstanceOf(AssertionError.class)
+            .hasMessage("not today");
+    }
+
+    @Test
+    public void shouldWrapExceptionsThrownByConstructor() {
+        assertThatThrownBy(() -> this.entityFactory.newObject(ClassWithThrowingConstructor.class))
+            .isInstanceOf(MappingException.class)
+            .hasCauseInstanceOf(InvocationTargetException.class)
+            .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    static class ClassWithFailingConstructor {
+
+        ClassWithFailingConstructor() {
+            throw new AssertionError("not today");
+        }
+    }
+
+    static class ClassWithThrowingConstructor {
+
+        ClassWithThrowingConstructor() {
+            throw new IllegalStateException("not today");
+        }
+    }
 }
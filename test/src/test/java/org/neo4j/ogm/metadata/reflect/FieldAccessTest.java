@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.DomainInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+
+public class FieldAccessTest {
+
+    private DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.metadata.reflect");
+
+    @Test
+    public void shouldReadAndWritePrivateFields() {
+        ClassInfo classInfo = domainInfo.getClass(Account.class.getName());
+        FieldInfo name = classInfo.getFieldInfo("name");
+        FieldInfo balance = classInfo.getFieldInfo("balance");
+
+        Account account = new Account();
+        name.write(account, "savings");
+        balance.write(account, 42L);
+
+        assertThat(account.name).isEqualTo("savings");
+        assertThat(account.balance).isEqualTo(42);
+        assertThat(name.read(account)).isEqualTo("savings");
+        assertThat(balance.read(account)).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldReadAndWriteInheritedFields() {
+        ClassInfo classInfo = domainInfo.getClass(SavingsAccount.class.getName());
+        FieldInfo name = classInfo.getFieldInfo("name");
+
+        SavingsAccount account = new SavingsAccount();
+        name.writeDirect(account, "savings");
+
+        assertThat(((Account) account).name).isEqualTo("savings");
+        assertThat(name.readProperty(account)).isEqualTo("savings");
+    }
+
+    @Test
+    public void shouldFailToWriteValueOfWrongType() {
+        ClassInfo classInfo = domainInfo.getClass(Account.class.getName());
+        FieldInfo name = classInfo.getFieldInfo("name");
+
+        assertThatThrownBy(() -> name.writeDirect(new Account(), 42))
+            .isInstanceOf(RuntimeException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldWritePropertiesAsInstancesOfTheFieldType() {
+        ClassInfo classInfo = domainInfo.getClass(Profile.class.getName());
+
+        Profile profile = new Profile();
+        classInfo.getFieldInfo("tags").writeProperty(profile, new String[] { "a", "b" });
+        classInfo.getFieldInfo("scores").writeProperty(profile, Arrays.asList(1L, 2L, 2L));
+        classInfo.getFieldInfo("aliases").writeProperty(profile, Arrays.asList("x", "y"));
+        classInfo.getFieldInfo("codes").writeProperty(profile, Arrays.asList(3L, 4L));
+        classInfo.getFieldInfo("rating").writeProperty(profile, 4.5d);
+
+        assertThat(profile.tags).isInstanceOf(ArrayList.class).containsExactly("a", "b");
+        assertThat(profile.scores).isInstanceOf(HashSet.class).containsOnly(1, 2);
+        assertThat(profile.aliases).containsExactly("x", "y");
+        assertThat(profile.codes).containsExactly(3, 4);
+        assertThat(profile.rating).isEqualTo(4.5f);
+    }
+
+    @Test
+    public void shouldWriteMissingPropertiesAsEmptyCollectionsAndDefaults() {
+        ClassInfo classInfo = domainInfo.getClass(Profile.class.getName());
+
+        Profile profile = new Profile();
+        classInfo.getFieldInfo("tags").writeProperty(profile, null);
+        classInfo.getFieldInfo("rating").writeProperty(profile, null);
+
+        assertThat(profile.tags).isEmpty();
+        assertThat(profile.rating).isEqualTo(0f);
+    }
+
+    @Test
+    public void shouldFailToWritePropertyThatOverflowsTheFieldType() {
+        ClassInfo classInfo = domainInfo.getClass(Profile.class.getName());
+        FieldInfo scores = classInfo.getFieldInfo("scores");
+
+        assertThatThrownBy(() -> scores.writeProperty(new Profile(), Arrays.asList(Long.MAX_VALUE)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be cast to int");
+    }
+
+    public static class Profile {
+
+        private Long id;
+        private List<String> tags;
+        private Set<Integer> scores;
+        private String[] aliases;
+        private int[] codes;
+        private float rating;
+    }
+
+    public static class Account {
+
+        private Long id;
+        private String name;
+        private int balance;
+    }
+
+    public static class SavingsAccount extends Account {
+
+        private double rate;
+    }
+}
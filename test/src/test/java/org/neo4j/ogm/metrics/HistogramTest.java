@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void shouldBeEmptyInitially() {
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getMean()).isEqualTo(0.0);
+        assertThat(histogram.getPercentile(99)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCountSmallValuesExactly() {
+        for (long value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(8);
+        assertThat(histogram.getSum()).isEqualTo(28);
+        assertThat(histogram.getMax()).isEqualTo(7);
+        assertThat(histogram.getPercentile(50)).isEqualTo(3);
+        assertThat(histogram.getPercentile(100)).isEqualTo(7);
+    }
+
+    @Test
+    public void shouldReportPercentilesWithinBucketPrecision() {
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertThat(histogram.getMax()).isEqualTo(100_000_000L);
+        assertThat(histogram.getMean()).isEqualTo(50_000_500.0);
+        assertThat(histogram.getPercentile(50)).isBetween(50_000_000L, 56_250_000L);
+        assertThat(histogram.getPercentile(99)).isBetween(99_000_000L, 100_000_000L);
+        assertThat(histogram.getPercentile(100)).isEqualTo(100_000_000L);
+    }
+
+    @Test
+    public void shouldMapEveryValueToABucketContainingIt() {
+        long[] values = { 8, 9, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE };
+        for (long value : values) {
+            int bucket = Histogram.bucket(value);
+            assertThat(Histogram.upperBound(bucket)).isGreaterThanOrEqualTo(value);
+            assertThat(bucket == 0 || Histogram.upperBound(bucket - 1) < value).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldForgetValuesOnReset() {
+        histogram.record(42);
+        histogram.reset();
+
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getMax()).isEqualTo(0);
+        assertThat(histogram.getPercentile(50)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldKeepMeasurementsPerOperationAndTransactionOutcome() {
+        HistogramMetrics metrics = new HistogramMetrics();
+
+        metrics.requestCompleted(Operation.LOAD, 1000, 3);
+        metrics.requestCompleted(Operation.LOAD, 3000, 2);
+        metrics.mapped(Operation.LOAD, 500, 4);
+        metrics.transactionCompleted(Transaction.Type.READ_WRITE, 10_000, false);
+
+        assertThat(metrics.getRequestTimes(Operation.LOAD).getCount()).isEqualTo(2);
+        assertThat(metrics.getRequestTimes(Operation.LOAD).getMean()).isEqualTo(2000.0);
+        assertThat(metrics.getRecords(Operation.LOAD)).isEqualTo(5);
+        assertThat(metrics.getEntities(Operation.LOAD)).isEqualTo(4);
+        assertThat(metrics.getRequestTimes(Operation.SAVE).getCount()).isEqualTo(0);
+        assertThat(metrics.getTransactionTimes(Transaction.Type.READ_WRITE, false).getMax()).isEqualTo(10_000);
+        assertThat(metrics.getTransactionTimes(Transaction.Type.READ_WRITE, true).getCount()).isEqualTo(0);
+    }
+}
@@ -16,11 +16,18 @@ package org.neo4j.ogm.persistence.examples.linkedlist;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.domain.linkedlist.Item;
+import org.neo4j.ogm.session.LoadStrategy;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
@@ -105,5 +112,66 @@ public class BidirectionalMappingTest extends MultiDriverTestClass {
             session.deleteAll(Item.class);
         }
     }
-}
 
+    @Test
+    public void shouldPageThroughLinkedListWithKeysetPagination() {
+        List<Long> ids = saveLinkedList("a", "b", "c", "d", "e", "f");
+        SortOrder sortOrder = new SortOrder().add("name");
+
+        for (LoadStrategy strategy : LoadStrategy.values()) {
+            session.setLoadStrategy(strategy);
+            // the neighbours of each item are items as well, but must not take part in the pages
+            for (int depth : new int[] { 1, 2 }) {
+                session.clear();
+                assertThat(loadPages(pagination -> session.loadAll(Item.class, sortOrder, pagination, depth), 2))
+                    .as("%s at depth %d", strategy, depth)
+                    .containsExactly("a", "b", "c", "d", "e", "f");
+
+                session.clear();
+                assertThat(loadPages(pagination -> session.loadAll(Item.class, ids, sortOrder, pagination, depth), 4))
+                    .as("%s at depth %d by ids", strategy, depth)
+                    .containsExactly("a", "b", "c", "d", "e", "f");
+            }
+        }
+    }
+
+    private List<String> loadPages(Function<KeysetPagination, Collection<Item>> load, int pageSize) {
+        List<String> names = new ArrayList<>();
+        KeysetPagination pagination = new KeysetPagination(pageSize);
+        while (true) {
+            Collection<Item> page = load.apply(pagination);
+            assertThat(page.size()).isLessThanOrEqualTo(pageSize);
+            for (Item item : page) {
+                assertThat(item.next != null || item.previous != null).isTrue();
+                names.add(item.getName());
+            }
+            if (!pagination.hasNext()) {
+                return names;
+            }
+            pagination = pagination.next();
+        }
+    }
+
+    private List<Long> saveLinkedList(String... names) {
+        Item previous = null;
+        Item first = null;
+        for (String name : names) {
+            Item item = new Item();
+            item.setName(name);
+            if (previous == null) {
+                first = item;
+            } else {
+                previous.next = item;
+                item.previous = previous;
+            }
+            previous = item;
+        }
+        session.save(first, -1);
+
+        List<Long> ids = new ArrayList<>();
+        for (Item item = first; item != null; item = item.next) {
+            ids.add(item.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class AsyncCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        assumeTrue(getBaseConfiguration().build().getDriverClassName().equals(BoltDriver.class.getName()));
+    }
+
+    @Before
+    public void init() {
+        SessionFactory sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldSaveAndLoadAsynchronously() throws Exception {
+        Artist aerosmith = new Artist("Aerosmith");
+        aerosmith.addAlbum(new Album("Nine Lives"));
+
+        session.async().saveAsync(aerosmith).toCompletableFuture().get();
+        assertThat(aerosmith.getId()).isNotNull();
+
+        session.clear();
+        Artist loaded = session.async().loadAsync(Artist.class, aerosmith.getId()).toCompletableFuture().get();
+        assertThat(loaded.getName()).isEqualTo("Aerosmith");
+        assertThat(loaded.getAlbums()).extracting(Album::getName).containsOnly("Nine Lives");
+    }
+
+    @Test
+    public void shouldUpdateTheBookmarkAfterAsynchronousCommit() throws Exception {
+        String before = session.getLastBookmark();
+
+        session.async().saveAsync(new Artist("Aerosmith")).toCompletableFuture().get();
+
+        assertThat(session.getLastBookmark()).isNotNull().isNotEqualTo(before);
+    }
+
+    @Test
+    public void shouldRunManyLoadsConcurrently() throws Exception {
+        session.save(new Artist("Aerosmith"));
+        session.save(new Artist("Bon Jovi"));
+        session.save(new Artist("Def Leppard"));
+        session.clear();
+
+        List<CompletableFuture<Collection<Artist>>> loads = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            loads.add(session.async().loadAllAsync(Artist.class).toCompletableFuture());
+        }
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).get();
+
+        for (CompletableFuture<Collection<Artist>> load : loads) {
+            assertThat(load.get()).extracting(Artist::getName).containsOnly("Aerosmith", "Bon Jovi", "Def Leppard");
+        }
+        // all the loads map into the same session, so they return the same instances
+        assertThat(loads.get(0).get()).containsOnlyElementsOf(loads.get(49).get());
+    }
+
+    @Test
+    public void shouldReturnStatisticsOfAsynchronousQuery() throws Exception {
+        Result result = session.async()
+            .queryAsync("CREATE (a:`l'artiste` {name: {name}}) RETURN a", Collections.singletonMap("name", "Bon Jovi"))
+            .toCompletableFuture().get();
+
+        assertThat(result.queryStatistics().getNodesCreated()).isEqualTo(1);
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldMapAsynchronousQueryToEntities() throws Exception {
+        session.save(new Artist("Def Leppard"));
+        session.clear();
+
+        Iterable<Artist> artists = session.async()
+            .queryAsync(Artist.class, "MATCH (a:`l'artiste`) RETURN a", Collections.emptyMap())
+            .toCompletableFuture().get();
+
+        assertThat(artists).extracting(Artist::getName).containsOnly("Def Leppard");
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyOnInvalidQuery() throws Exception {
+        try {
+            session.async().queryAsync("MATCH (n) RETURN n.", Collections.emptyMap()).toCompletableFuture().get();
+            fail("Expected the query to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(CypherException.class);
+        }
+    }
+}
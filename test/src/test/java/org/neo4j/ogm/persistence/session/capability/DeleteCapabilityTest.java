@@ -13,14 +13,23 @@
 
 package org.neo4j.ogm.persistence.session.capability;
 
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.neo4j.ogm.domain.cache.Country;
 import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.session.DeleteOptions;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author vince
@@ -51,4 +60,83 @@ public class DeleteCapabilityTest extends MultiDriverTestClass {
     public void shouldNotFailIfDeleteRelationshipEntityAgainstEmptyDatabase() {
         session.deleteAll(Recording.class);
     }
+
+    @Test
+    public void shouldDeleteCollectionOfEntities() {
+        List<Artist> artists = saveArtistsWithAlbums(25);
+
+        session.delete(artists.subList(0, 20));
+
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(5);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(25);
+        assertThat(session.load(Artist.class, artists.get(0).getId())).isNull();
+        assertThat(session.load(Artist.class, artists.get(20).getId())).isNotNull();
+    }
+
+    @Test
+    public void shouldDeleteAllEntitiesOfTypeInBatches() {
+        List<Artist> artists = saveArtistsWithAlbums(25);
+        List<Long> progress = new ArrayList<>();
+
+        long deleted = session.deleteAll(Artist.class,
+            new DeleteOptions.Builder().batchSize(10).commitEvery(1).progressListener(progress::add).build());
+
+        assertThat(deleted).isEqualTo(25);
+        assertThat(progress).containsExactly(10L, 20L, 25L);
+        assertThat(session.load(Artist.class, artists.get(0).getId())).isNull();
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isZero();
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(25);
+    }
+
+    @Test
+    public void deleteAllInBatchesShouldUseOpenTransaction() {
+        saveArtistsWithAlbums(5);
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.deleteAll(Artist.class, new DeleteOptions.Builder().batchSize(2).build());
+            tx.rollback();
+        }
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(5);
+    }
+
+    @Test
+    public void deleteAllInBatchesShouldEvictCachedEntities() {
+        SessionFactory cachingSessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.cache");
+        Session writer = cachingSessionFactory.openSession();
+        Country france = saveCountry(writer, "France");
+        cachingSessionFactory.openSession().load(Country.class, france.getId(), 0);
+
+        writer.deleteAll(Country.class, new DeleteOptions.Builder().batchSize(10).commitEvery(0).build());
+
+        assertThat(cachingSessionFactory.openSession().load(Country.class, france.getId(), 0)).isNull();
+
+        Country spain = saveCountry(writer, "Spain");
+        cachingSessionFactory.openSession().load(Country.class, spain.getId(), 0);
+        try (Transaction tx = writer.beginTransaction()) {
+            writer.deleteAll(Country.class, new DeleteOptions.Builder().batchSize(10).build());
+            tx.commit();
+        }
+
+        assertThat(cachingSessionFactory.openSession().load(Country.class, spain.getId(), 0)).isNull();
+    }
+
+    private static Country saveCountry(Session session, String name) {
+        Country country = new Country();
+        country.setName(name);
+        session.save(country);
+        return country;
+    }
+
+    private List<Artist> saveArtistsWithAlbums(int count) {
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Artist artist = new Artist("Artist " + i);
+            artist.addAlbum(new Album("Album " + i));
+            artists.add(artist);
+        }
+        session.save(artists);
+        return artists;
+    }
 }
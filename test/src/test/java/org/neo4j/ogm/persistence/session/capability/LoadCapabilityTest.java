@@ -27,6 +27,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.domain.music.Album;
@@ -71,6 +72,32 @@ public class LoadCapabilityTest extends MultiDriverTestClass {
         session.purgeDatabase();
     }
 
+    @Test
+    public void loadAllShouldLoadConsecutivePagesWithKeysetPagination() {
+        for (String name : new String[] { "The Who", "The Doors", "The Kinks", "The Byrds" }) {
+            session.save(new Artist(name));
+        }
+        session.clear();
+
+        SortOrder sortOrder = new SortOrder().add("name");
+        KeysetPagination pagination = new KeysetPagination(2);
+        List<String> names = new ArrayList<>();
+        int pages = 0;
+        while (true) {
+            for (Artist artist : session.loadAll(Artist.class, sortOrder, pagination)) {
+                names.add(artist.getName());
+            }
+            pages++;
+            if (!pagination.hasNext()) {
+                break;
+            }
+            pagination = pagination.next();
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(names).containsExactly("The Beatles", "The Byrds", "The Doors", "The Kinks", "The Who");
+    }
+
     /**
      * @see DATAGRAPH-707
      */
@@ -16,6 +16,7 @@ package org.neo4j.ogm.persistence.session.capability;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -25,15 +26,20 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.domain.linkedlist.Item;
 import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SaveOptions;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Luanne Misquitta
@@ -182,4 +188,133 @@ public class SaveCapabilityTest extends MultiDriverTestClass {
 
         assertThat(session.countEntitiesOfType(Recording.class)).isEqualTo(2);
     }
+
+    @Test
+    public void saveAllShouldSaveInChunks() {
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Artist artist = new Artist("Artist " + i);
+            artist.addAlbum(new Album("Album " + i));
+            artists.add(artist);
+        }
+
+        session.saveAll(artists, new SaveOptions.Builder().chunkSize(10).commitEvery(2).build());
+
+        assertThat(artists).allMatch(artist -> artist.getId() != null);
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(25);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(25);
+    }
+
+    @Test
+    public void saveAllShouldClearSessionAfterEachChunkWhenRequested() {
+        Neo4jSession neo4jSession = (Neo4jSession) session;
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Artist artist = new Artist("Artist " + i);
+            artist.addAlbum(new Album("Album " + i));
+            artists.add(artist);
+        }
+
+        session.saveAll(artists, new SaveOptions.Builder().chunkSize(10).commitEvery(2).build());
+        assertThat(neo4jSession.context().memoryFootprint().getNodeEntities()).isEqualTo(50);
+
+        session.clear();
+        artists.forEach(artist -> artist.setName(artist.getName() + " (remastered)"));
+        session.saveAll(artists, new SaveOptions.Builder().chunkSize(10).commitEvery(2).clearSession(true).build());
+
+        assertThat(neo4jSession.context().memoryFootprint().getNodeEntities()).isZero();
+        assertThat(neo4jSession.context().getRelationships()).isEmpty();
+        assertThat(session.loadAll(Artist.class, new Filter("name", ComparisonOperator.ENDING_WITH, "(remastered)")))
+            .hasSize(25);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(25);
+    }
+
+    @Test
+    public void saveAllShouldUseOpenTransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            session.saveAll(Arrays.asList(aerosmith, bonJovi, defLeppard),
+                new SaveOptions.Builder().chunkSize(1).commitEvery(1).build());
+            tx.rollback();
+        }
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isZero();
+    }
+
+    @Test
+    public void saveChangesShouldSaveOnlyChangedEntities() {
+        Album nineLives = new Album("Nine Lives");
+        nineLives.setArtist(aerosmith);
+        aerosmith.addAlbum(nineLives);
+        Album crossRoad = new Album("Cross Road");
+        crossRoad.setArtist(bonJovi);
+        bonJovi.addAlbum(crossRoad);
+        session.save(Arrays.asList(aerosmith, bonJovi));
+
+        Neo4jSession neo4jSession = (Neo4jSession) session;
+        assertThat(new EntityGraphMapper(neo4jSession.metaData(), neo4jSession.context()).changedEntities())
+            .as("Should have nothing to save").isEmpty();
+
+        bonJovi.setName("Bon Jovi Band");
+        Album pump = new Album("Pump");
+        pump.setArtist(aerosmith);
+        aerosmith.addAlbum(pump);
+
+        EntityGraphMapper mapper = new EntityGraphMapper(neo4jSession.metaData(), neo4jSession.context());
+        List<Object> changed = mapper.changedEntities();
+        assertThat(changed).containsExactlyInAnyOrder(aerosmith, bonJovi);
+        assertThat(mapper.mapChanges(changed).registry())
+            .as("Should save Pump, its relationship and Bon Jovi, but not the clean albums")
+            .hasSize(3).contains(pump, bonJovi).doesNotContain(aerosmith, nineLives, crossRoad);
+
+        session.saveChanges();
+
+        assertThat(pump.getId()).isNotNull();
+        assertThat(new EntityGraphMapper(neo4jSession.metaData(), neo4jSession.context()).changedEntities())
+            .as("Should have nothing to save").isEmpty();
+
+        aerosmith.getAlbums().remove(nineLives);
+        nineLives.setArtist(null);
+        session.saveChanges();
+
+        session.clear();
+        assertThat(session.load(Artist.class, bonJovi.getId()).getName()).isEqualTo("Bon Jovi Band");
+        assertThat(session.load(Artist.class, aerosmith.getId()).getAlbums()).extracting(Album::getName)
+            .containsExactly("Pump");
+        assertThat(session.load(Album.class, nineLives.getId()).getArtist()).isNull();
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(3);
+    }
+
+    @Test
+    public void saveChangesShouldSaveDeepChainOfNewEntities() {
+        Session itemSession = new SessionFactory(driver, "org.neo4j.ogm.domain.linkedlist").openSession();
+        Item first = new Item();
+        first.setName("0");
+        itemSession.save(first);
+
+        // deeper than the object graphs the recursive mapping of save handles with the default thread stack
+        Item last = first;
+        for (int i = 1; i < 2000; i++) {
+            Item item = new Item();
+            item.setName(String.valueOf(i));
+            last.next = item;
+            item.previous = last;
+            last = item;
+        }
+        itemSession.saveChanges();
+
+        assertThat(last.getId()).isNotNull();
+        assertThat(itemSession.countEntitiesOfType(Item.class)).isEqualTo(2000);
+
+        last.setName("last");
+        Neo4jSession neo4jSession = (Neo4jSession) itemSession;
+        EntityGraphMapper mapper = new EntityGraphMapper(neo4jSession.metaData(), neo4jSession.context());
+        List<Object> changed = mapper.changedEntities();
+        assertThat(changed).containsExactly(last);
+        assertThat(mapper.mapChanges(changed).registry()).as("Should only save the renamed item").containsExactly(last);
+
+        itemSession.saveChanges();
+        itemSession.clear();
+        assertThat(itemSession.load(Item.class, last.getId()).getName()).isEqualTo("last");
+    }
 }
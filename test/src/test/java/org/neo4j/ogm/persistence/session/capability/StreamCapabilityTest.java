@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.exception.core.InvalidDepthException;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class StreamCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+
+    @Before
+    public void init() {
+        session = new SessionFactory(driver, "org.neo4j.ogm.domain.music").openSession();
+        session.purgeDatabase();
+
+        for (String name : new String[] { "The Beatles", "The Doors", "The Kinks" }) {
+            Artist artist = new Artist(name);
+            Album album = new Album(name + " - Greatest Hits");
+            artist.getAlbums().add(album);
+            album.setArtist(artist);
+            session.save(artist);
+        }
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldStreamEntitiesWithRelatedEntities() {
+        try (Stream<Artist> artists = session.stream(Artist.class, new Filters(), 1)) {
+            List<Artist> result = artists.collect(Collectors.toList());
+
+            assertThat(result).extracting(Artist::getName)
+                .containsOnly("The Beatles", "The Doors", "The Kinks");
+            for (Artist artist : result) {
+                assertThat(artist.getAlbums()).hasSize(1);
+                assertThat(artist.getAlbums().iterator().next().getArtist()).isSameAs(artist);
+            }
+        }
+        assertThat(session.getTransaction()).isNull();
+    }
+
+    @Test
+    public void shouldRegisterStreamedEntities() {
+        Artist streamed;
+        try (Stream<Artist> artists = session.stream(Artist.class, new Filters(), 0)) {
+            streamed = artists.findFirst().get();
+        }
+        assertThat(session.load(Artist.class, streamed.getId(), 0)).isSameAs(streamed);
+    }
+
+    @Test
+    public void shouldStreamFilteredAndSortedEntities() {
+        Filters filters = new Filters(new Filter("name", ComparisonOperator.STARTING_WITH, "The"));
+        SortOrder sortOrder = new SortOrder().add(SortOrder.Direction.DESC, "name");
+
+        try (Stream<Artist> artists = session.stream(Artist.class, filters, sortOrder, 0, true)) {
+            assertThat(artists.map(Artist::getName).collect(Collectors.toList()))
+                .containsExactly("The Kinks", "The Doors", "The Beatles");
+        }
+    }
+
+    @Test
+    public void shouldNotRegisterDetachedEntities() {
+        List<Artist> artists;
+        try (Stream<Artist> stream = session.stream(Artist.class, new Filters(), new SortOrder(), 1, false)) {
+            artists = stream.collect(Collectors.toList());
+        }
+
+        assertThat(artists).hasSize(3);
+        assertThat(artists.get(0).getAlbums()).hasSize(1);
+        for (Artist artist : artists) {
+            assertThat(((Neo4jSession) session).context().getNodeEntity(artist.getId())).isNull();
+        }
+    }
+
+    @Test
+    public void shouldReleaseTransactionWhenStreamIsClosedEarly() {
+        try (Stream<Artist> artists = session.stream(Artist.class, new Filters(), 1)) {
+            assertThat(artists.findFirst()).isPresent();
+            assertThat(session.getTransaction()).isNotNull();
+        }
+        assertThat(session.getTransaction()).isNull();
+    }
+
+    @Test(expected = InvalidDepthException.class)
+    public void shouldNotStreamWithInfiniteDepth() {
+        session.stream(Artist.class, new Filters(), -1);
+    }
+
+    @Test
+    public void shouldStreamQueryResults() {
+        try (Stream<Artist> artists = session.queryStream(Artist.class,
+            "MATCH (a:`l'artiste`) RETURN a", Collections.emptyMap())) {
+            assertThat(artists.count()).isEqualTo(3);
+        }
+
+        try (Stream<Artist> artists = session.queryStream(Artist.class,
+            "MATCH (a:`l'artiste`)-[r]-(b:`l'album`) RETURN a, r, b", Collections.emptyMap(), false)) {
+            assertThat(artists.filter(artist -> artist.getAlbums().size() == 1).count()).isEqualTo(3);
+        }
+
+        try (Stream<String> names = session.queryStream(String.class,
+            "MATCH (a:`l'artiste`) RETURN a.name ORDER BY a.name", Collections.emptyMap())) {
+            assertThat(names.collect(Collectors.toList())).containsExactly("The Beatles", "The Doors", "The Kinks");
+        }
+    }
+}
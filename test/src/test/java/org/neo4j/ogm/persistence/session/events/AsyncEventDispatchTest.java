@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.events;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.AsyncEventDispatcher;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.neo4j.ogm.session.event.PersistenceEvent;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class AsyncEventDispatchTest extends MultiDriverTestClass {
+
+    private AsyncEventDispatcher eventDispatcher;
+    private CapturingEventListener eventListener;
+    private Session session;
+
+    @Before
+    public void init() {
+        SessionFactory sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.filesystem");
+        eventDispatcher = new AsyncEventDispatcher.Builder().threads(2).batchSize(2).build();
+        eventListener = new CapturingEventListener();
+        eventDispatcher.register(eventListener);
+        sessionFactory.setEventDispatcher(eventDispatcher);
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+    }
+
+    @After
+    public void clean() {
+        session.purgeDatabase();
+        eventDispatcher.close();
+    }
+
+    @Test
+    public void shouldDeliverEventsOnceTransactionIsCommitted() throws InterruptedException {
+        Document document = new Document();
+        document.setName("document");
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(document);
+            assertThat(eventDispatcher.getUndeliveredEvents()).isZero();
+            assertThat(eventListener.events()).isEmpty();
+            tx.commit();
+        }
+
+        assertThat(eventDispatcher.awaitDelivery(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(eventListener.events()).containsExactly("PRE_SAVE document", "POST_SAVE document");
+    }
+
+    @Test
+    public void shouldDropEventsOfRolledBackTransaction() throws InterruptedException {
+        Document document = new Document();
+        document.setName("document");
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(document);
+            tx.rollback();
+        }
+
+        assertThat(eventDispatcher.awaitDelivery(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(eventListener.events()).isEmpty();
+    }
+
+    @Test
+    public void shouldDeliverEventsOfOperationsOutsideOfTransactions() throws InterruptedException {
+        Document document = new Document();
+        document.setName("document");
+
+        session.save(document);
+        session.delete(document);
+
+        assertThat(eventDispatcher.awaitDelivery(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(eventListener.events()).containsExactly("PRE_SAVE document", "POST_SAVE document",
+            "PRE_DELETE document", "POST_DELETE document");
+    }
+
+    @Test
+    public void shouldDeliverEventsOfAsynchronousSaveOnceCommitted() throws Exception {
+        assumeTrue(getBaseConfiguration().build().getDriverClassName().equals(BoltDriver.class.getName()));
+
+        session.query("CREATE CONSTRAINT ON (d:Document) ASSERT d.name IS UNIQUE", Collections.emptyMap());
+        try {
+            Document document = new Document();
+            document.setName("document");
+            session.async().saveAsync(document).toCompletableFuture().get();
+
+            Document duplicate = new Document();
+            duplicate.setName("document");
+            try {
+                session.async().saveAsync(duplicate).toCompletableFuture().get();
+                fail("Expected the save to violate the constraint");
+            } catch (ExecutionException expected) {
+            }
+
+            // the events of the failed save are dropped, like the ones of a rolled back transaction
+            assertThat(eventDispatcher.awaitDelivery(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(eventListener.events()).containsExactly("PRE_SAVE document", "POST_SAVE document");
+        } finally {
+            session.query("DROP CONSTRAINT ON (d:Document) ASSERT d.name IS UNIQUE", Collections.emptyMap());
+        }
+    }
+
+    @Test
+    public void shouldDeliverEventsOfEachEntityInOrder() throws InterruptedException {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher.Builder().threads(4).batchSize(3).queueCapacity(1)
+            .build();
+        List<List<Event.TYPE>> lifeCycles = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            lifeCycles.add(Collections.synchronizedList(new ArrayList<>()));
+            events.add(new PersistenceEvent(i, Event.TYPE.PRE_SAVE));
+        }
+        for (int i = 0; i < 50; i++) {
+            events.add(new PersistenceEvent(i, Event.TYPE.POST_SAVE));
+        }
+        dispatcher.register(new EventListenerAdapter() {
+
+            @Override
+            public void onPreSave(Event event) {
+                lifeCycles.get((Integer) event.getObject()).add(event.getLifeCycle());
+            }
+
+            @Override
+            public void onPostSave(Event event) {
+                lifeCycles.get((Integer) event.getObject()).add(event.getLifeCycle());
+            }
+        });
+
+        dispatcher.dispatch(events);
+        dispatcher.close();
+
+        assertThat(dispatcher.getUndeliveredEvents()).isZero();
+        assertThat(lifeCycles).allMatch(l -> l.equals(Arrays.asList(Event.TYPE.PRE_SAVE,
+            Event.TYPE.POST_SAVE)));
+    }
+
+    @Test
+    public void shouldKeepDeliveringEventsWhenListenerThrowsError() throws InterruptedException {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher.Builder().batchSize(1).build();
+        List<Object> delivered = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.register(new EventListenerAdapter() {
+
+            @Override
+            public void onPostSave(Event event) {
+                throw new Error("Listener failure");
+            }
+        });
+        dispatcher.register(new EventListenerAdapter() {
+
+            @Override
+            public void onPostSave(Event event) {
+                delivered.add(event.getObject());
+            }
+        });
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch(Collections.singletonList(new PersistenceEvent(i, Event.TYPE.POST_SAVE)));
+        }
+
+        assertThat(dispatcher.awaitDelivery(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).containsExactly(0, 1, 2, 3, 4);
+        dispatcher.close();
+    }
+
+    private static class CapturingEventListener extends EventListenerAdapter {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onPreSave(Event event) {
+            capture(event);
+        }
+
+        @Override
+        public void onPostSave(Event event) {
+            capture(event);
+        }
+
+        @Override
+        public void onPreDelete(Event event) {
+            capture(event);
+        }
+
+        @Override
+        public void onPostDelete(Event event) {
+            capture(event);
+        }
+
+        private void capture(Event event) {
+            events.add(event.getLifeCycle() + " " + ((Document) event.getObject()).getName());
+        }
+
+        List<String> events() {
+            return events;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.domain.cache.City;
+import org.neo4j.ogm.drivers.StubHttpDriver;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+public class BreadthFirstLoadTest {
+
+    private static final String PARIS = "{\"graph\": { \"nodes\" :[ "
+        + "{\"id\" : \"2\", \"labels\" : [ \"City\"], \"properties\" : {\"name\" : \"Paris\"}}"
+        + "]} }";
+
+    private static final String PARIS_IN_FRANCE = "{\"graph\": { \"nodes\" :[ "
+        + "{\"id\" : \"1\", \"labels\" : [ \"Country\"], \"properties\" : {\"name\" : \"France\"}}, "
+        + "{\"id\" : \"2\", \"labels\" : [ \"City\"], \"properties\" : {\"name\" : \"Paris\"}}"
+        + "], \"relationships\": [ "
+        + "{\"id\" : \"3\", \"type\" : \"IN\", \"startNode\" : \"2\", \"endNode\" : \"1\", \"properties\" : {}}"
+        + "]} }";
+
+    private static final String CITIES_IN_FRANCE = "{\"graph\": { \"nodes\" :[ "
+        + "{\"id\" : \"1\", \"labels\" : [ \"Country\"], \"properties\" : {\"name\" : \"France\"}}, "
+        + "{\"id\" : \"2\", \"labels\" : [ \"City\"], \"properties\" : {\"name\" : \"Paris\"}}, "
+        + "{\"id\" : \"4\", \"labels\" : [ \"City\"], \"properties\" : {\"name\" : \"Lyon\"}}"
+        + "], \"relationships\": [ "
+        + "{\"id\" : \"3\", \"type\" : \"IN\", \"startNode\" : \"2\", \"endNode\" : \"1\", \"properties\" : {}}, "
+        + "{\"id\" : \"5\", \"type\" : \"IN\", \"startNode\" : \"4\", \"endNode\" : \"1\", \"properties\" : {}}"
+        + "]} }";
+
+    private static final String LYON_IN_FRANCE = "{\"graph\": { \"nodes\" :[ "
+        + "{\"id\" : \"1\", \"labels\" : [ \"Country\"], \"properties\" : {\"name\" : \"France\"}}, "
+        + "{\"id\" : \"4\", \"labels\" : [ \"City\"], \"properties\" : {\"name\" : \"Lyon\"}}"
+        + "], \"relationships\": [ "
+        + "{\"id\" : \"5\", \"type\" : \"IN\", \"startNode\" : \"4\", \"endNode\" : \"1\", \"properties\" : {}}"
+        + "]} }";
+
+    private final MetaData metaData = new MetaData("org.neo4j.ogm.domain.cache");
+
+    @Test
+    public void shouldLoadOneLevelPerRequest() {
+        RecordingDriver driver = new RecordingDriver(PARIS, PARIS_IN_FRANCE, CITIES_IN_FRANCE);
+        Neo4jSession session = openSession(driver);
+
+        City paris = session.load(City.class, 2L, 2);
+
+        assertThat(driver.statements).containsExactly(
+            "MATCH (n:`City`) WHERE ID(n) = { id } WITH n RETURN n",
+            "MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..1]-(m) RETURN p",
+            "MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..1]-(m) RETURN p");
+        assertThat(ids(driver.parameters.get(1))).containsExactly(2L);
+        assertThat(ids(driver.parameters.get(2))).containsExactly(1L);
+        assertThat(paris.getCountry().getName()).isEqualTo("France");
+        City lyon = (City) session.context().getNodeEntity(4L);
+        assertThat(lyon.getCountry()).isSameAs(paris.getCountry());
+        assertThat(driver.transactions).containsExactly(Transaction.Type.READ_ONLY);
+        assertThat(session.getTransaction()).isNull();
+    }
+
+    @Test
+    public void shouldLoadAllLevelsInTheTransactionOfTheSession() {
+        RecordingDriver driver = new RecordingDriver(PARIS, PARIS_IN_FRANCE, CITIES_IN_FRANCE);
+        Neo4jSession session = openSession(driver);
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.load(City.class, 2L, 2);
+            assertThat(session.getTransaction()).isSameAs(tx);
+        }
+
+        assertThat(driver.statements).hasSize(3);
+        assertThat(driver.transactions).containsExactly(Transaction.Type.READ_WRITE);
+    }
+
+    @Test
+    public void shouldLoadUntilNoNodeIsLeftWithUnlimitedDepth() {
+        RecordingDriver driver = new RecordingDriver(PARIS, PARIS_IN_FRANCE, CITIES_IN_FRANCE, LYON_IN_FRANCE);
+
+        Collection<City> cities = openSession(driver).loadAll(City.class, singletonList(2L), -1);
+
+        assertThat(cities).extracting(City::getName).containsExactly("Paris");
+        assertThat(driver.statements).hasSize(4);
+        assertThat(ids(driver.parameters.get(3))).containsExactly(4L);
+        assertThat(driver.transactions).containsExactly(Transaction.Type.READ_ONLY);
+    }
+
+    @Test
+    public void shouldLoadWithASingleRequestUpToDepthOne() {
+        RecordingDriver driver = new RecordingDriver(PARIS_IN_FRANCE);
+
+        City paris = openSession(driver).load(City.class, 2L, 1);
+
+        assertThat(driver.statements).containsExactly(
+            "MATCH (n:`City`) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*0..1]-(m) RETURN p");
+        assertThat(paris.getCountry().getName()).isEqualTo("France");
+    }
+
+    private Neo4jSession openSession(RecordingDriver driver) {
+        return new Neo4jSession(metaData, driver, emptyList(), LoadStrategy.BREADTH_FIRST_LOAD_STRATEGY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> ids(Map<String, ?> parameters) {
+        return new ArrayList<>((Collection<Long>) parameters.get("ids"));
+    }
+
+    /**
+     * Returns one of the given responses per request, and records the statements of the requests and the types of
+     * the transactions.
+     */
+    private static class RecordingDriver extends StubHttpDriver {
+
+        private final String[] responses;
+        private final List<String> statements = new ArrayList<>();
+        private final List<Map<String, ?>> parameters = new ArrayList<>();
+        private final List<Transaction.Type> transactions = new ArrayList<>();
+
+        RecordingDriver(String... responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        protected String[] getResponse() {
+            return new String[] { responses[statements.size()] };
+        }
+
+        @Override
+        public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+            transactions.add(type);
+            return new RecordedTransaction(transactionManager, type);
+        }
+
+        @Override
+        public Request request() {
+            return new Request() {
+
+                @Override
+                public Response<GraphModel> execute(GraphModelRequest query) {
+                    Request request = RecordingDriver.super.request();
+                    statements.add(query.getStatement());
+                    parameters.add(query.getParameters());
+                    return request.execute(query);
+                }
+
+                @Override
+                public Response<RowModel> execute(RowModelRequest query) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Response<RowModel> execute(DefaultRequest query) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Response<RestModel> execute(RestModelRequest query) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+
+    private static class RecordedTransaction extends AbstractTransaction {
+
+        RecordedTransaction(TransactionManager transactionManager, Transaction.Type type) {
+            super(transactionManager);
+            this.type = type;
+        }
+    }
+}
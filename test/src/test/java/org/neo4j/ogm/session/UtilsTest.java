@@ -46,4 +46,19 @@ public class UtilsTest {
         assertThat(Utils.coerceTypes(long.class, null)).isEqualTo(0l);
         assertThat(Utils.coerceTypes(short.class, null)).isEqualTo(0);
     }
+
+    @Test
+    public void coercionShouldCoerceAsCoerceTypes() {
+        Class<?>[] types = { int.class, Integer.class, float.class, Float.class, byte.class, Byte.class,
+            double.class, Double.class, long.class, Long.class, short.class, Short.class, char.class, String.class };
+        Object[] values = { null, 42, 42L, 4.2d, 4.2f, "4", "42", true };
+
+        for (Class<?> type : types) {
+            for (Object value : values) {
+                assertThat(Utils.coercion(type).apply(value))
+                    .as("%s coerced to %s", value, type)
+                    .isEqualTo(Utils.coerceTypes(type, value));
+            }
+        }
+    }
 }
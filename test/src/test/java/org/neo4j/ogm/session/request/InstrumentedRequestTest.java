@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.domain.policy.Person;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metrics.HistogramMetrics;
+import org.neo4j.ogm.metrics.Operation;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+
+public class InstrumentedRequestTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReportRecordsAndEntitiesOnClose() {
+        MappingContext mappingContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.policy"));
+        HistogramMetrics metrics = new HistogramMetrics();
+
+        Response<RowModel> response = mock(Response.class);
+        RowModel row = new DefaultRowModel(new Object[] { 1L }, new String[] { "id" });
+        when(response.next()).thenReturn(row, row, null);
+        Request request = mock(Request.class);
+        when(request.execute(any(RowModelRequest.class))).thenReturn(response);
+
+        Request instrumented = new InstrumentedRequest(request, Operation.QUERY, metrics, mappingContext);
+        try (Response<RowModel> instrumentedResponse = instrumented
+            .execute(new DefaultRowModelRequest("MATCH (n) RETURN id(n) AS id", emptyMap()))) {
+            long id = 0;
+            while (instrumentedResponse.next() != null) {
+                Person person = new Person("person " + id);
+                person.setId(id++);
+                mappingContext.addNodeEntity(person);
+            }
+            assertThat(metrics.getRequestTimes(Operation.QUERY).getCount()).isEqualTo(0);
+        }
+
+        verify(response).close();
+        assertThat(metrics.getRequestTimes(Operation.QUERY).getCount()).isEqualTo(1);
+        assertThat(metrics.getMappingTimes(Operation.QUERY).getCount()).isEqualTo(1);
+        assertThat(metrics.getRecords(Operation.QUERY)).isEqualTo(2);
+        assertThat(metrics.getEntities(Operation.QUERY)).isEqualTo(2);
+        assertThat(metrics.getRequestTimes(Operation.LOAD).getCount()).isEqualTo(0);
+    }
+}
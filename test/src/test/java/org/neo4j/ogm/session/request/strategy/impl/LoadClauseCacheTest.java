@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+public class LoadClauseCacheTest {
+
+    private final LoadClauseCache cache = new LoadClauseCache(2);
+
+    @Test
+    public void shouldReturnCachedLoadClauses() {
+        SchemaLoadClauseBuilder schemaLoadClauseBuilder = new SchemaLoadClauseBuilder(
+            new MetaData("org.neo4j.ogm.domain.cineasts.annotated").getSchema());
+        LoadClauseBuilder cached = cache.cached(LoadStrategy.SCHEMA_LOAD_STRATEGY, schemaLoadClauseBuilder);
+
+        String loadClause = cached.build("Movie", 2);
+
+        assertThat(loadClause).isEqualTo(schemaLoadClauseBuilder.build("Movie", 2));
+        assertThat(cached.build("Movie", 2)).isSameAs(loadClause);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeyLoadClausesByStrategyLabelAndDepth() {
+        LoadClauseBuilder path = cache.cached(LoadStrategy.PATH_LOAD_STRATEGY, new PathLoadClauseBuilder());
+        LoadClauseBuilder other = cache.cached(LoadStrategy.SCHEMA_LOAD_STRATEGY,
+            (variable, label, depth) -> " RETURN " + variable);
+
+        assertThat(path.build("Movie", 1)).isEqualTo(" MATCH p=(n)-[*0..1]-(m) RETURN p");
+        assertThat(path.build("Movie", 2)).isEqualTo(" MATCH p=(n)-[*0..2]-(m) RETURN p");
+        assertThat(other.build("Movie", 1)).isEqualTo(" RETURN n");
+        assertThat(cache.getMisses()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotCacheMoreThanMaxSize() {
+        LoadClauseBuilder path = cache.cached(LoadStrategy.PATH_LOAD_STRATEGY, new PathLoadClauseBuilder());
+
+        for (int depth = 0; depth < 5; depth++) {
+            path.build("Movie", depth);
+            path.build("Movie", depth);
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(8);
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getHits()).isZero();
+    }
+}
@@ -55,6 +55,14 @@ public class NodeDeleteStatementsTest {
             .isEqualTo("MATCH (n:`TRAFFIC_WARDENS`) OPTIONAL MATCH (n)-[r0]-() DELETE r0, n");
     }
 
+    @Test
+    public void testDeleteBatchWithLabel() throws Exception {
+        CypherQuery query = statements.delete("TRAFFIC_WARDENS", 100);
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`TRAFFIC_WARDENS`) WITH n LIMIT { limit } "
+            + "OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN DISTINCT ID(n)");
+        assertThat(query.getParameters()).containsEntry("limit", 100);
+    }
+
     @Test
     public void testDeleteWithLabelAndFilters() throws Exception {
         CypherQuery query = statements
@@ -15,12 +15,17 @@ package org.neo4j.ogm.session.request.strategy.impl;
 import static com.google.common.collect.Lists.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 
 /**
  * @author Vince Bickers
@@ -101,4 +106,78 @@ public class NodeEntityQueryPagingTest {
             .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 3 LIMIT 5 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
     }
 
+    @Test
+    public void testFindByTypeFirstKeysetPage() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 1)
+            .setPagination(new KeysetPagination(2));
+        assertThat(query.getStatement())
+            .isEqualTo("MATCH (n:`Raptor`) WITH n ORDER BY ID(n) LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.getParameters()).isEmpty();
+    }
+
+    @Test
+    public void testFindByPropertyNextKeysetPage() {
+        KeysetPagination firstPage = new KeysetPagination(2);
+        firstPage.setLastSeen(Collections.singletonList("velociraptor"), 42L);
+
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", filters, 0)
+            .setSortOrder(new SortOrder().add(SortOrder.Direction.DESC, "name"))
+            .setPagination(firstPage.next());
+        assertThat(query.getStatement())
+            .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n "
+                + "WHERE n.name <= { `keyset_0` } AND (n.name < { `keyset_0` } OR ID(n) > { `keyset_1` }) WITH n "
+                + "ORDER BY n.name DESC,ID(n) LIMIT 2 RETURN n");
+        assertThat(query.getParameters())
+            .containsEntry("name_0", "velociraptor")
+            .containsEntry("keyset_0", "velociraptor")
+            .containsEntry("keyset_1", 42L);
+    }
+
+    @Test
+    public void testKeysetPageComparesEachSortKeyWithARange() {
+        KeysetPagination firstPage = new KeysetPagination(2);
+        firstPage.setLastSeen(Arrays.asList("velociraptor", 3), 42L);
+
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().add("name").add(SortOrder.Direction.DESC, "age"))
+            .setPagination(firstPage.next());
+        assertThat(query.getStatement())
+            .isEqualTo("MATCH (n:`Raptor`) WITH n "
+                + "WHERE n.name >= { `keyset_0` } AND (n.name > { `keyset_0` } OR "
+                + "n.age <= { `keyset_1` } AND (n.age < { `keyset_1` } OR ID(n) > { `keyset_2` })) WITH n "
+                + "ORDER BY n.name,n.age DESC,ID(n) LIMIT 2 RETURN n");
+    }
+
+    @Test
+    public void testKeysetPaginationIgnoresOffset() {
+        KeysetPagination pagination = new KeysetPagination(2);
+        pagination.setOffset(10);
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 1).setPagination(pagination);
+        assertThat(query.getStatement())
+            .isEqualTo("MATCH (n:`Raptor`) WITH n ORDER BY ID(n) LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+    }
+
+    @Test
+    public void testLastKeysetPageHasNoContinuationToken() {
+        KeysetPagination pagination = new KeysetPagination(2);
+        pagination.setLastSeen(null, null);
+        assertThat(pagination.hasNext()).isFalse();
+        assertThat(pagination.getContinuationToken()).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeysetTokenMustMatchSortOrder() {
+        KeysetPagination firstPage = new KeysetPagination(2);
+        firstPage.setLastSeen(Collections.emptyList(), 42L);
+
+        queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().add("name"))
+            .setPagination(firstPage.next())
+            .getStatement();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidKeysetToken() {
+        new KeysetPagination(2, "not a token");
+    }
 }
@@ -55,6 +55,14 @@ public class RelationshipDeleteStatementsTest {
             .isEqualTo("MATCH (n)-[r0:`TRAFFIC_WARDEN`]-() DELETE r0");
     }
 
+    @Test
+    public void testDeleteBatchWithType() throws Exception {
+        CypherQuery query = statements.delete("TRAFFIC_WARDEN", 100);
+        assertThat(query.getStatement())
+            .isEqualTo("MATCH (n)-[r0:`TRAFFIC_WARDEN`]->() WITH r0 LIMIT { limit } DELETE r0 RETURN ID(r0)");
+        assertThat(query.getParameters()).containsEntry("limit", 100);
+    }
+
     @Test
     public void testDeleteWithTypeAndFilters() throws Exception {
         CypherQuery query = statements
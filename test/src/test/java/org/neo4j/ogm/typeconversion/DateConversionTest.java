@@ -92,6 +92,18 @@ public class DateConversionTest {
         assertThat(attributeConverter.toGraphProperty(null)).isEqualTo(null);
     }
 
+    @Test
+    public void assertDateStringConversionParsesOffsetsAndCustomFormats() {
+        DateStringConverter iso8601 = new DateStringConverter(DateString.ISO_8601);
+        DateStringConverter custom = new DateStringConverter("yyyy-MM-dd");
+
+        assertThat(iso8601.toEntityAttribute("1970-01-01T01:00:00.000+01:00")).isEqualTo(new Date(0));
+        assertThat(iso8601.toEntityAttribute(iso8601.toGraphProperty(new Date(1234567890123L))))
+            .isEqualTo(new Date(1234567890123L));
+        assertThat(custom.toEntityAttribute("1970-01-02")).isEqualTo(new Date(86400000));
+        assertThatThrownBy(() -> iso8601.toEntityAttribute("1970-01-02")).isInstanceOf(RuntimeException.class);
+    }
+
     /**
      * @see DATAGRAPH-550
      */